@@ -0,0 +1,79 @@
+package dev.webfx.kit.benchmarks;
+
+import javafx.animation.Interpolator;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.util.Duration;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Animation interpolation: the interpolator curves alone, and a running timeline animating many properties (through
+ * its clip core and interpolators) when its position moves.
+ *
+ * @author Bruno Salmon
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnimationBenchmark {
+
+    private static final int FRACTIONS = 1000;
+
+    @Param({"LINEAR", "EASE_BOTH", "SPLINE"})
+    public String interpolatorName;
+
+    @Param({"1", "100"})
+    public int properties;
+
+    private Interpolator interpolator;
+    private Timeline timeline;
+    private DoubleProperty[] animatedProperties;
+    private int frame;
+
+    @Setup
+    public void setup() {
+        switch (interpolatorName) {
+            case "LINEAR": interpolator = Interpolator.LINEAR; break;
+            case "EASE_BOTH": interpolator = Interpolator.EASE_BOTH; break;
+            default: interpolator = Interpolator.SPLINE(0.25, 0.1, 0.25, 1);
+        }
+        animatedProperties = new DoubleProperty[properties];
+        KeyValue[] startValues = new KeyValue[properties];
+        KeyValue[] endValues = new KeyValue[properties];
+        for (int i = 0; i < properties; i++) {
+            animatedProperties[i] = new SimpleDoubleProperty();
+            startValues[i] = new KeyValue(animatedProperties[i], 0d, interpolator);
+            endValues[i] = new KeyValue(animatedProperties[i], 100d + i, interpolator);
+        }
+        timeline = new Timeline(new KeyFrame(Duration.ZERO, startValues), new KeyFrame(Duration.seconds(1), endValues));
+        timeline.play(); // Running, but the pulses are never delivered by the headless scheduler
+    }
+
+    @TearDown
+    public void tearDown() {
+        timeline.stop();
+    }
+
+    @Benchmark
+    public double interpolateCurve() {
+        double sum = 0;
+        for (int i = 0; i <= FRACTIONS; i++)
+            sum += interpolator.interpolate(0d, 100d, (double) i / FRACTIONS);
+        return sum;
+    }
+
+    @Benchmark
+    public double timelineJump() {
+        frame = (frame + 16) % 1000;
+        timeline.jumpTo(Duration.millis(frame));
+        return animatedProperties[properties - 1].get();
+    }
+}
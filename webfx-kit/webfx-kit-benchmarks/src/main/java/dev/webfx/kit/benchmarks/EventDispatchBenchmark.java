@@ -0,0 +1,58 @@
+package dev.webfx.kit.benchmarks;
+
+import javafx.event.Event;
+import javafx.event.EventHandler;
+import javafx.event.EventType;
+import javafx.scene.layout.Pane;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Event dispatch through a chain of nested nodes, with handlers either only on the root or on every node of the
+ * chain (filter and handler).
+ *
+ * @author Bruno Salmon
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventDispatchBenchmark {
+
+    private static final EventType<Event> BENCHMARK_EVENT = new EventType<>(Event.ANY, "BENCHMARK_EVENT");
+
+    @Param({"1", "10", "50"})
+    public int depth;
+
+    @Param({"false", "true"})
+    public boolean handlersOnEveryNode;
+
+    private Pane target;
+    private int handled;
+
+    @Setup
+    public void setup() {
+        EventHandler<Event> handler = e -> handled++;
+        Pane node = new Pane();
+        node.addEventHandler(BENCHMARK_EVENT, handler);
+        for (int i = 1; i < depth; i++) {
+            Pane child = new Pane();
+            node.getChildren().add(child);
+            node = child;
+            if (handlersOnEveryNode) {
+                node.addEventFilter(BENCHMARK_EVENT, handler);
+                node.addEventHandler(BENCHMARK_EVENT, handler);
+            }
+        }
+        target = node;
+    }
+
+    @Benchmark
+    public int fireEvent() {
+        Event.fireEvent(target, new Event(BENCHMARK_EVENT));
+        return handled;
+    }
+}
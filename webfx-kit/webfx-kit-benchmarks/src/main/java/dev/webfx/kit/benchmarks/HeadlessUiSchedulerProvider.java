@@ -0,0 +1,77 @@
+package dev.webfx.kit.benchmarks;
+
+import dev.webfx.platform.client.services.uischeduler.spi.impl.UiSchedulerProviderBase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A UI scheduler for the benchmarks: the benchmark thread is the UI thread, and nothing runs in the background. The
+ * deferred tasks and the animation frames are not run automatically but only when the benchmark asks for it (see
+ * {@link #runDeferredTasks()} and {@link #runAnimationFrame()}), so that their cost is measured where expected.
+ *
+ * @author Bruno Salmon
+ */
+public final class HeadlessUiSchedulerProvider extends UiSchedulerProviderBase {
+
+    private static HeadlessUiSchedulerProvider INSTANCE;
+
+    private final List<Runnable> deferredTasks = new ArrayList<>();
+    private boolean animationFrameRequested;
+
+    public HeadlessUiSchedulerProvider() {
+        INSTANCE = this;
+    }
+
+    @Override
+    public void runInBackground(Runnable runnable) {
+        runnable.run();
+    }
+
+    @Override
+    public void scheduleDeferred(Runnable runnable) {
+        deferredTasks.add(runnable);
+    }
+
+    @Override
+    public int availableProcessors() {
+        return 1;
+    }
+
+    @Override
+    public boolean isUiThread() {
+        return true;
+    }
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    @Override
+    protected void checkExecuteAnimationPipeIsScheduledForNextAnimationFrame() {
+        animationFrameRequested = true;
+    }
+
+    @Override
+    protected void onExecuteAnimationPipeFinished(boolean noMoreAnimationScheduled) {
+        if (noMoreAnimationScheduled)
+            animationFrameRequested = false;
+    }
+
+    public static void runDeferredTasks() {
+        HeadlessUiSchedulerProvider provider = INSTANCE;
+        while (provider != null && !provider.deferredTasks.isEmpty()) {
+            Runnable[] tasks = provider.deferredTasks.toArray(new Runnable[0]);
+            provider.deferredTasks.clear();
+            for (Runnable task : tasks)
+                task.run();
+        }
+    }
+
+    public static void runAnimationFrame() {
+        HeadlessUiSchedulerProvider provider = INSTANCE;
+        if (provider != null && provider.animationFrameRequested)
+            provider.executeAnimationPipe();
+    }
+}
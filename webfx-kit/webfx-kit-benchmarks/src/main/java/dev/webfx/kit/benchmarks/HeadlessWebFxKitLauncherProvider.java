@@ -0,0 +1,54 @@
+package dev.webfx.kit.benchmarks;
+
+import dev.webfx.kit.launcher.spi.base.WebFxKitLauncherProviderBase;
+import dev.webfx.platform.shared.util.function.Factory;
+import javafx.application.Application;
+import javafx.application.HostServices;
+import javafx.scene.text.Font;
+
+/**
+ * A launcher for the benchmarks, which only provides the text measurement (no application, stage or host services).
+ * The headless Text has no metrics, so the text is measured with synthetic proportional widths (so that the clipping
+ * positions depend on the characters like with a real font). The measures are counted, as each of them costs a canvas
+ * measure (or a reflow when measured through a Text node) in the browser.
+ *
+ * @author Bruno Salmon
+ */
+public final class HeadlessWebFxKitLauncherProvider extends WebFxKitLauncherProviderBase {
+
+    private static long textMeasures;
+
+    public HeadlessWebFxKitLauncherProvider() {
+        super("headless");
+    }
+
+    public static long getTextMeasures() {
+        return textMeasures;
+    }
+
+    @Override
+    public double measureTextWidth(String text, Font font) {
+        textMeasures++;
+        double width = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            width += c == 'i' || c == 'l' || c == '.' || c == ' ' ? 0.3 : c == 'm' || c == 'w' ? 0.85 : 0.55;
+        }
+        return width * font.getSize();
+    }
+
+    @Override
+    public HostServices getHostServices() {
+        return null;
+    }
+
+    @Override
+    public Application getApplication() {
+        return null;
+    }
+
+    @Override
+    public void launchApplication(Factory<Application> applicationFactory, String... args) {
+        throw new UnsupportedOperationException("The benchmarks don't launch any application");
+    }
+}
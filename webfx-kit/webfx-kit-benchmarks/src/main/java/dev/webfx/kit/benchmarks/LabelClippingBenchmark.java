@@ -0,0 +1,77 @@
+package dev.webfx.kit.benchmarks;
+
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.OverrunStyle;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Font;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Text clipping of a form of labels while its window is resized: each invocation applies the next width of a shrinking
+ * then growing sequence to a VBox of labels and lays it out, so the labels are clipped by their skin (LabeledSkinBase)
+ * as in the browser. The text is measured through the launcher (see HeadlessWebFxKitLauncherProvider), which counts
+ * the measures as they each cost a canvas measure in the browser (the widths already measured are answered by the
+ * text width cache of the skin utils). The measures are reported per iteration in the secondary "measures" result.
+ *
+ * @author Bruno Salmon
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LabelClippingBenchmark {
+
+    private static final String[] WORDS = {"customer", "address", "postal", "code", "phone", "number", "email", "date",
+            "of", "birth", "preferred", "language", "notes", "reference", "account", "billing", "shipping", "country"};
+    private static final double MAX_WIDTH = 300, MIN_WIDTH = 40, WIDTH_STEP = 7;
+
+    @Param({"500"})
+    public int labels;
+
+    @Param({"ELLIPSIS", "WORD_ELLIPSIS", "CENTER_ELLIPSIS", "LEADING_ELLIPSIS"})
+    public OverrunStyle overrunStyle;
+
+    private final Font font = Font.font("Arial", 13);
+    private VBox form;
+    private double width = MAX_WIDTH, widthStep = -WIDTH_STEP;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class MeasureCounters {
+        public long measures;
+    }
+
+    @Setup
+    public void setup() {
+        form = new VBox();
+        for (int i = 0; i < labels; i++) {
+            StringBuilder sb = new StringBuilder();
+            for (int w = 0, n = 2 + i % 5; w < n; w++)
+                sb.append(w == 0 ? "" : " ").append(WORDS[(i * 7 + w * 3) % WORDS.length]);
+            Label label = new Label(sb.append(' ').append(i).toString());
+            label.setFont(font);
+            label.setTextOverrun(overrunStyle);
+            form.getChildren().add(label);
+        }
+    }
+
+    @Benchmark
+    public int resizeForm(MeasureCounters counters) {
+        width += widthStep;
+        if (width <= MIN_WIDTH || width >= MAX_WIDTH)
+            widthStep = -widthStep;
+        long measures = HeadlessWebFxKitLauncherProvider.getTextMeasures();
+        form.resize(width, 20000);
+        form.layout();
+        counters.measures += HeadlessWebFxKitLauncherProvider.getTextMeasures() - measures;
+        int clippedLength = 0;
+        for (Node label : form.getChildrenUnmodifiable())
+            clippedLength += (int) label.getLayoutBounds().getWidth();
+        return clippedLength;
+    }
+}
@@ -0,0 +1,80 @@
+package dev.webfx.kit.benchmarks;
+
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Layout of large synthetic trees (a VBox of HBoxes and a GridPane), measured after the pref size of one leaf has
+ * changed, which invalidates the layout of all its ancestors.
+ *
+ * @author Bruno Salmon
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LayoutBenchmark {
+
+    private static final int COLUMNS = 10;
+
+    @Param({"10", "100"})
+    public int rows;
+
+    private VBox vBox;
+    private Region vBoxLeaf;
+    private GridPane gridPane;
+    private Region gridLeaf;
+    private boolean toggle;
+
+    @Setup
+    public void setup() {
+        vBox = new VBox(2);
+        gridPane = new GridPane();
+        gridPane.setHgap(2);
+        gridPane.setVgap(2);
+        for (int row = 0; row < rows; row++) {
+            HBox hBox = new HBox(2);
+            for (int column = 0; column < COLUMNS; column++) {
+                hBox.getChildren().add(createLeaf());
+                gridPane.add(createLeaf(), column, row);
+            }
+            vBox.getChildren().add(hBox);
+        }
+        vBoxLeaf = (Region) ((HBox) vBox.getChildren().get(rows / 2)).getChildren().get(COLUMNS / 2);
+        gridLeaf = (Region) gridPane.getChildren().get((rows / 2) * COLUMNS + COLUMNS / 2);
+        vBox.resize(1000, 5000);
+        vBox.layout();
+        gridPane.resize(1000, 5000);
+        gridPane.layout();
+    }
+
+    private static Region createLeaf() {
+        Pane leaf = new Pane();
+        leaf.setPrefSize(20, 20);
+        return leaf;
+    }
+
+    @Benchmark
+    public double vBoxOfHBoxes() {
+        toggle = !toggle;
+        vBoxLeaf.setPrefWidth(toggle ? 30 : 20);
+        vBox.layout();
+        return vBoxLeaf.getLayoutX();
+    }
+
+    @Benchmark
+    public double gridPane() {
+        toggle = !toggle;
+        gridLeaf.setPrefWidth(toggle ? 30 : 20);
+        gridPane.layout();
+        return gridLeaf.getLayoutX();
+    }
+}
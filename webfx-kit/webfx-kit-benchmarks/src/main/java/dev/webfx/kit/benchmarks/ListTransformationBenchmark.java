@@ -0,0 +1,99 @@
+package dev.webfx.kit.benchmarks;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * List transformations: a source list observed through a FilteredList and a SortedList, modified by single and bulk
+ * changes, predicate refinements and diffed replacements.
+ *
+ * @author Bruno Salmon
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListTransformationBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    private ObservableList<Integer> source;
+    private FilteredList<Integer> filtered;
+    private SortedList<Integer> sorted;
+    private List<Integer> batch;
+    private List<Integer> diffedContent1, diffedContent2;
+    private final Predicate<Integer> even = i -> (i & 1) == 0;
+    private final Predicate<Integer> multipleOfFour = i -> (i & 3) == 0;
+    private boolean toggle;
+    private int changes;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        List<Integer> content = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            content.add(random.nextInt(size));
+        source = FXCollections.observableArrayList(content);
+        filtered = new FilteredList<>(source, even);
+        sorted = new SortedList<>(filtered, Comparator.naturalOrder());
+        sorted.addListener((ListChangeListener<Integer>) change -> changes++);
+        batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++)
+            batch.add(random.nextInt(size));
+        diffedContent1 = new ArrayList<>(content);
+        diffedContent2 = new ArrayList<>(content);
+        for (int i = 0; i < 10; i++) // 10 scattered replacements
+            diffedContent2.set(random.nextInt(size), size + i);
+    }
+
+    @Benchmark
+    public int singleAddRemove() {
+        source.add(size / 2, 2 * size);
+        source.remove(size / 2);
+        return changes;
+    }
+
+    @Benchmark
+    public int bulkAddRemove() {
+        source.addAll(batch);
+        source.remove(size, size + BATCH_SIZE);
+        return changes;
+    }
+
+    @Benchmark
+    public int predicateRefinement() {
+        filtered.setPredicate(multipleOfFour, FilteredList.Refinement.NARROWING);
+        filtered.setPredicate(even, FilteredList.Refinement.WIDENING);
+        return changes;
+    }
+
+    @Benchmark
+    public int predicateReplacement() {
+        filtered.setPredicate(multipleOfFour);
+        filtered.setPredicate(even);
+        return changes;
+    }
+
+    @Benchmark
+    public int setAllDiffed() {
+        toggle = !toggle;
+        FXCollections.setAllDiffed(source, toggle ? diffedContent2 : diffedContent1);
+        return changes;
+    }
+}
@@ -0,0 +1,111 @@
+package dev.webfx.kit.benchmarks;
+
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Layout passes over content-biased leaves (whose height depends on their width, like a wrapping label), which the
+ * GridPane and HBox algorithms query at several widths. Each invocation invalidates the leaves (as a font load does)
+ * and changes the width of the container, so all the leaves are measured again. The number of leaf measures (the
+ * compute size calls not answered by the size caches) is reported per iteration in the secondary "measures"
+ * result, the ideal being one measure per distinct width asked to each leaf during the layout pass.
+ *
+ * @author Bruno Salmon
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MeasureCountBenchmark {
+
+    private static final int COLUMNS = 3;
+
+    @Param({"10", "100"})
+    public int rows;
+
+    private GridPane gridPane;
+    private HBox hBox;
+    private long measures;
+    private boolean toggle;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class MeasureCounters {
+        public long measures;
+    }
+
+    private final class WrappingLeaf extends Region {
+
+        private final double textLength;
+
+        WrappingLeaf(double textLength) {
+            this.textLength = textLength;
+        }
+
+        @Override
+        public Orientation getContentBias() {
+            return Orientation.HORIZONTAL;
+        }
+
+        @Override
+        protected double computeMinWidth(double height) {
+            measures++;
+            return 20;
+        }
+
+        @Override
+        protected double computePrefWidth(double height) {
+            measures++;
+            return textLength;
+        }
+
+        @Override
+        protected double computePrefHeight(double width) {
+            measures++;
+            // Number of wrapped lines for that width times the line height
+            return Math.ceil(textLength / Math.max(width, 20)) * 16;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        gridPane = new GridPane();
+        gridPane.setHgap(2);
+        gridPane.setVgap(2);
+        hBox = new HBox(2);
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < COLUMNS; column++)
+                gridPane.add(new WrappingLeaf(100 + 37 * ((row + column) % 7)), column, row);
+            hBox.getChildren().add(new WrappingLeaf(100 + 37 * (row % 7)));
+        }
+    }
+
+    @Benchmark
+    public double gridPane(MeasureCounters counters) {
+        return layout(gridPane, counters);
+    }
+
+    @Benchmark
+    public double hBox(MeasureCounters counters) {
+        return layout(hBox, counters);
+    }
+
+    private double layout(Region container, MeasureCounters counters) {
+        toggle = !toggle;
+        measures = 0;
+        for (Node child : container.getChildrenUnmodifiable())
+            ((Region) child).requestLayout();
+        container.resize(toggle ? 600 : 500, 20000);
+        container.layout();
+        counters.measures += measures;
+        return container.getChildrenUnmodifiable().get(0).getLayoutBounds().getHeight();
+    }
+}
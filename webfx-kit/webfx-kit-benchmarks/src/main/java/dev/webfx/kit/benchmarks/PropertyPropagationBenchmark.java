@@ -0,0 +1,114 @@
+package dev.webfx.kit.benchmarks;
+
+import javafx.application.Platform;
+import javafx.beans.binding.DoubleBinding;
+import javafx.beans.binding.IntegerBinding;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.value.ObservableIntegerValue;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Property propagation: a chain of dependent bindings, the fan-out of a property to many change listeners, and
+ * several writes feeding the same binding with and without a property transaction.
+ *
+ * @author Bruno Salmon
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyPropagationBenchmark {
+
+    @Param({"10", "100"})
+    public int size;
+
+    private IntegerProperty chainSource;
+    private IntegerBinding chainEnd;
+    private IntegerProperty fanOutSource;
+    private DoubleProperty[] sumInputs;
+    private DoubleBinding sum;
+    private int counter, sink;
+
+    @Setup
+    public void setup() {
+        chainSource = new SimpleIntegerProperty();
+        ObservableIntegerValue link = chainSource;
+        for (int i = 0; i < size; i++)
+            link = increment(link);
+        chainEnd = (IntegerBinding) link;
+        // A change listener at the end of the chain forces its eager recomputation on each write
+        chainEnd.addListener((observable, oldValue, newValue) -> sink = newValue.intValue());
+
+        fanOutSource = new SimpleIntegerProperty();
+        for (int i = 0; i < size; i++)
+            fanOutSource.addListener((observable, oldValue, newValue) -> sink += newValue.intValue());
+
+        sumInputs = new DoubleProperty[size];
+        for (int i = 0; i < size; i++)
+            sumInputs[i] = new SimpleDoubleProperty();
+        sum = new DoubleBinding() {
+            {
+                bind(sumInputs);
+            }
+
+            @Override
+            protected double computeValue() {
+                double s = 0;
+                for (DoubleProperty input : sumInputs)
+                    s += input.get();
+                return s;
+            }
+        };
+        sum.addListener((observable, oldValue, newValue) -> sink++);
+    }
+
+    private static IntegerBinding increment(ObservableIntegerValue op) {
+        return new IntegerBinding() {
+            {
+                bind(op);
+            }
+
+            @Override
+            protected int computeValue() {
+                return op.get() + 1;
+            }
+        };
+    }
+
+    @Benchmark
+    public int bindingChain() {
+        chainSource.set(++counter);
+        return sink;
+    }
+
+    @Benchmark
+    public int changeListenerFanOut() {
+        fanOutSource.set(++counter);
+        return sink;
+    }
+
+    @Benchmark
+    public double multiWrite() {
+        double value = ++counter;
+        for (DoubleProperty input : sumInputs)
+            input.set(value);
+        return sum.get();
+    }
+
+    @Benchmark
+    public double multiWriteInTransaction() {
+        double value = ++counter;
+        Platform.runInPropertyTransaction(() -> {
+            for (DoubleProperty input : sumInputs)
+                input.set(value);
+        });
+        return sum.get();
+    }
+}
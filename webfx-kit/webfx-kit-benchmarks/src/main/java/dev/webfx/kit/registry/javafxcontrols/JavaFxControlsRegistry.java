@@ -0,0 +1,42 @@
+package dev.webfx.kit.registry.javafxcontrols;
+
+/**
+ * Headless registry used by the benchmarks (it replaces the provided webfx-kit-javafxcontrols-registry one, like
+ * the GWT registry does in the browser). No peer factory is registered, as the benchmarked controls are never attached
+ * to a scene, so their peers are never created.
+ *
+ * @author Bruno Salmon
+ */
+public class JavaFxControlsRegistry {
+
+    public static void registerLabeledText() { }
+
+    public static void registerLabel() { }
+
+    public static void registerHyperlink() { }
+
+    public static void registerButton() { }
+
+    public static void registerToggleButton() { }
+
+    public static void registerCheckBox() { }
+
+    public static void registerRadioButton() { }
+
+    public static void registerSlider() { }
+
+    public static void registerTextField() { }
+
+    public static void registerPasswordField() { }
+
+    public static void registerToolkitTextBox() { }
+
+    public static void registerTextArea() { }
+
+    public static void registerChoiceBox() { }
+
+    public static void registerDatePicker() { }
+
+    public static void registerScrollPane() { }
+
+}
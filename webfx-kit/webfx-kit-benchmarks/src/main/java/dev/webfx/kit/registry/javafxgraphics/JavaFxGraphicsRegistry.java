@@ -0,0 +1,46 @@
+package dev.webfx.kit.registry.javafxgraphics;
+
+/**
+ * Headless registry used by the benchmarks (it replaces the provided webfx-kit-javafxgraphics-registry one, like
+ * the GWT registry does in the browser). No peer factory is registered, as the benchmarked nodes are never attached to
+ * a scene, so their peers are never created.
+ *
+ * @author Bruno Salmon
+ */
+public class JavaFxGraphicsRegistry {
+
+    public static void registerGroup() { }
+
+    public static void registerRectangle() { }
+
+    public static void registerArc() { }
+
+    public static void registerCircle() { }
+
+    public static void registerLine() { }
+
+    public static void registerEllipse() { }
+
+    public static void registerPolygon() { }
+
+    public static void registerPolyline() { }
+
+    public static void registerQuadCurve() { }
+
+    public static void registerCubicCurve() { }
+
+    public static void registerText() { }
+
+    public static void registerTextFlow() { }
+
+    public static void registerImageView() { }
+
+    public static void registerCanvas() { }
+
+    public static void registerPath() { }
+
+    public static void registerSVGPath() { }
+
+    public static void registerRegion() { }
+
+}
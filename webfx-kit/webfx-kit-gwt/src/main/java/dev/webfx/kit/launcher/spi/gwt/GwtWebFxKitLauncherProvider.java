@@ -1,6 +1,7 @@
 package dev.webfx.kit.launcher.spi.gwt;
 
 import com.sun.javafx.application.ParametersImpl;
+import com.sun.javafx.ref.WeakRef;
 import elemental2.dom.DataTransfer;
 import elemental2.dom.DomGlobal;
 import javafx.application.Application;
@@ -10,8 +11,10 @@ import javafx.scene.Scene;
 import javafx.scene.input.Clipboard;
 import javafx.scene.input.DataFormat;
 import javafx.scene.input.Dragboard;
+import javafx.scene.text.Font;
 import javafx.stage.Screen;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.DragboardDataTransferHolder;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlFonts;
 import dev.webfx.kit.launcher.spi.base.WebFxKitLauncherProviderBase;
 import dev.webfx.platform.shared.services.log.Logger;
 import dev.webfx.platform.shared.util.Strings;
@@ -19,6 +22,7 @@ import dev.webfx.platform.shared.util.collection.Collections;
 import dev.webfx.platform.shared.util.function.Factory;
 
 import java.util.Map;
+import java.util.function.Consumer;
 
 
 /**
@@ -31,6 +35,9 @@ public final class GwtWebFxKitLauncherProvider extends WebFxKitLauncherProviderB
 
     public GwtWebFxKitLauncherProvider() {
         super(DomGlobal.navigator.userAgent);
+        // Making the JavaFx weak listeners really weak when the browser supports WeakRef
+        if (JsWeakRefBackend.isSupported())
+            WeakRef.setBackend(new JsWeakRefBackend());
     }
 
     @Override
@@ -113,6 +120,25 @@ public final class GwtWebFxKitLauncherProvider extends WebFxKitLauncherProviderB
         return new Rectangle2D(0, 0, width, height);
     }
 
+    @Override
+    public void loadFont(String url, String family, Runnable onCompleted) {
+        HtmlFonts.loadFontFace(url, family, onCompleted);
+    }
+
+    @Override
+    public double measureTextWidth(String text, Font font) {
+        return HtmlFonts.measureTextWidth(text, font);
+    }
+
+    @Override
+    public void addVisibilityListener(Consumer<Boolean> visibilityListener) {
+        DomGlobal.document.addEventListener("visibilitychange", e -> visibilityListener.accept(!isDocumentHidden()));
+    }
+
+    private static native boolean isDocumentHidden() /*-{
+        return $doc.hidden === true;
+    }-*/;
+
     @Override
     public boolean supportsWebP() {
         return supportsWebPJS();
@@ -0,0 +1,61 @@
+package dev.webfx.kit.launcher.spi.gwt;
+
+import com.sun.javafx.ref.WeakRef;
+
+/**
+ * A WeakRef backend based on the browser WeakRef, so that the JavaFx weak listeners are really weak once compiled by
+ * GWT (the GWT emulation of java.lang.ref.WeakReference holds a strong reference). When FinalizationRegistry is also
+ * supported, the collections are notified (once per batch of collected referents) to purge the dead weak listeners.
+ *
+ * @author Bruno Salmon
+ */
+final class JsWeakRefBackend implements WeakRef.Backend {
+
+    private static Object registry; // the JS FinalizationRegistry (if supported)
+
+    private final boolean notifiesCollections = initFinalizationRegistry();
+
+    static boolean isSupported() {
+        return isWeakRefSupported();
+    }
+
+    private static native boolean isWeakRefSupported() /*-{
+        return typeof $wnd.WeakRef === 'function';
+    }-*/;
+
+    private static native boolean initFinalizationRegistry() /*-{
+        if (typeof $wnd.FinalizationRegistry !== 'function')
+            return false;
+        var scheduled = false;
+        @dev.webfx.kit.launcher.spi.gwt.JsWeakRefBackend::registry = new $wnd.FinalizationRegistry(function() {
+            // Several referents are usually collected together, so the purge is done only once for all of them
+            if (!scheduled) {
+                scheduled = true;
+                $wnd.setTimeout($entry(function() {
+                    scheduled = false;
+                    @com.sun.javafx.ref.WeakRef::purgeCollected()();
+                }), 0);
+            }
+        });
+        return true;
+    }-*/;
+
+    @Override
+    public native Object newHandle(Object referent) /*-{
+        var registry = @dev.webfx.kit.launcher.spi.gwt.JsWeakRefBackend::registry;
+        if (registry)
+            registry.register(referent, null);
+        return new $wnd.WeakRef(referent);
+    }-*/;
+
+    @Override
+    public native Object deref(Object handle) /*-{
+        var referent = handle.deref();
+        return referent === undefined ? null : referent;
+    }-*/;
+
+    @Override
+    public boolean notifiesCollections() {
+        return notifiesCollections;
+    }
+}
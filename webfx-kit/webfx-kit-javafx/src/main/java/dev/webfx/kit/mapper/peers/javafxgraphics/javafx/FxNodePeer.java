@@ -143,6 +143,11 @@ public abstract class FxNodePeer
     public void updateStyleClass(List<String> styleClass, ListChangeListener.Change<String> change) {
     }
 
+    @Override
+    public void updateStyle(String style) {
+        fxNode.setStyle(style);
+    }
+
     @Override
     public void updateLocalToParentTransforms(List<Transform> localToParentTransforms) {
         // never called
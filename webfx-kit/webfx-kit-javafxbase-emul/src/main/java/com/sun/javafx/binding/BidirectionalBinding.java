@@ -31,7 +31,7 @@ import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import javafx.util.StringConverter;
 
-import java.lang.ref.WeakReference;
+import com.sun.javafx.ref.WeakRef;
 
 
 
@@ -143,14 +143,14 @@ public abstract class BidirectionalBinding<T> implements ChangeListener<T>, Weak
     // removed
 
     private static class TypedGenericBidirectionalBinding<T> extends BidirectionalBinding<T> {
-        private final WeakReference<Property<T>> propertyRef1;
-        private final WeakReference<Property<T>> propertyRef2;
+        private final WeakRef<Property<T>> propertyRef1;
+        private final WeakRef<Property<T>> propertyRef2;
         private boolean updating = false;
 
         private TypedGenericBidirectionalBinding(Property<T> property1, Property<T> property2) {
             super(property1, property2);
-            propertyRef1 = new WeakReference<Property<T>>(property1);
-            propertyRef2 = new WeakReference<Property<T>>(property2);
+            propertyRef1 = new WeakRef<Property<T>>(property1);
+            propertyRef2 = new WeakRef<Property<T>>(property2);
         }
 
         @Override
@@ -210,14 +210,14 @@ public abstract class BidirectionalBinding<T> implements ChangeListener<T>, Weak
     }
 
     private static class TypedNumberBidirectionalBinding<T extends Number> extends BidirectionalBinding<Number> {
-        private final WeakReference<Property<T>> propertyRef1;
-        private final WeakReference<Property<Number>> propertyRef2;
+        private final WeakRef<Property<T>> propertyRef1;
+        private final WeakRef<Property<Number>> propertyRef2;
         private boolean updating = false;
 
         private TypedNumberBidirectionalBinding(Property<T> property1, Property<Number> property2) {
             super(property1, property2);
-            propertyRef1 = new WeakReference<Property<T>>(property1);
-            propertyRef2 = new WeakReference<Property<Number>>(property2);
+            propertyRef1 = new WeakRef<Property<T>>(property1);
+            propertyRef2 = new WeakRef<Property<Number>>(property2);
         }
 
         @Override
@@ -305,14 +305,14 @@ public abstract class BidirectionalBinding<T> implements ChangeListener<T>, Weak
 
     public abstract static class StringConversionBidirectionalBinding<T> extends BidirectionalBinding<Object> {
 
-        private final WeakReference<Property<String>> stringPropertyRef;
-        private final WeakReference<Property<T>> otherPropertyRef;
+        private final WeakRef<Property<String>> stringPropertyRef;
+        private final WeakRef<Property<T>> otherPropertyRef;
         private boolean updating;
 
         public StringConversionBidirectionalBinding(Property<String> stringProperty, Property<T> otherProperty) {
             super(stringProperty, otherProperty);
-            stringPropertyRef = new WeakReference<Property<String>>(stringProperty);
-            otherPropertyRef = new WeakReference<Property<T>>(otherProperty);
+            stringPropertyRef = new WeakRef<Property<String>>(stringProperty);
+            otherPropertyRef = new WeakRef<Property<T>>(otherProperty);
         }
 
         protected abstract String toString(T value);
@@ -4,17 +4,17 @@ import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 import javafx.beans.binding.Binding;
 
-import java.lang.ref.WeakReference;
+import com.sun.javafx.ref.WeakRef;
 
 public class BindingHelperObserver implements InvalidationListener {
 
-    private final WeakReference<Binding<?>> ref;
+    private final WeakRef<Binding<?>> ref;
 
     public BindingHelperObserver(Binding<?> binding) {
         if (binding == null) {
             throw new NullPointerException("Binding has to be specified.");
         }
-        ref = new WeakReference<Binding<?>>(binding);
+        ref = new WeakRef<Binding<?>>(binding);
     }
 
     @Override
@@ -0,0 +1,66 @@
+package com.sun.javafx.binding;
+
+import javafx.beans.value.ObservableValue;
+import javafx.util.Subscription;
+
+import java.util.Objects;
+
+public class ConditionalBinding<T> extends LazyObjectBinding<T> {
+
+    private final ObservableValue<T> source;
+    private final ObservableValue<Boolean> nonNullCondition;
+
+    private Subscription subscription;
+    private T value;
+
+    public ConditionalBinding(ObservableValue<T> source, ObservableValue<Boolean> condition) {
+        this.source = Objects.requireNonNull(source, "source cannot be null");
+        this.nonNullCondition = Objects.requireNonNull(condition, "condition cannot be null").orElse(false);
+
+        // condition is always observed and never unsubscribed
+        nonNullCondition.subscribe(this::conditionChanged);
+    }
+
+    private void conditionChanged() {
+        if (isObserved()) {
+            updateSubscription();
+        }
+
+        invalidate();
+    }
+
+    private boolean isActive() {
+        return Boolean.TRUE.equals(nonNullCondition.getValue());
+    }
+
+    @Override
+    protected T computeValue() {
+        if (isObserved() && !isActive()) { // Keeping the last value while the condition is false
+            return value;
+        }
+
+        return value = source.getValue();
+    }
+
+    @Override
+    protected Subscription observeSources() {
+        updateSubscription();
+
+        return this::unsubscribe;
+    }
+
+    private void updateSubscription() {
+        unsubscribe();
+
+        if (isActive()) {
+            subscription = source.subscribe(this::invalidate);
+        }
+    }
+
+    private void unsubscribe() {
+        if (subscription != null) {
+            subscription.unsubscribe();
+            subscription = null;
+        }
+    }
+}
@@ -25,6 +25,7 @@
 
 package com.sun.javafx.binding;
 
+import com.sun.javafx.ref.WeakRef;
 import javafx.beans.InvalidationListener;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
@@ -51,40 +52,54 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
             throw new NullPointerException();
         }
         observable.getValue(); // validate observable
-        return (helper == null)? new SingleInvalidation<T>(observable, listener) : helper.addListener(listener);
+        return (helper == null)? new SingleInvalidation<T>(observable, listener) : checkReplaced(helper, helper.addListener(listener));
     }
 
     public static <T> ExpressionHelper<T> removeListener(ExpressionHelper<T> helper, InvalidationListener listener) {
         if (listener == null) {
             throw new NullPointerException();
         }
-        return (helper == null)? null : helper.removeListener(listener);
+        return (helper == null)? null : checkReplaced(helper, helper.removeListener(listener));
     }
 
     public static <T> ExpressionHelper<T> addListener(ExpressionHelper<T> helper, ObservableValue<T> observable, ChangeListener<? super T> listener) {
         if ((observable == null) || (listener == null)) {
             throw new NullPointerException();
         }
-        return (helper == null)? new SingleChange<T>(observable, listener) : helper.addListener(listener);
+        return (helper == null)? new SingleChange<T>(observable, listener) : checkReplaced(helper, helper.addListener(listener));
     }
 
     public static <T> ExpressionHelper<T> removeListener(ExpressionHelper<T> helper, ChangeListener<? super T> listener) {
         if (listener == null) {
             throw new NullPointerException();
         }
-        return (helper == null)? null : helper.removeListener(listener);
+        return (helper == null)? null : checkReplaced(helper, helper.removeListener(listener));
     }
 
     public static <T> void fireValueChangedEvent(ExpressionHelper<T> helper) {
         if (helper != null) {
-            helper.fireValueChangedEvent();
+            if (PropertyTransaction.isActive()) { // WebFx addition (notification deferred to the transaction commit)
+                PropertyTransaction.defer(helper);
+            } else {
+                helper.fireValueChangedEvent();
+            }
+        }
+    }
+
+    // WebFx addition: keeps a deferred notification when the helper instance is replaced during a property transaction
+    private static <T> ExpressionHelper<T> checkReplaced(ExpressionHelper<T> helper, ExpressionHelper<T> newHelper) {
+        if (newHelper != helper && helper.deferred) {
+            PropertyTransaction.replace(helper, newHelper);
         }
+        return newHelper;
     }
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Common implementations
 
     protected final ObservableValue<T> observable;
+    boolean deferred; // WebFx addition (true while queued in a property transaction, until its change listeners are notified)
+    boolean invalidationDeferred; // WebFx addition (true until its invalidation listeners are called by the commit)
 
     private ExpressionHelper(ObservableValue<T> observable) {
         this.observable = observable;
@@ -98,6 +113,23 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
 
     protected abstract void fireValueChangedEvent();
 
+    // WebFx addition: the 2 notification phases of a property transaction commit (see PropertyTransaction)
+    protected abstract void fireInvalidationListeners();
+    protected abstract void fireChangeListeners();
+
+    // Called on the new helper replacing a deferred one, so that the change listeners are notified with the value the
+    // observable had before the transaction
+    void adoptPendingValue(ExpressionHelper<T> previous) {
+    }
+
+    boolean hasChangeListeners() {
+        return false;
+    }
+
+    T getCurrentValue() {
+        return null;
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Implementations
 
@@ -138,6 +170,15 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                  e.printStackTrace(); //Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
             }
         }
+
+        @Override
+        protected void fireInvalidationListeners() {
+            fireValueChangedEvent();
+        }
+
+        @Override
+        protected void fireChangeListeners() {
+        }
     }
 
     private static class SingleChange<T> extends ExpressionHelper<T> {
@@ -184,9 +225,35 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                 }
             }
         }
+
+        @Override
+        protected void fireInvalidationListeners() {
+        }
+
+        @Override
+        protected void fireChangeListeners() {
+            fireValueChangedEvent();
+        }
+
+        @Override
+        void adoptPendingValue(ExpressionHelper<T> previous) {
+            if (previous.hasChangeListeners()) {
+                currentValue = previous.getCurrentValue();
+            }
+        }
+
+        @Override
+        boolean hasChangeListeners() {
+            return true;
+        }
+
+        @Override
+        T getCurrentValue() {
+            return currentValue;
+        }
     }
 
-    private static class Generic<T> extends ExpressionHelper<T> {
+    private static class Generic<T> extends ExpressionHelper<T> implements WeakRef.Purgeable {
 
         private InvalidationListener[] invalidationListeners;
         private ChangeListener<? super T>[] changeListeners;
@@ -198,12 +265,16 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
         private Generic(ObservableValue<T> observable, InvalidationListener listener0, InvalidationListener listener1) {
             super(observable);
             this.invalidationListeners = new InvalidationListener[] {listener0, listener1};
+            checkWeakListener(listener0);
+            checkWeakListener(listener1);
             this.invalidationSize = 2;
         }
 
         private Generic(ObservableValue<T> observable, ChangeListener<? super T> listener0, ChangeListener<? super T> listener1) {
             super(observable);
             this.changeListeners = new ChangeListener[] {listener0, listener1};
+            checkWeakListener(listener0);
+            checkWeakListener(listener1);
             this.changeSize = 2;
             this.currentValue = observable.getValue();
         }
@@ -213,6 +284,8 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
             this.invalidationListeners = new InvalidationListener[] {invalidationListener};
             this.invalidationSize = 1;
             this.changeListeners = new ChangeListener[] {changeListener};
+            checkWeakListener(invalidationListener);
+            checkWeakListener(changeListener);
             this.changeSize = 1;
             this.currentValue = observable.getValue();
         }
@@ -236,6 +309,7 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                 }
                 invalidationListeners[invalidationSize++] = listener;
             }
+            checkWeakListener(listener);
             return this;
         }
 
@@ -293,6 +367,7 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                 }
                 changeListeners[changeSize++] = listener;
             }
+            checkWeakListener(listener);
             if (changeSize == 1) {
                 currentValue = observable.getValue();
             }
@@ -368,6 +443,80 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                 locked = false;
             }
         }
+
+        @Override
+        protected void fireInvalidationListeners() {
+            final InvalidationListener[] curInvalidationList = invalidationListeners;
+            final int curInvalidationSize = invalidationSize;
+            try {
+                locked = true;
+                for (int i = 0; i < curInvalidationSize; i++) {
+                    try {
+                        curInvalidationList[i].invalidated(observable);
+                    } catch (Exception e) {
+                        e.printStackTrace();
+                    }
+                }
+            } finally {
+                locked = false;
+            }
+        }
+
+        @Override
+        protected void fireChangeListeners() {
+            final ChangeListener<? super T>[] curChangeList = changeListeners;
+            final int curChangeSize = changeSize;
+            if (curChangeSize > 0) {
+                final T oldValue = currentValue;
+                currentValue = observable.getValue();
+                final boolean changed = (currentValue == null)? (oldValue != null) : !currentValue.equals(oldValue);
+                if (changed) {
+                    try {
+                        locked = true;
+                        for (int i = 0; i < curChangeSize; i++) {
+                            try {
+                                curChangeList[i].changed(observable, oldValue, currentValue);
+                            } catch (Exception e) {
+                                e.printStackTrace();
+                            }
+                        }
+                    } finally {
+                        locked = false;
+                    }
+                }
+            }
+        }
+
+        @Override
+        public boolean purgeCollected() { // WebFx addition
+            if (locked) {
+                return true;
+            }
+            if (invalidationListeners != null) {
+                invalidationSize = trim(invalidationSize, invalidationListeners);
+            }
+            if (changeListeners != null) {
+                changeSize = trim(changeSize, changeListeners);
+            }
+            return keepPurgeRegistration(containsWeakListener(invalidationSize, invalidationListeners) || containsWeakListener(changeSize, changeListeners));
+        }
+
+        @Override
+        void adoptPendingValue(ExpressionHelper<T> previous) {
+            if (changeSize > 0 && previous.hasChangeListeners()) {
+                currentValue = previous.getCurrentValue();
+            }
+        }
+
+        @Override
+        boolean hasChangeListeners() {
+            return changeSize > 0;
+        }
+
+        @Override
+        T getCurrentValue() {
+            return currentValue;
+        }
     }
 
 }
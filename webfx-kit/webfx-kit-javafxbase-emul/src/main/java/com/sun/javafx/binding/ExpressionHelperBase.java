@@ -25,6 +25,7 @@
 
 package com.sun.javafx.binding;
 
+import com.sun.javafx.ref.WeakRef;
 import java.util.function.Predicate;
 import javafx.beans.WeakListener;
 
@@ -55,4 +56,31 @@ public class ExpressionHelperBase {
         return size;
     }
 
+    // WebFx addition: registration of the helpers holding weak listeners for their purge after garbage collections
+    // (see WeakRef). Only the helpers implementing WeakRef.Purgeable are registered.
+
+    private boolean purgeRegistered;
+
+    protected final void checkWeakListener(Object listener) {
+        if (!purgeRegistered && listener instanceof WeakListener && this instanceof WeakRef.Purgeable) {
+            purgeRegistered = WeakRef.registerPurgeable((WeakRef.Purgeable) this);
+        }
+    }
+
+    protected final boolean keepPurgeRegistration(boolean weakListenersRemaining) {
+        if (!weakListenersRemaining) {
+            purgeRegistered = false;
+        }
+        return weakListenersRemaining;
+    }
+
+    protected static boolean containsWeakListener(int size, Object[] listeners) {
+        for (int i = 0; i < size; i++) {
+            if (listeners[i] instanceof WeakListener) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
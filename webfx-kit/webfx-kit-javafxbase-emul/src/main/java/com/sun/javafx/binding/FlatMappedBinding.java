@@ -0,0 +1,57 @@
+package com.sun.javafx.binding;
+
+import javafx.beans.value.ObservableValue;
+import javafx.util.Subscription;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+public class FlatMappedBinding<S, T> extends LazyObjectBinding<T> {
+
+    private final ObservableValue<S> source;
+    private final Function<? super S, ? extends ObservableValue<? extends T>> mapper;
+
+    private Subscription indirectSourceSubscription = Subscription.EMPTY;
+    private ObservableValue<? extends T> mappedValue;
+
+    public FlatMappedBinding(ObservableValue<S> source, Function<? super S, ? extends ObservableValue<? extends T>> mapper) {
+        this.source = Objects.requireNonNull(source, "source cannot be null");
+        this.mapper = Objects.requireNonNull(mapper, "mapper cannot be null");
+    }
+
+    @Override
+    protected T computeValue() {
+        S value = source.getValue();
+        ObservableValue<? extends T> newMappedValue = value == null ? null : mapper.apply(value);
+
+        if (isObserved() && mappedValue != newMappedValue) {
+            indirectSourceSubscription.unsubscribe();
+            indirectSourceSubscription = newMappedValue == null ? Subscription.EMPTY
+                    : newMappedValue.subscribe(this::invalidate);
+            mappedValue = newMappedValue;
+        }
+
+        return newMappedValue == null ? null : newMappedValue.getValue();
+    }
+
+    @Override
+    protected Subscription observeSources() {
+        Subscription subscription = source.subscribe(this::invalidateAll);
+
+        return () -> {
+            subscription.unsubscribe();
+            unsubscribeIndirectSource();
+        };
+    }
+
+    private void invalidateAll() {
+        unsubscribeIndirectSource();
+        invalidate();
+    }
+
+    private void unsubscribeIndirectSource() {
+        indirectSourceSubscription.unsubscribe();
+        indirectSourceSubscription = Subscription.EMPTY;
+        mappedValue = null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.sun.javafx.binding;
+
+import javafx.beans.value.ObservableValue;
+import javafx.util.Subscription;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+public class MappedBinding<S, T> extends LazyObjectBinding<T> {
+
+    private final ObservableValue<S> source;
+    private final Function<? super S, ? extends T> mapper;
+
+    public MappedBinding(ObservableValue<S> source, Function<? super S, ? extends T> mapper) {
+        this.source = Objects.requireNonNull(source, "source cannot be null");
+        this.mapper = Objects.requireNonNull(mapper, "mapper cannot be null");
+    }
+
+    @Override
+    protected T computeValue() {
+        S value = source.getValue();
+
+        return value == null ? null : mapper.apply(value);
+    }
+
+    @Override
+    protected Subscription observeSources() {
+        return source.subscribe(this::invalidate); // start observing source
+    }
+}
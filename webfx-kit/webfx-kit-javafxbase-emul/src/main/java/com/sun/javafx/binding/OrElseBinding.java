@@ -0,0 +1,29 @@
+package com.sun.javafx.binding;
+
+import javafx.beans.value.ObservableValue;
+import javafx.util.Subscription;
+
+import java.util.Objects;
+
+public class OrElseBinding<T> extends LazyObjectBinding<T> {
+
+    private final ObservableValue<T> source;
+    private final T constant;
+
+    public OrElseBinding(ObservableValue<T> source, T constant) {
+        this.source = Objects.requireNonNull(source, "source cannot be null");
+        this.constant = constant;
+    }
+
+    @Override
+    protected Subscription observeSources() {
+        return source.subscribe(this::invalidate); // start observing source
+    }
+
+    @Override
+    protected T computeValue() {
+        T value = source.getValue();
+
+        return value == null ? constant : value;
+    }
+}
@@ -0,0 +1,144 @@
+package com.sun.javafx.binding;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Batches the notifications of several related property writes. While a transaction is in progress, the
+ * {@link ExpressionHelper}s of the modified observables are not notified immediately but queued (once each, however
+ * many times their observable is invalidated). When the outermost transaction is committed, the queued notifications
+ * are flushed in two phases:
+ * <ol>
+ *     <li>the invalidation listeners are called breadth-first, so the invalidation reaches all dependent bindings
+ *     (which are queued in turn) before any of them is recomputed;</li>
+ *     <li>the change listeners are then called, in the same order (sources before their dependents), and only if the
+ *     value differs from the one before the transaction.</li>
+ * </ol>
+ * So a binding depending on several properties modified in the same transaction is recomputed only once, and its
+ * listeners never observe an intermediate state. Note that a dependent binding read inside the transaction itself may
+ * still return its value from before the transaction, as its invalidation is deferred to the commit.
+ *
+ * Transactions can be nested, only the outermost commit flushes the notifications. This class is not thread-safe and
+ * is meant to be used on the UI thread only.
+ */
+public final class PropertyTransaction {
+
+    private static int depth;
+    private static List<ExpressionHelper<?>> pendingHelpers = new ArrayList<>();
+    private static List<ExpressionHelper<?>> spareHelpers = new ArrayList<>(); // swapped with pendingHelpers on commit
+    private static List<ExpressionHelper<?>> flushingHelpers;
+
+    private PropertyTransaction() {}
+
+    public static boolean isActive() {
+        return depth > 0;
+    }
+
+    public static void begin() {
+        depth++;
+    }
+
+    public static void commit() {
+        if (depth == 0)
+            throw new IllegalStateException("No property transaction in progress");
+        if (depth > 1) {
+            depth--;
+            return;
+        }
+        List<ExpressionHelper<?>> helpers = pendingHelpers;
+        try {
+            // Phase 1: invalidation (the transaction is still active, so the dependent bindings invalidated here are
+            // queued at the end of the list and their own invalidation listeners are called later in this same loop).
+            // The invalidation flag is cleared before calling the listeners, so an observable invalidated again in
+            // the meantime (ex: written by a listener once its dependents have been validated) is queued again.
+            for (int i = 0; i < helpers.size(); i++) {
+                ExpressionHelper<?> helper = helpers.get(i);
+                if (helper != null && helper.invalidationDeferred) {
+                    helper.invalidationDeferred = false;
+                    helper.fireInvalidationListeners();
+                }
+            }
+        } finally {
+            depth = 0;
+            if (!helpers.isEmpty()) {
+                // Swapping the lists rather than allocating a new one on each commit
+                pendingHelpers = spareHelpers != null ? spareHelpers : new ArrayList<>();
+                spareHelpers = null;
+                try {
+                    flushChangeListeners(helpers);
+                } finally {
+                    helpers.clear();
+                    if (spareHelpers == null)
+                        spareHelpers = helpers;
+                }
+            }
+        }
+    }
+
+    // Phase 2: change notification (the transaction is now closed, so any write made by a change listener is notified
+    // immediately as usual, and a new transaction can be started without interfering with this flush)
+    private static void flushChangeListeners(List<ExpressionHelper<?>> helpers) {
+        List<ExpressionHelper<?>> previousFlushingHelpers = flushingHelpers;
+        flushingHelpers = helpers;
+        try {
+            for (int i = 0; i < helpers.size(); i++) {
+                ExpressionHelper<?> helper = helpers.get(i);
+                if (helper != null && helper.deferred) {
+                    helper.deferred = false;
+                    helper.fireChangeListeners();
+                }
+            }
+        } finally {
+            flushingHelpers = previousFlushingHelpers;
+            for (int i = 0; i < helpers.size(); i++) { // in case a listener has thrown an exception
+                ExpressionHelper<?> helper = helpers.get(i);
+                if (helper != null)
+                    helper.deferred = helper.invalidationDeferred = false;
+            }
+        }
+    }
+
+    public static void run(Runnable runnable) {
+        begin();
+        try {
+            runnable.run();
+        } finally {
+            commit();
+        }
+    }
+
+    static void defer(ExpressionHelper<?> helper) {
+        if (!helper.invalidationDeferred) {
+            helper.invalidationDeferred = helper.deferred = true;
+            pendingHelpers.add(helper);
+        }
+    }
+
+    /**
+     * Called when the helper of an observable is replaced by another instance (because a listener has been added or
+     * removed) while its notification is deferred, so that the notification goes to the new helper.
+     */
+    static <T> void replace(ExpressionHelper<T> previous, ExpressionHelper<T> next) {
+        boolean invalidationDeferred = previous.invalidationDeferred;
+        previous.deferred = previous.invalidationDeferred = false;
+        if (!replace(pendingHelpers, previous, next))
+            replace(flushingHelpers, previous, next);
+        if (next != null) {
+            next.deferred = true;
+            next.invalidationDeferred = invalidationDeferred;
+            next.adoptPendingValue(previous);
+        }
+    }
+
+    // Replaces all the occurrences (a helper invalidated again during the commit is queued more than once)
+    private static boolean replace(List<ExpressionHelper<?>> helpers, ExpressionHelper<?> previous, ExpressionHelper<?> next) {
+        boolean replaced = false;
+        if (helpers != null)
+            for (int i = helpers.size() - 1; i >= 0; i--)
+                if (helpers.get(i) == previous) {
+                    helpers.set(i, next);
+                    replaced = true;
+                }
+        return replaced;
+    }
+}
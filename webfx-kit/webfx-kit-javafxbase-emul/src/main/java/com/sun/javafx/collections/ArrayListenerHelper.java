@@ -0,0 +1,370 @@
+/*
+ * Copyright (c) 2013, 2014, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package com.sun.javafx.collections;
+
+import com.sun.javafx.binding.ExpressionHelperBase;
+import com.sun.javafx.ref.WeakRef;
+import javafx.beans.InvalidationListener;
+import javafx.collections.ArrayChangeListener;
+import javafx.collections.ObservableArray;
+
+import java.util.Arrays;
+
+/**
+ */
+public abstract class ArrayListenerHelper<T extends ObservableArray<T>> extends ExpressionHelperBase {
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Static methods
+
+    public static <T extends ObservableArray<T>> ArrayListenerHelper<T> addListener(ArrayListenerHelper<T> helper, InvalidationListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        return (helper == null)? new SingleInvalidation<T>(listener) : helper.addListener(listener);
+    }
+
+    public static <T extends ObservableArray<T>> ArrayListenerHelper<T> removeListener(ArrayListenerHelper<T> helper, InvalidationListener listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        return (helper == null)? null : helper.removeListener(listener);
+    }
+
+    public static <T extends ObservableArray<T>> ArrayListenerHelper<T> addListener(ArrayListenerHelper<T> helper, ArrayChangeListener<T> listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        return (helper == null)? new SingleChange<T>(listener) : helper.addListener(listener);
+    }
+
+    public static <T extends ObservableArray<T>> ArrayListenerHelper<T> removeListener(ArrayListenerHelper<T> helper, ArrayChangeListener<T> listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        return (helper == null)? null : helper.removeListener(listener);
+    }
+
+    public static <T extends ObservableArray<T>> void fireValueChangedEvent(ArrayListenerHelper<T> helper, T observable, boolean sizeChanged, int from, int to) {
+        if ((helper != null) && ((from < to) || sizeChanged)) {
+            helper.fireValueChangedEvent(observable, sizeChanged, from, to);
+        }
+    }
+
+    public static <T extends ObservableArray<T>> boolean hasListeners(ArrayListenerHelper<T> helper) {
+        return helper != null;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Common implementations
+
+    protected abstract ArrayListenerHelper<T> addListener(InvalidationListener listener);
+    protected abstract ArrayListenerHelper<T> removeListener(InvalidationListener listener);
+
+    protected abstract ArrayListenerHelper<T> addListener(ArrayChangeListener<T> listener);
+    protected abstract ArrayListenerHelper<T> removeListener(ArrayChangeListener<T> listener);
+
+    protected abstract void fireValueChangedEvent(T observable, boolean sizeChanged, int from, int to);
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Implementations
+
+    private static class SingleInvalidation<T extends ObservableArray<T>> extends ArrayListenerHelper<T> {
+
+        private final InvalidationListener listener;
+
+        private SingleInvalidation(InvalidationListener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        protected ArrayListenerHelper<T> addListener(InvalidationListener listener) {
+            return new Generic<T>(this.listener, listener);
+        }
+
+        @Override
+        protected ArrayListenerHelper<T> removeListener(InvalidationListener listener) {
+            return (listener.equals(this.listener))? null : this;
+        }
+
+        @Override
+        protected ArrayListenerHelper<T> addListener(ArrayChangeListener<T> listener) {
+            return new Generic<T>(this.listener, listener);
+        }
+
+        @Override
+        protected ArrayListenerHelper<T> removeListener(ArrayChangeListener<T> listener) {
+            return this;
+        }
+
+        @Override
+        protected void fireValueChangedEvent(T observable, boolean sizeChanged, int from, int to) {
+            try {
+                listener.invalidated(observable);
+            } catch (Exception e) {
+                 e.printStackTrace(); //Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+            }
+        }
+    }
+
+    private static class SingleChange<T extends ObservableArray<T>> extends ArrayListenerHelper<T> {
+
+        private final ArrayChangeListener<T> listener;
+
+        private SingleChange(ArrayChangeListener<T> listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        protected ArrayListenerHelper<T> addListener(InvalidationListener listener) {
+            return new Generic<T>(listener, this.listener);
+        }
+
+        @Override
+        protected ArrayListenerHelper<T> removeListener(InvalidationListener listener) {
+            return this;
+        }
+
+        @Override
+        protected ArrayListenerHelper<T> addListener(ArrayChangeListener<T> listener) {
+            return new Generic<T>(this.listener, listener);
+        }
+
+        @Override
+        protected ArrayListenerHelper<T> removeListener(ArrayChangeListener<T> listener) {
+            return (listener.equals(this.listener))? null : this;
+        }
+
+        @Override
+        protected void fireValueChangedEvent(T observable, boolean sizeChanged, int from, int to) {
+            try {
+                listener.onChanged(observable, sizeChanged, from, to);
+            } catch (Exception e) {
+                 e.printStackTrace(); //Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+            }
+        }
+    }
+
+    private static class Generic<T extends ObservableArray<T>> extends ArrayListenerHelper<T> implements WeakRef.Purgeable {
+
+        private InvalidationListener[] invalidationListeners;
+        private ArrayChangeListener<T>[] changeListeners;
+        private int invalidationSize;
+        private int changeSize;
+        private boolean locked;
+
+        private Generic(InvalidationListener listener0, InvalidationListener listener1) {
+            this.invalidationListeners = new InvalidationListener[] {listener0, listener1};
+            checkWeakListener(listener0);
+            checkWeakListener(listener1);
+            this.invalidationSize = 2;
+        }
+
+        private Generic(ArrayChangeListener<T> listener0, ArrayChangeListener<T> listener1) {
+            this.changeListeners = newChangeListeners(2);
+            this.changeListeners[0] = listener0;
+            this.changeListeners[1] = listener1;
+            checkWeakListener(listener0);
+            checkWeakListener(listener1);
+            this.changeSize = 2;
+        }
+
+        private Generic(InvalidationListener invalidationListener, ArrayChangeListener<T> changeListener) {
+            this.invalidationListeners = new InvalidationListener[] {invalidationListener};
+            this.invalidationSize = 1;
+            this.changeListeners = newChangeListeners(1);
+            this.changeListeners[0] = changeListener;
+            checkWeakListener(invalidationListener);
+            checkWeakListener(changeListener);
+            this.changeSize = 1;
+        }
+
+        @Override
+        protected Generic<T> addListener(InvalidationListener listener) {
+            if (invalidationListeners == null) {
+                invalidationListeners = new InvalidationListener[] {listener};
+                invalidationSize = 1;
+            } else {
+                final int oldCapacity = invalidationListeners.length;
+                if (locked) {
+                    final int newCapacity = (invalidationSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
+                    invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
+                } else if (invalidationSize == oldCapacity) {
+                    invalidationSize = trim(invalidationSize, invalidationListeners);
+                    if (invalidationSize == oldCapacity) {
+                        final int newCapacity = (oldCapacity * 3)/2 + 1;
+                        invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
+                    }
+                }
+                invalidationListeners[invalidationSize++] = listener;
+            }
+            checkWeakListener(listener);
+            return this;
+        }
+
+        @Override
+        protected ArrayListenerHelper<T> removeListener(InvalidationListener listener) {
+            if (invalidationListeners != null) {
+                for (int index = 0; index < invalidationSize; index++) {
+                    if (listener.equals(invalidationListeners[index])) {
+                        if (invalidationSize == 1) {
+                            if (changeSize == 1) {
+                                return new SingleChange<T>(changeListeners[0]);
+                            }
+                            invalidationListeners = null;
+                            invalidationSize = 0;
+                        } else if ((invalidationSize == 2) && (changeSize == 0)) {
+                            return new SingleInvalidation<T>(invalidationListeners[1-index]);
+                        } else {
+                            final int numMoved = invalidationSize - index - 1;
+                            final InvalidationListener[] oldListeners = invalidationListeners;
+                            if (locked) {
+                                invalidationListeners = new InvalidationListener[invalidationListeners.length];
+                                System.arraycopy(oldListeners, 0, invalidationListeners, 0, index);
+                            }
+                            if (numMoved > 0) {
+                                System.arraycopy(oldListeners, index+1, invalidationListeners, index, numMoved);
+                            }
+                            invalidationSize--;
+                            if (!locked) {
+                                invalidationListeners[invalidationSize] = null; // Let gc do its work
+                            }
+                        }
+                        break;
+                    }
+                }
+            }
+            return this;
+        }
+
+        @Override
+        protected ArrayListenerHelper<T> addListener(ArrayChangeListener<T> listener) {
+            if (changeListeners == null) {
+                changeListeners = newChangeListeners(1);
+                changeListeners[0] = listener;
+                changeSize = 1;
+            } else {
+                final int oldCapacity = changeListeners.length;
+                if (locked) {
+                    final int newCapacity = (changeSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
+                    changeListeners = Arrays.copyOf(changeListeners, newCapacity);
+                } else if (changeSize == oldCapacity) {
+                    changeSize = trim(changeSize, changeListeners);
+                    if (changeSize == oldCapacity) {
+                        final int newCapacity = (oldCapacity * 3)/2 + 1;
+                        changeListeners = Arrays.copyOf(changeListeners, newCapacity);
+                    }
+                }
+                changeListeners[changeSize++] = listener;
+            }
+            checkWeakListener(listener);
+            return this;
+        }
+
+        @Override
+        protected ArrayListenerHelper<T> removeListener(ArrayChangeListener<T> listener) {
+            if (changeListeners != null) {
+                for (int index = 0; index < changeSize; index++) {
+                    if (listener.equals(changeListeners[index])) {
+                        if (changeSize == 1) {
+                            if (invalidationSize == 1) {
+                                return new SingleInvalidation<T>(invalidationListeners[0]);
+                            }
+                            changeListeners = null;
+                            changeSize = 0;
+                        } else if ((changeSize == 2) && (invalidationSize == 0)) {
+                            return new SingleChange<T>(changeListeners[1-index]);
+                        } else {
+                            final int numMoved = changeSize - index - 1;
+                            final ArrayChangeListener<T>[] oldListeners = changeListeners;
+                            if (locked) {
+                                changeListeners = newChangeListeners(changeListeners.length);
+                                System.arraycopy(oldListeners, 0, changeListeners, 0, index);
+                            }
+                            if (numMoved > 0) {
+                                System.arraycopy(oldListeners, index+1, changeListeners, index, numMoved);
+                            }
+                            changeSize--;
+                            if (!locked) {
+                                changeListeners[changeSize] = null; // Let gc do its work
+                            }
+                        }
+                        break;
+                    }
+                }
+            }
+            return this;
+        }
+
+        @Override
+        protected void fireValueChangedEvent(T observable, boolean sizeChanged, int from, int to) {
+            final InvalidationListener[] curInvalidationList = invalidationListeners;
+            final int curInvalidationSize = invalidationSize;
+            final ArrayChangeListener<T>[] curChangeList = changeListeners;
+            final int curChangeSize = changeSize;
+
+            try {
+                locked = true;
+                for (int i = 0; i < curInvalidationSize; i++) {
+                    try {
+                        curInvalidationList[i].invalidated(observable);
+                    } catch (Exception e) {
+                         e.printStackTrace(); //Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+                    }
+                }
+                for (int i = 0; i < curChangeSize; i++) {
+                    try {
+                        curChangeList[i].onChanged(observable, sizeChanged, from, to);
+                    } catch (Exception e) {
+                         e.printStackTrace(); //Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+                    }
+                }
+            } finally {
+                locked = false;
+            }
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"}) // generic array creation
+        private static <T extends ObservableArray<T>> ArrayChangeListener<T>[] newChangeListeners(int length) {
+            return new ArrayChangeListener[length];
+        }
+
+        @Override
+        public boolean purgeCollected() { // WebFx addition
+            if (locked) {
+                return true;
+            }
+            if (invalidationListeners != null) {
+                invalidationSize = trim(invalidationSize, invalidationListeners);
+            }
+            if (changeListeners != null) {
+                changeSize = trim(changeSize, changeListeners);
+            }
+            return keepPurgeRegistration(containsWeakListener(invalidationSize, invalidationListeners) || containsWeakListener(changeSize, changeListeners));
+        }
+    }
+
+}
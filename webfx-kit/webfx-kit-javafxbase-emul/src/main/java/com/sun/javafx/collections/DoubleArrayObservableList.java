@@ -0,0 +1,181 @@
+package com.sun.javafx.collections;
+
+import javafx.collections.ModifiableObservableListBase;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * An observable list of doubles backed by a flat double array (no boxed element is kept in memory). The bulk
+ * operations (addAll, setAll, remove(from, to), clear) are applied directly on the array and fire a single ranged
+ * change, and the content can be read without boxing through {@link #getDouble(int)} and {@link #toDoubleArray()}.
+ * This is used for the points of the polyline shapes, which can hold thousands of coordinates.
+ *
+ * @author Bruno Salmon
+ */
+public class DoubleArrayObservableList extends ModifiableObservableListBase<Double> {
+
+    private static final double[] INITIAL = new double[0];
+
+    private double[] array = INITIAL;
+    private int size;
+
+    public DoubleArrayObservableList() {
+    }
+
+    public DoubleArrayObservableList(double... elements) {
+        setAll(elements);
+    }
+
+    @Override
+    public Double get(int index) {
+        return getDouble(index);
+    }
+
+    public double getDouble(int index) {
+        rangeCheck(index);
+        return array[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a copy of the content as a double array.
+     */
+    public double[] toDoubleArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    public boolean addAll(double... elements) {
+        return addAll(size, elements, 0, elements.length);
+    }
+
+    public boolean setAll(double... elements) {
+        beginChange();
+        try {
+            clear();
+            addAll(elements);
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Double> c) {
+        return addAll(size, c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends Double> c) {
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        double[] elements = new double[c.size()];
+        int i = 0;
+        for (Double d : c)
+            elements[i++] = d; // Throws NullPointerException for null elements (not accepted in the array)
+        return addAll(index, elements, 0, elements.length);
+    }
+
+    private boolean addAll(int index, double[] elements, int from, int length) {
+        if (length == 0)
+            return false;
+        ensureCapacity(size + length);
+        System.arraycopy(array, index, array, index + length, size - index);
+        System.arraycopy(elements, from, array, index, length);
+        size += length;
+        modCount++;
+        beginChange();
+        nextAdd(index, index + length);
+        endChange();
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0)
+            removeRange(0, size);
+    }
+
+    @Override
+    public void remove(int from, int to) {
+        removeRange(from, to);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size);
+        if (fromIndex == toIndex)
+            return;
+        List<Double> removed = hasListeners() ? new DoubleArrayList(Arrays.copyOfRange(array, fromIndex, toIndex)) : null;
+        System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+        modCount++;
+        if (removed != null) {
+            beginChange();
+            nextRemove(fromIndex, removed);
+            endChange();
+        }
+    }
+
+    @Override
+    protected void doAdd(int index, Double element) {
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        ensureCapacity(size + 1);
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = element;
+        size++;
+    }
+
+    @Override
+    protected Double doSet(int index, Double element) {
+        rangeCheck(index);
+        double old = array[index];
+        array[index] = element;
+        return old;
+    }
+
+    @Override
+    protected Double doRemove(int index) {
+        rangeCheck(index);
+        double old = array[index];
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        size--;
+        return old;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (array.length < capacity)
+            array = Arrays.copyOf(array, Math.max(capacity, array.length + (array.length >> 1)));
+    }
+
+    private void rangeCheck(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    private static final class DoubleArrayList extends AbstractList<Double> {
+        private final double[] array;
+
+        DoubleArrayList(double[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public Double get(int index) {
+            return array[index];
+        }
+
+        @Override
+        public int size() {
+            return array.length;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.sun.javafx.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiPredicate;
+
+/**
+ * Computes a minimal edit script (shortest sequence of element removals and insertions) transforming an old list
+ * content into a new one, using the Myers O((N+M)D) difference algorithm. The common prefix and suffix are skipped in
+ * linear time beforehand, so the usual case of a few changes in a long list is cheap.
+ *
+ * The script is an array of steps: {@link #KEEP} (the old element is kept), {@link #REMOVE} (the old element is
+ * removed) and {@link #INSERT} (the next new element is inserted), to be applied in order from the start of the list.
+ */
+public final class ListDiff {
+
+    public static final byte KEEP = 0;
+    public static final byte REMOVE = 1;
+    public static final byte INSERT = 2;
+
+    // Above this number of trace cells (memory is O((N+M)D)), the middle part is simply replaced as a whole
+    private static final long MAX_TRACE_CELLS = 4_000_000;
+
+    private ListDiff() {}
+
+    public static <E> byte[] computeEditScript(Object[] oldElements, Object[] newElements, BiPredicate<? super E, ? super E> equality) {
+        int oldSize = oldElements.length, newSize = newElements.length;
+        int prefix = 0;
+        while (prefix < oldSize && prefix < newSize && equal(oldElements[prefix], newElements[prefix], equality))
+            prefix++;
+        int suffix = 0;
+        while (suffix < oldSize - prefix && suffix < newSize - prefix && equal(oldElements[oldSize - 1 - suffix], newElements[newSize - 1 - suffix], equality))
+            suffix++;
+        int n = oldSize - prefix - suffix, m = newSize - prefix - suffix;
+        byte[] middle = computeMiddleScript(n, m, oldElements, newElements, prefix, equality);
+        byte[] script = new byte[prefix + middle.length + suffix]; // KEEP == 0, so the prefix and suffix steps are already set
+        System.arraycopy(middle, 0, script, prefix, middle.length);
+        return script;
+    }
+
+    private static <E> byte[] computeMiddleScript(int n, int m, Object[] a, Object[] b, int offset, BiPredicate<? super E, ? super E> equality) {
+        List<int[]> trace = n == 0 || m == 0 ? null : myers(n, m, a, b, offset, equality);
+        if (trace == null) { // Removing all the old middle elements and inserting all the new ones
+            byte[] script = new byte[n + m];
+            for (int i = 0; i < n; i++)
+                script[i] = REMOVE;
+            for (int i = 0; i < m; i++)
+                script[n + i] = INSERT;
+            return script;
+        }
+        // With d edits, there are (n + m - d) / 2 kept elements, each one being a single step
+        int d = trace.size() - 1;
+        byte[] script = new byte[d + (n + m - d) / 2];
+        // Backtracking from (n, m) to (0, 0) and filling the script from its end
+        int pos = script.length, x = n, y = m, max = n + m;
+        for (; d > 0; d--) {
+            int[] v = trace.get(d);
+            int k = x - y;
+            int prevK = k == -d || (k != d && v[max + k - 1] < v[max + k + 1]) ? k + 1 : k - 1;
+            int prevX = v[max + prevK], prevY = prevX - prevK;
+            while (x > prevX && y > prevY) {
+                script[--pos] = KEEP;
+                x--;
+                y--;
+            }
+            script[--pos] = x == prevX ? INSERT : REMOVE;
+            x = prevX;
+            y = prevY;
+        }
+        while (x > 0 && y > 0) { // Initial snake (d = 0)
+            script[--pos] = KEEP;
+            x--;
+            y--;
+        }
+        return script;
+    }
+
+    /**
+     * Runs the forward Myers algorithm and returns the trace (the V array at the start of each d iteration, the last
+     * one being the iteration that reached the end), or null if the edit distance is too big for the memory budget.
+     */
+    private static <E> List<int[]> myers(int n, int m, Object[] a, Object[] b, int offset, BiPredicate<? super E, ? super E> equality) {
+        int max = n + m;
+        int[] v = new int[2 * max + 2];
+        List<int[]> trace = new ArrayList<>();
+        for (int d = 0; d <= max; d++) {
+            if ((long) (d + 1) * v.length > MAX_TRACE_CELLS)
+                return null;
+            trace.add(v.clone());
+            for (int k = -d; k <= d; k += 2) {
+                int x = k == -d || (k != d && v[max + k - 1] < v[max + k + 1]) ? v[max + k + 1] : v[max + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && equal(a[offset + x], b[offset + y], equality)) {
+                    x++;
+                    y++;
+                }
+                v[max + k] = x;
+                if (x >= n && y >= m)
+                    return trace;
+            }
+        }
+        return trace; // never reached
+    }
+
+    @SuppressWarnings("unchecked") // the compared objects are elements of the lists of E
+    private static <E> boolean equal(Object o1, Object o2, BiPredicate<? super E, ? super E> equality) {
+        if (o1 == o2)
+            return true;
+        if (equality != null)
+            return equality.test((E) o1, (E) o2);
+        return o1 != null && o1.equals(o2);
+    }
+}
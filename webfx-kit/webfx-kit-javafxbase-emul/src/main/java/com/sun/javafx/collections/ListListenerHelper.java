@@ -26,6 +26,7 @@
 package com.sun.javafx.collections;
 
 import com.sun.javafx.binding.ExpressionHelperBase;
+import com.sun.javafx.ref.WeakRef;
 import javafx.beans.InvalidationListener;
 import javafx.collections.ListChangeListener;
 
@@ -168,7 +169,7 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
         }
     }
 
-    private static class Generic<E> extends ListListenerHelper<E> {
+    private static class Generic<E> extends ListListenerHelper<E> implements WeakRef.Purgeable {
 
         private InvalidationListener[] invalidationListeners;
         private ListChangeListener<? super E>[] changeListeners;
@@ -178,11 +179,15 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
 
         private Generic(InvalidationListener listener0, InvalidationListener listener1) {
             this.invalidationListeners = new InvalidationListener[] {listener0, listener1};
+            checkWeakListener(listener0);
+            checkWeakListener(listener1);
             this.invalidationSize = 2;
         }
 
         private Generic(ListChangeListener<? super E> listener0, ListChangeListener<? super E> listener1) {
             this.changeListeners = new ListChangeListener[] {listener0, listener1};
+            checkWeakListener(listener0);
+            checkWeakListener(listener1);
             this.changeSize = 2;
         }
 
@@ -190,6 +195,8 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
             this.invalidationListeners = new InvalidationListener[] {invalidationListener};
             this.invalidationSize = 1;
             this.changeListeners = new ListChangeListener[] {changeListener};
+            checkWeakListener(invalidationListener);
+            checkWeakListener(changeListener);
             this.changeSize = 1;
         }
 
@@ -212,6 +219,7 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
                 }
                 invalidationListeners[invalidationSize++] = listener;
             }
+            checkWeakListener(listener);
             return this;
         }
 
@@ -269,6 +277,7 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
                 }
                 changeListeners[changeSize++] = listener;
             }
+            checkWeakListener(listener);
             return this;
         }
 
@@ -335,6 +344,20 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
                 locked = false;
             }
         }
+
+        @Override
+        public boolean purgeCollected() { // WebFx addition
+            if (locked) {
+                return true;
+            }
+            if (invalidationListeners != null) {
+                invalidationSize = trim(invalidationSize, invalidationListeners);
+            }
+            if (changeListeners != null) {
+                changeSize = trim(changeSize, changeListeners);
+            }
+            return keepPurgeRegistration(containsWeakListener(invalidationSize, invalidationListeners) || containsWeakListener(changeSize, changeListeners));
+        }
     }
 
 }
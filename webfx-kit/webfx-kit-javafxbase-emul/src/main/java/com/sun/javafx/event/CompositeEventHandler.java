@@ -1,12 +1,14 @@
 package com.sun.javafx.event;
 
+import com.sun.javafx.ref.WeakRef;
 import javafx.event.Event;
 import javafx.event.EventHandler;
 import javafx.event.WeakEventHandler;
 
-final class CompositeEventHandler<T extends Event> {
+final class CompositeEventHandler<T extends Event> implements WeakRef.Purgeable {
     private EventProcessorRecord<T> firstRecord;
     private EventProcessorRecord<T> lastRecord;
+    private boolean purgeRegistered; // WebFx addition
 
     private EventHandler<? super T> eventHandler;
 
@@ -69,6 +71,28 @@ final class CompositeEventHandler<T extends Event> {
         }
     }
 
+    // WebFx additions: used by EventHandlerManager to skip the composite handlers that have nothing to do in a phase
+
+    boolean hasFilter() {
+        for (EventProcessorRecord<T> record = firstRecord; record != null; record = record.nextRecord)
+            if (record.isFilter())
+                return true;
+        return false;
+    }
+
+    boolean hasHandler() {
+        if (eventHandler != null)
+            return true;
+        for (EventProcessorRecord<T> record = firstRecord; record != null; record = record.nextRecord)
+            if (!record.isFilter())
+                return true;
+        return false;
+    }
+
+    boolean isEmpty() {
+        return firstRecord == null && eventHandler == null;
+    }
+
     /* Used for testing. */
     boolean containsHandler(final EventHandler<? super T> eventHandler) {
         return find(eventHandler, false) != null;
@@ -79,7 +103,28 @@ final class CompositeEventHandler<T extends Event> {
         return find(eventFilter, true) != null;
     }
 
+    // WebFx addition: removes the weak records whose handler has been garbage collected (called after collections)
+    @Override
+    public boolean purgeCollected() {
+        boolean weakRecordsRemaining = false;
+        for (EventProcessorRecord<T> record = firstRecord; record != null; record = record.nextRecord) {
+            if (record.isDisconnected())
+                remove(record);
+            else if (record instanceof WeakEventHandlerRecord || record instanceof WeakEventFilterRecord)
+                weakRecordsRemaining = true;
+        }
+        purgeRegistered = weakRecordsRemaining;
+        return weakRecordsRemaining;
+    }
+
+    private void checkPurgeRegistration() {
+        if (!purgeRegistered)
+            purgeRegistered = WeakRef.registerPurgeable(this);
+    }
+
     private EventProcessorRecord<T> createEventHandlerRecord(EventHandler<? super T> eventHandler) {
+        if (eventHandler instanceof WeakEventHandler)
+            checkPurgeRegistration();
         return (eventHandler instanceof WeakEventHandler)
                 ? new WeakEventHandlerRecord(
                 (WeakEventHandler<? super T>) eventHandler)
@@ -87,6 +132,8 @@ final class CompositeEventHandler<T extends Event> {
     }
 
     private EventProcessorRecord<T> createEventFilterRecord(EventHandler<? super T> eventFilter) {
+        if (eventFilter instanceof WeakEventHandler)
+            checkPurgeRegistration();
         return (eventFilter instanceof WeakEventHandler)
                 ? new WeakEventFilterRecord(
                 (WeakEventHandler<? super T>) eventFilter)
@@ -154,6 +201,8 @@ final class CompositeEventHandler<T extends Event> {
         public abstract void handleCapturingEvent(T event);
 
         public abstract boolean isDisconnected();
+
+        public abstract boolean isFilter(); // WebFx addition
     }
 
     private static final class NormalEventHandlerRecord<T extends Event> extends EventProcessorRecord<T> {
@@ -168,6 +217,11 @@ final class CompositeEventHandler<T extends Event> {
             return !isFilter && (this.eventHandler == eventProcessor);
         }
 
+        @Override
+        public boolean isFilter() {
+            return false;
+        }
+
         @Override
         public void handleBubblingEvent(final T event) {
             eventHandler.handle(event);
@@ -195,6 +249,11 @@ final class CompositeEventHandler<T extends Event> {
             return !isFilter && (weakEventHandler == eventProcessor);
         }
 
+        @Override
+        public boolean isFilter() {
+            return false;
+        }
+
         @Override
         public void handleBubblingEvent(final T event) {
             weakEventHandler.handle(event);
@@ -222,6 +281,11 @@ final class CompositeEventHandler<T extends Event> {
             return isFilter && (this.eventFilter == eventProcessor);
         }
 
+        @Override
+        public boolean isFilter() {
+            return true;
+        }
+
         @Override
         public void handleBubblingEvent(final T event) {
         }
@@ -249,6 +313,11 @@ final class CompositeEventHandler<T extends Event> {
             return isFilter && (weakEventFilter == eventProcessor);
         }
 
+        @Override
+        public boolean isFilter() {
+            return true;
+        }
+
         @Override
         public void handleBubblingEvent(final T event) {
         }
@@ -4,7 +4,10 @@ import javafx.event.Event;
 import javafx.event.EventHandler;
 import javafx.event.EventType;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -18,6 +21,12 @@ public class EventHandlerManager extends BasicEventDispatcher {
 
     private final Object eventSource;
 
+    // WebFx addition: the composite handlers applicable to an event type in each phase (those registered for the type
+    // itself and its super types, and having respectively filters or handlers), resolved once per event type instead
+    // of one map lookup per super type on each dispatch. Dropped on any registration change.
+    private Map<EventType<? extends Event>, List<CompositeEventHandler<? extends Event>>> capturingCache;
+    private Map<EventType<? extends Event>, List<CompositeEventHandler<? extends Event>>> bubblingCache;
+
     public EventHandlerManager(final Object eventSource) {
         this.eventSource = eventSource;
         eventHandlerMap = new HashMap<>();
@@ -37,6 +46,7 @@ public class EventHandlerManager extends BasicEventDispatcher {
 
         CompositeEventHandler<T> compositeEventHandler = createGetCompositeEventHandler(eventType);
         compositeEventHandler.addEventHandler(eventHandler);
+        invalidateResolvedCaches();
     }
 
     /**
@@ -52,8 +62,10 @@ public class EventHandlerManager extends BasicEventDispatcher {
         validateEventHandler(eventHandler);
 
         CompositeEventHandler<T> compositeEventHandler = (CompositeEventHandler<T>) eventHandlerMap.get(eventType);
-        if (compositeEventHandler != null)
+        if (compositeEventHandler != null) {
             compositeEventHandler.removeEventHandler(eventHandler);
+            removeIfEmpty(eventType, compositeEventHandler);
+        }
     }
 
     /**
@@ -70,6 +82,7 @@ public class EventHandlerManager extends BasicEventDispatcher {
 
         CompositeEventHandler<T> compositeEventHandler = createGetCompositeEventHandler(eventType);
         compositeEventHandler.addEventFilter(eventFilter);
+        invalidateResolvedCaches();
     }
 
     /**
@@ -85,8 +98,10 @@ public class EventHandlerManager extends BasicEventDispatcher {
         validateEventFilter(eventFilter);
 
         CompositeEventHandler<T> compositeEventHandler = (CompositeEventHandler<T>) eventHandlerMap.get(eventType);
-        if (compositeEventHandler != null)
+        if (compositeEventHandler != null) {
             compositeEventHandler.removeEventFilter(eventFilter);
+            removeIfEmpty(eventType, compositeEventHandler);
+        }
     }
 
     /**
@@ -111,6 +126,7 @@ public class EventHandlerManager extends BasicEventDispatcher {
         }
 
         compositeEventHandler.setEventHandler(eventHandler);
+        removeIfEmpty(eventType, compositeEventHandler);
     }
 
     public final <T extends Event> EventHandler<? super T> getEventHandler(EventType<T> eventType) {
@@ -123,26 +139,67 @@ public class EventHandlerManager extends BasicEventDispatcher {
 
     @Override
     public final Event dispatchCapturingEvent(Event event) {
-        EventType<? extends Event> eventType = event.getEventType();
-        do {
-            event = dispatchCapturingEvent(eventType, event);
-            eventType = eventType.getSuperType();
-        } while (eventType != null);
-
+        if (eventHandlerMap.isEmpty()) // WebFx addition (fast path)
+            return event;
+        List<CompositeEventHandler<? extends Event>> compositeEventHandlers = resolve(event.getEventType(), true);
+        for (int i = 0, n = compositeEventHandlers.size(); i < n; i++) {
+            event = fixEventSource(event, eventSource);
+            compositeEventHandlers.get(i).dispatchCapturingEvent(event);
+        }
         return event;
     }
 
     @Override
     public final Event dispatchBubblingEvent(Event event) {
-        EventType<? extends Event> eventType = event.getEventType();
-        do {
-            event = dispatchBubblingEvent(eventType, event);
-            eventType = eventType.getSuperType();
-        } while (eventType != null);
-
+        if (eventHandlerMap.isEmpty()) // WebFx addition (fast path)
+            return event;
+        List<CompositeEventHandler<? extends Event>> compositeEventHandlers = resolve(event.getEventType(), false);
+        for (int i = 0, n = compositeEventHandlers.size(); i < n; i++) {
+            event = fixEventSource(event, eventSource);
+            compositeEventHandlers.get(i).dispatchBubblingEvent(event);
+        }
         return event;
     }
 
+    // WebFx addition: resolves (with caching) the composite handlers to call for that event type in that phase. As a
+    // phase without filters (resp. handlers) is skipped, no event copy is made for it.
+    private List<CompositeEventHandler<? extends Event>> resolve(EventType<? extends Event> eventType, boolean capturing) {
+        Map<EventType<? extends Event>, List<CompositeEventHandler<? extends Event>>> cache = capturing ? capturingCache : bubblingCache;
+        if (cache == null) {
+            cache = new HashMap<>();
+            if (capturing)
+                capturingCache = cache;
+            else
+                bubblingCache = cache;
+        }
+        List<CompositeEventHandler<? extends Event>> resolved = cache.get(eventType);
+        if (resolved == null) {
+            List<CompositeEventHandler<? extends Event>> list = null;
+            for (EventType<? extends Event> type = eventType; type != null; type = type.getSuperType()) {
+                CompositeEventHandler<? extends Event> compositeEventHandler = eventHandlerMap.get(type);
+                if (compositeEventHandler != null && (capturing ? compositeEventHandler.hasFilter() : compositeEventHandler.hasHandler())) {
+                    if (list == null)
+                        list = new ArrayList<>(2);
+                    list.add(compositeEventHandler);
+                }
+            }
+            resolved = list == null ? Collections.emptyList() : list;
+            cache.put(eventType, resolved);
+        }
+        return resolved;
+    }
+
+    private void invalidateResolvedCaches() {
+        capturingCache = null;
+        bubblingCache = null;
+    }
+
+    private void removeIfEmpty(EventType<? extends Event> eventType, CompositeEventHandler<? extends Event> compositeEventHandler) {
+        if (compositeEventHandler.isEmpty())
+            eventHandlerMap.remove(eventType);
+        invalidateResolvedCaches();
+    }
+
     private <T extends Event> CompositeEventHandler<T>
     createGetCompositeEventHandler(final EventType<T> eventType) {
         CompositeEventHandler<T> compositeEventHandler =
@@ -159,36 +216,6 @@ public class EventHandlerManager extends BasicEventDispatcher {
         return eventSource;
     }
 
-    private Event dispatchCapturingEvent(
-            final EventType<? extends Event> handlerType, Event event) {
-        final CompositeEventHandler<? extends Event> compositeEventHandler =
-                eventHandlerMap.get(handlerType);
-
-        if (compositeEventHandler != null) {
-            // TODO: skip when no filters are registered in the
-            //       CompositeEventHandler (RT-23952)
-            event = fixEventSource(event, eventSource);
-            compositeEventHandler.dispatchCapturingEvent(event);
-        }
-
-        return event;
-    }
-
-    private Event dispatchBubblingEvent(
-            final EventType<? extends Event> handlerType, Event event) {
-        final CompositeEventHandler<? extends Event> compositeEventHandler =
-                eventHandlerMap.get(handlerType);
-
-        if (compositeEventHandler != null) {
-            // TODO: skip when no handlers are registered in the
-            //       CompositeEventHandler (RT-23952)
-            event = fixEventSource(event, eventSource);
-            compositeEventHandler.dispatchBubblingEvent(event);
-        }
-
-        return event;
-    }
-
     private static Event fixEventSource(final Event event,
                                         final Object eventSource) {
         return (event.getSource() != eventSource)
@@ -0,0 +1,125 @@
+package com.sun.javafx.ref;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A weak reference used by the emulation code in place of {@link WeakReference}. The GWT emulation of WeakReference
+ * actually holds a strong reference, so all the weak listeners would otherwise leak for the lifetime of the observable
+ * they are registered on. The actual reference is created by a {@link Backend}: the default one relies on
+ * {@link WeakReference} (so keeps the current behavior), and a platform can install a better one (ex: the GWT kit
+ * installs a backend based on the browser WeakRef when available).
+ *
+ * If the backend is notified of the garbage collections (ex: through a browser FinalizationRegistry), the registered
+ * {@link Purgeable} containers (such as the listener helpers) are asked to remove their dead elements right after
+ * a collection, without waiting for their next notification.
+ *
+ * @param <T> the type of the referent
+ */
+public final class WeakRef<T> {
+
+    /**
+     * Creates the platform references.
+     */
+    public interface Backend {
+
+        /**
+         * Returns a new platform object referencing weakly the referent.
+         */
+        Object newHandle(Object referent);
+
+        /**
+         * Returns the referent of a handle created by this backend, or null if it has been garbage collected.
+         */
+        Object deref(Object handle);
+
+        /**
+         * Returns true if this backend calls {@link WeakRef#purgeCollected()} after referents have been collected.
+         */
+        boolean notifiesCollections();
+    }
+
+    /**
+     * A container of weak elements (ex: weak listeners) that can remove those that have been garbage collected.
+     */
+    public interface Purgeable {
+
+        /**
+         * Removes the garbage collected elements. Returns true if weak elements are still present (in which case the
+         * container stays registered for the next purges), false otherwise (the container is then unregistered).
+         */
+        boolean purgeCollected();
+    }
+
+    private static final Backend JAVA_BACKEND = new Backend() {
+        @Override
+        public Object newHandle(Object referent) {
+            return new WeakReference<>(referent);
+        }
+
+        @Override
+        public Object deref(Object handle) {
+            return ((WeakReference<?>) handle).get();
+        }
+
+        @Override
+        public boolean notifiesCollections() {
+            return false;
+        }
+    };
+
+    private static Backend backend = JAVA_BACKEND;
+    private static List<WeakRef<Purgeable>> purgeables;
+
+    private final Backend handleBackend;
+    private Object handle;
+
+    public WeakRef(T referent) {
+        handleBackend = backend;
+        handle = referent == null ? null : handleBackend.newHandle(referent);
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get() {
+        return handle == null ? null : (T) handleBackend.deref(handle);
+    }
+
+    public void clear() {
+        handle = null;
+    }
+
+    public static void setBackend(Backend backend) {
+        WeakRef.backend = backend != null ? backend : JAVA_BACKEND;
+    }
+
+    /**
+     * Registers a container to be purged after garbage collections, if the backend notifies them. The container is
+     * referenced weakly. Returns true if the container has been registered.
+     */
+    public static boolean registerPurgeable(Purgeable purgeable) {
+        if (!backend.notifiesCollections())
+            return false;
+        if (purgeables == null)
+            purgeables = new ArrayList<>();
+        purgeables.add(new WeakRef<>(purgeable));
+        return true;
+    }
+
+    /**
+     * Called by the backend after a garbage collection of referents.
+     */
+    public static void purgeCollected() {
+        if (purgeables == null)
+            return;
+        int size = purgeables.size(), kept = 0;
+        for (int i = 0; i < size; i++) {
+            WeakRef<Purgeable> ref = purgeables.get(i);
+            Purgeable purgeable = ref.get();
+            if (purgeable != null && purgeable.purgeCollected())
+                purgeables.set(kept++, ref);
+        }
+        for (int i = size - 1; i >= kept; i--)
+            purgeables.remove(i);
+    }
+}
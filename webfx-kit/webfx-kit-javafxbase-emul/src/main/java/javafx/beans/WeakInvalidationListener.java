@@ -25,7 +25,7 @@
 
 package javafx.beans;
 
-import java.lang.ref.WeakReference;
+import com.sun.javafx.ref.WeakRef;
 
 /**
  * A {@code WeakInvalidationListener} can be used, if an {@link Observable}
@@ -49,7 +49,7 @@ import java.lang.ref.WeakReference;
  */
 public final class WeakInvalidationListener implements InvalidationListener, WeakListener {
 
-    private final WeakReference<InvalidationListener> ref;
+    private final WeakRef<InvalidationListener> ref;
 
     /**
      * The constructor of {@code WeakInvalidationListener}.
@@ -61,7 +61,7 @@ public final class WeakInvalidationListener implements InvalidationListener, Wea
         if (listener == null) {
             throw new NullPointerException("Listener must be specified.");
         }
-        this.ref = new WeakReference<InvalidationListener>(listener);
+        this.ref = new WeakRef<InvalidationListener>(listener);
     }
 
     /**
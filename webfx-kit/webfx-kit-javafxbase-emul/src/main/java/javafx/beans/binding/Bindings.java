@@ -36,7 +36,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.util.StringConverter;
 
-import java.lang.ref.WeakReference;
+import com.sun.javafx.ref.WeakRef;
 import java.util.concurrent.Callable;
 
 /**
@@ -315,11 +315,11 @@ public final class Bindings {
 
     private static class ShortCircuitAndInvalidator implements InvalidationListener {
 
-        private final WeakReference<BooleanAndBinding> ref;
+        private final WeakRef<BooleanAndBinding> ref;
 
         private ShortCircuitAndInvalidator(BooleanAndBinding binding) {
             assert binding != null;
-            ref = new WeakReference<>(binding);
+            ref = new WeakRef<>(binding);
         }
 
         @Override
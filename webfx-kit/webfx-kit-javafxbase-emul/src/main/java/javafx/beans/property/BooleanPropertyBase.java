@@ -8,7 +8,7 @@ import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableBooleanValue;
 import javafx.beans.value.ObservableValue;
 
-import java.lang.ref.WeakReference;
+import com.sun.javafx.ref.WeakRef;
 
 /**
  * The class {@code BooleanPropertyBase} is the base class for a property
@@ -205,10 +205,10 @@ public abstract class BooleanPropertyBase extends BooleanProperty {
 
     private static class Listener implements InvalidationListener {
 
-        private final WeakReference<BooleanPropertyBase> wref;
+        private final WeakRef<BooleanPropertyBase> wref;
 
         public Listener(BooleanPropertyBase ref) {
-            this.wref = new WeakReference<>(ref);
+            this.wref = new WeakRef<>(ref);
         }
 
         @Override
@@ -9,7 +9,7 @@ import javafx.beans.value.ObservableDoubleValue;
 import javafx.beans.value.ObservableNumberValue;
 import javafx.beans.value.ObservableValue;
 
-import java.lang.ref.WeakReference;
+import com.sun.javafx.ref.WeakRef;
 
 /**
  * The class {@code DoublePropertyBase} is the base class for a property
@@ -223,10 +223,10 @@ public abstract class DoublePropertyBase extends DoubleProperty {
 
     private static class Listener implements InvalidationListener {
 
-        private final WeakReference<DoublePropertyBase> wref;
+        private final WeakRef<DoublePropertyBase> wref;
 
         public Listener(DoublePropertyBase ref) {
-            this.wref = new WeakReference<>(ref);
+            this.wref = new WeakRef<>(ref);
         }
 
         @Override
@@ -9,7 +9,7 @@ import javafx.beans.value.ObservableIntegerValue;
 import javafx.beans.value.ObservableNumberValue;
 import javafx.beans.value.ObservableValue;
 
-import java.lang.ref.WeakReference;
+import com.sun.javafx.ref.WeakRef;
 
 /**
  * The class {@code IntegerPropertyBase} is the base class for a property
@@ -223,10 +223,10 @@ public abstract class IntegerPropertyBase extends IntegerProperty {
 
     private static class Listener implements InvalidationListener {
 
-        private final WeakReference<IntegerPropertyBase> wref;
+        private final WeakRef<IntegerPropertyBase> wref;
 
         public Listener(IntegerPropertyBase ref) {
-            this.wref = new WeakReference<>(ref);
+            this.wref = new WeakRef<>(ref);
         }
 
         @Override
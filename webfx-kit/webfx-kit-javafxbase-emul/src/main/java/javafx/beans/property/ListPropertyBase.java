@@ -8,7 +8,7 @@ import javafx.beans.value.ObservableValue;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
-import java.lang.ref.WeakReference;
+import com.sun.javafx.ref.WeakRef;
 
 /**
  * The class {@code ListPropertyBase} is the base class for a property
@@ -296,10 +296,10 @@ public abstract class ListPropertyBase<E> extends ListProperty<E> {
 
     private static class Listener<E> implements InvalidationListener {
 
-        private final WeakReference<ListPropertyBase<E>> wref;
+        private final WeakRef<ListPropertyBase<E>> wref;
 
         public Listener(ListPropertyBase<E> ref) {
-            this.wref = new WeakReference<ListPropertyBase<E>>(ref);
+            this.wref = new WeakRef<ListPropertyBase<E>>(ref);
         }
 
         @Override
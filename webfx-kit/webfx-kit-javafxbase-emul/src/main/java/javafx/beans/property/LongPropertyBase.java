@@ -35,7 +35,7 @@ import javafx.beans.value.ObservableLongValue;
 import javafx.beans.value.ObservableNumberValue;
 import javafx.beans.value.ObservableValue;
 
-import java.lang.ref.WeakReference;
+import com.sun.javafx.ref.WeakRef;
 
 /**
  * The class {@code LongPropertyBase} is the base class for a property wrapping
@@ -246,10 +246,10 @@ public abstract class LongPropertyBase extends LongProperty {
 
     private static class Listener implements InvalidationListener, WeakListener {
 
-        private final WeakReference<LongPropertyBase> wref;
+        private final WeakRef<LongPropertyBase> wref;
 
         public Listener(LongPropertyBase ref) {
-            this.wref = new WeakReference<>(ref);
+            this.wref = new WeakRef<>(ref);
         }
 
         @Override
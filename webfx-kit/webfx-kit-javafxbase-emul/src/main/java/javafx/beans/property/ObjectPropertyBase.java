@@ -31,7 +31,7 @@ import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 
 import com.sun.javafx.binding.ExpressionHelper;
-import java.lang.ref.WeakReference;
+import com.sun.javafx.ref.WeakRef;
 import javafx.beans.WeakListener;
 
 /**
@@ -219,10 +219,10 @@ public abstract class ObjectPropertyBase<T> extends ObjectProperty<T> {
 
     private static class Listener implements InvalidationListener, WeakListener {
 
-        private final WeakReference<ObjectPropertyBase<?>> wref;
+        private final WeakRef<ObjectPropertyBase<?>> wref;
 
         public Listener(ObjectPropertyBase<?> ref) {
-            this.wref = new WeakReference<ObjectPropertyBase<?>>(ref);
+            this.wref = new WeakRef<ObjectPropertyBase<?>>(ref);
         }
 
         @Override
@@ -31,7 +31,7 @@ import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 
 import com.sun.javafx.binding.ExpressionHelper;
-import java.lang.ref.WeakReference;
+import com.sun.javafx.ref.WeakRef;
 import javafx.beans.WeakListener;
 
 /**
@@ -216,10 +216,10 @@ public abstract class StringPropertyBase extends StringProperty {
 
     private static class Listener implements InvalidationListener, WeakListener {
 
-        private final WeakReference<StringPropertyBase> wref;
+        private final WeakRef<StringPropertyBase> wref;
 
         public Listener(StringPropertyBase ref) {
-            this.wref = new WeakReference<>(ref);
+            this.wref = new WeakRef<>(ref);
         }
 
         @Override
@@ -25,8 +25,18 @@
 
 package javafx.beans.value;
 
+import com.sun.javafx.binding.ConditionalBinding;
+import com.sun.javafx.binding.FlatMappedBinding;
+import com.sun.javafx.binding.MappedBinding;
+import com.sun.javafx.binding.OrElseBinding;
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
+import javafx.util.Subscription;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * An {@code ObservableValue} is an entity that wraps a value and allows to
@@ -131,4 +141,153 @@ public interface ObservableValue<T> extends Observable {
      * @return The current value
      */
     T getValue();
+
+    /**
+     * Creates an {@code ObservableValue} that holds the result of applying a
+     * mapping on this {@code ObservableValue}'s value. The result is updated
+     * when this {@code ObservableValue}'s value changes. If this value is
+     * {@code null}, no mapping is applied, and the resulting value is also
+     * {@code null}.
+     * <p>
+     * The returned {@code ObservableValue} is lazy: it only observes this
+     * {@code ObservableValue} while it is itself observed, and it computes its
+     * value only when requested.
+     *
+     * @param <U> the type of values held by the resulting {@code ObservableValue}
+     * @param mapper the mapping function to apply to a value, cannot be {@code null}
+     * @return an {@code ObservableValue} that holds the result of applying the mapping
+     *     on this {@code ObservableValue}'s value, or {@code null} when it
+     *     is {@code null}; never returns {@code null}
+     * @throws NullPointerException if the mapping function is {@code null}
+     * @since 19
+     */
+    default <U> ObservableValue<U> map(Function<? super T, ? extends U> mapper) {
+        return new MappedBinding<>(this, mapper);
+    }
+
+    /**
+     * Creates an {@code ObservableValue} that holds this value, or the given constant if
+     * it is {@code null}. The result is updated when this {@code ObservableValue}'s value
+     * changes. This method, when combined with {@link #map(Function)}, allows handling of
+     * all values including {@code null} values.
+     *
+     * @param constant the value to use when this {@code ObservableValue}
+     *     holds {@code null}; can be {@code null}
+     * @return an {@code ObservableValue} that holds this value, or the given constant if
+     *     it is {@code null}; never returns {@code null}
+     * @since 19
+     */
+    default ObservableValue<T> orElse(T constant) {
+        return new OrElseBinding<>(this, constant);
+    }
+
+    /**
+     * Creates an {@code ObservableValue} that holds the value of an {@code ObservableValue}
+     * produced by applying the given mapping function on this {@code ObservableValue}'s value.
+     * The result is updated when either this {@code ObservableValue} or the {@code ObservableValue}
+     * produced by the mapping changes. If this value is {@code null}, no mapping is applied, and
+     * the resulting value is {@code null}. If the mapping resulted in {@code null}, then the
+     * resulting value is also {@code null}.
+     *
+     * @param <U> the type of values held by the resulting {@code ObservableValue}
+     * @param mapper the mapping function to apply to a value, cannot be {@code null}
+     * @return an {@code ObservableValue} that holds the value of an {@code ObservableValue}
+     *     produced by applying the given mapping function on this value, or
+     *     {@code null} when the value is {@code null}; never returns {@code null}
+     * @throws NullPointerException if the mapping function is {@code null}
+     * @since 19
+     */
+    default <U> ObservableValue<U> flatMap(Function<? super T, ? extends ObservableValue<? extends U>> mapper) {
+        return new FlatMappedBinding<>(this, mapper);
+    }
+
+    /**
+     * Creates an {@code ObservableValue} that holds this value whenever the given
+     * condition evaluates to {@code true}, otherwise holds the last value when
+     * {@code condition} became {@code false}. The value is updated whenever this
+     * {@code ObservableValue} changes, unless the condition currently evaluates
+     * to {@code false}.
+     * <p>
+     * While the condition is {@code false}, the returned {@code ObservableValue}
+     * doesn't observe this {@code ObservableValue}, so a long-lived source doesn't
+     * keep a reference to a UI that is not currently shown (ex: a node not in the scene).
+     *
+     * @param condition a boolean {@code ObservableValue}, cannot be {@code null}
+     * @return an {@code ObservableValue} that holds this value whenever the given
+     *     condition evaluates to {@code true}, otherwise holds the last seen value;
+     *     never returns {@code null}
+     * @throws NullPointerException if the condition is {@code null}
+     * @since 20
+     */
+    default ObservableValue<T> when(ObservableValue<Boolean> condition) {
+        return new ConditionalBinding<>(this, condition);
+    }
+
+    /**
+     * Creates a {@code Subscription} on this {@code ObservableValue} which calls the given
+     * {@code changeSubscriber} with the old and new value whenever its value changes.
+     * The provided subscriber is akin to a {@code ChangeListener} without the
+     * {@code ObservableValue} parameter.
+     * <p>
+     * The parameters supplied to the {@link BiConsumer} are the old and new values,
+     * respectively.
+     * <p>
+     * Note that the same subscriber instance may be safely subscribed for
+     * different {@code Observables}.
+     * <p>
+     * Also note that when subscribing on an {@code Observable} with a longer
+     * lifecycle than the subscriber, the subscriber must be unsubscribed
+     * when no longer needed as the subscription will keep the subscriber
+     * from being garbage collected.
+     *
+     * @param changeSubscriber a {@code BiConsumer} to supply with the old and new values
+     *     of this {@code ObservableValue}, cannot be {@code null}
+     * @return a {@code Subscription} which can be used to cancel this
+     *     subscription, never {@code null}
+     * @throws NullPointerException if the subscriber is {@code null}
+     * @see #addListener(ChangeListener)
+     * @since 21
+     */
+    default Subscription subscribe(BiConsumer<? super T, ? super T> changeSubscriber) {
+        Objects.requireNonNull(changeSubscriber, "changeSubscriber cannot be null");
+        ChangeListener<T> listener = (obs, old, current) -> changeSubscriber.accept(old, current);
+
+        addListener(listener);
+
+        return () -> removeListener(listener);
+    }
+
+    /**
+     * Creates a {@code Subscription} on this {@code ObservableValue} which immediately
+     * provides the current value to the given {@code valueSubscriber}, followed by any
+     * subsequent values whenever its value changes. The {@code valueSubscriber} is called
+     * immediately for convenience, since usually the user will want to initialize a value
+     * when subscribing, for example:
+     * <pre>{@code
+     * label.textProperty().subscribe(text -> updateIcon(text)); }</pre>
+     * <p>
+     * Note that the same subscriber instance may be safely subscribed for
+     * different {@code Observables}.
+     * <p>
+     * Also note that when subscribing on an {@code Observable} with a longer
+     * lifecycle than the subscriber, the subscriber must be unsubscribed
+     * when no longer needed as the subscription will keep the subscriber
+     * from being garbage collected.
+     *
+     * @param valueSubscriber a {@code Consumer} to supply with the values of this
+     *     {@code ObservableValue}, cannot be {@code null}
+     * @return a {@code Subscription} which can be used to cancel this
+     *     subscription, never {@code null}
+     * @throws NullPointerException if the subscriber is {@code null}
+     * @since 21
+     */
+    default Subscription subscribe(Consumer<? super T> valueSubscriber) {
+        Objects.requireNonNull(valueSubscriber, "valueSubscriber cannot be null");
+        ChangeListener<T> listener = (obs, old, current) -> valueSubscriber.accept(current);
+
+        valueSubscriber.accept(getValue());  // eagerly send current value
+        addListener(listener);
+
+        return () -> removeListener(listener);
+    }
 }
@@ -28,7 +28,7 @@ package javafx.beans.value;
 import javafx.beans.NamedArg;
 import javafx.beans.WeakListener;
 
-import java.lang.ref.WeakReference;
+import com.sun.javafx.ref.WeakRef;
 
 /**
  * A {@code WeakChangeListener} can be used, if an {@link ObservableValue}
@@ -55,7 +55,7 @@ import java.lang.ref.WeakReference;
  */
 public final class WeakChangeListener<T> implements ChangeListener<T>, WeakListener {
 
-    private final WeakReference<ChangeListener<T>> ref;
+    private final WeakRef<ChangeListener<T>> ref;
 
     /**
      * The constructor of {@code WeakChangeListener}.
@@ -67,7 +67,7 @@ public final class WeakChangeListener<T> implements ChangeListener<T>, WeakListe
         if (listener == null) {
             throw new NullPointerException("Listener must be specified.");
         }
-        this.ref = new WeakReference<ChangeListener<T>>(listener);
+        this.ref = new WeakRef<ChangeListener<T>>(listener);
     }
 
     /**
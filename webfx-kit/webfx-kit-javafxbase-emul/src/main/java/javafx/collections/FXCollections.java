@@ -31,6 +31,7 @@ import javafx.beans.Observable;
 import javafx.util.Callback;
 
 import java.util.*;
+import java.util.function.BiPredicate;
 
 /**
  * Utility class that consists of static methods that are 1:1 copies of java.util.Collections methods.
@@ -210,6 +211,68 @@ public class FXCollections {
         return observableMap(new HashMap<K, V>());
     }
 
+    /**
+     * Creates a new empty {@link ObservableIntegerArray}.
+     * @return a newly created ObservableIntegerArray
+     * @since JavaFX 8.0
+     */
+    public static ObservableIntegerArray observableIntegerArray() {
+        return new ObservableIntegerArrayImpl();
+    }
+
+    /**
+     * Creates a new {@link ObservableIntegerArray} with {@code values}
+     * set to it.
+     * @param values the values that will be in the new observable array
+     * @return a newly created ObservableIntegerArray
+     * @since JavaFX 8.0
+     */
+    public static ObservableIntegerArray observableIntegerArray(int... values) {
+        return new ObservableIntegerArrayImpl(values);
+    }
+
+    /**
+     * Creates a new {@link ObservableIntegerArray} with copy of elements in given
+     * {@code array}.
+     * @param array observable integer array to copy
+     * @return a newly created ObservableIntegerArray
+     * @since JavaFX 8.0
+     */
+    public static ObservableIntegerArray observableIntegerArray(ObservableIntegerArray array) {
+        return new ObservableIntegerArrayImpl(array);
+    }
+
+    /**
+     * Creates a new empty {@link ObservableFloatArray}.
+     * @return a newly created ObservableFloatArray
+     * @since JavaFX 8.0
+     */
+    public static ObservableFloatArray observableFloatArray() {
+        return new ObservableFloatArrayImpl();
+    }
+
+    /**
+     * Creates a new {@link ObservableFloatArray} with {@code values}
+     * set to it.
+     * @param values the values that will be in the new observable array
+     * @return a newly created ObservableFloatArray
+     * @since JavaFX 8.0
+     */
+    public static ObservableFloatArray observableFloatArray(float... values) {
+        return new ObservableFloatArrayImpl(values);
+    }
+
+    /**
+     * Creates a new {@link ObservableFloatArray} with copy of elements in given
+     * {@code array}.
+     * @param array observable float array to copy
+     * @return a newly created ObservableFloatArray
+     * @since JavaFX 8.0
+     */
+    public static ObservableFloatArray observableFloatArray(ObservableFloatArray array) {
+        return new ObservableFloatArrayImpl(array);
+    }
+
     /**
      * Concatenates more observable lists into one. The resulting list
      * would be backed by an arraylist.
@@ -482,6 +545,71 @@ public class FXCollections {
         }
     }
 
+    /**
+     * Replaces the content of the list with the new elements like {@link ObservableList#setAll(Collection)}, but
+     * reports only the actual differences: the old and new contents are compared (longest common subsequence, with a
+     * linear fast path for the common prefix and suffix) and only the minimal removals and additions are applied, all
+     * in <b>one</b> change notification (for the lists created by FXCollections). So the listeners do work proportional
+     * to the delta rather than to the list size. The kept elements keep their old instance (they are equal to the new
+     * ones).
+     * @param <E> The type of List
+     * @param list the list to update
+     * @param newElements the new content of the list
+     * @return true if the list was modified
+     */
+    public static <E> boolean setAllDiffed(ObservableList<E> list, Collection<? extends E> newElements) { // WebFx addition
+        return setAllDiffed(list, newElements, null);
+    }
+
+    /**
+     * Same as {@link #setAllDiffed(ObservableList, Collection)} but with a custom equality (ex: comparing the elements
+     * identifiers), in which case a kept element that is not equal (with {@code equals()}) to its new element is
+     * replaced by the new one.
+     * @param <E> The type of List
+     * @param list the list to update
+     * @param newElements the new content of the list
+     * @param equality the predicate telling if an old element and a new element match (null for {@code equals()})
+     * @return true if the list was modified
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> boolean setAllDiffed(ObservableList<E> list, Collection<? extends E> newElements, BiPredicate<? super E, ? super E> equality) { // WebFx addition
+        Object[] oldArray = list.toArray();
+        Object[] newArray = newElements.toArray();
+        byte[] script = ListDiff.computeEditScript(oldArray, newArray, equality);
+        // All the operations below are reported as one single change if the list is an ObservableListBase
+        ObservableListBase<E> base = list instanceof ObservableListBase ? (ObservableListBase<E>) list : null;
+        if (base != null)
+            base.beginChange();
+        boolean modified = false;
+        try {
+            int index = 0, oldIndex = 0, newIndex = 0;
+            for (byte step : script) {
+                switch (step) {
+                    case ListDiff.KEEP:
+                        Object oldElement = oldArray[oldIndex++], newElement = newArray[newIndex++];
+                        if (equality != null && oldElement != newElement && (oldElement == null || !oldElement.equals(newElement))) {
+                            list.set(index, (E) newElement);
+                            modified = true;
+                        }
+                        index++;
+                        break;
+                    case ListDiff.REMOVE:
+                        list.remove(index);
+                        oldIndex++;
+                        modified = true;
+                        break;
+                    default: // INSERT
+                        list.add(index++, (E) newArray[newIndex++]);
+                        modified = true;
+                }
+            }
+        } finally {
+            if (base != null)
+                base.endChange();
+        }
+        return modified;
+    }
+
     private static class EmptyObservableList<E> extends AbstractList<E> implements ObservableList<E> {
 
         private static final ListIterator iterator = new ListIterator() {
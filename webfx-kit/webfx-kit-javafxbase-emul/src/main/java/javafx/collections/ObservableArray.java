@@ -0,0 +1,63 @@
+package javafx.collections;
+
+import javafx.beans.Observable;
+
+/**
+ * {@code ObservableArray} is an array that allows listeners to track changes
+ * when they occur. To achieve that internal array is encapsulated and there is
+ * no direct access available from outside. Bulk operations are supported but
+ * they always do copy of the data range.
+ *
+ * @see ArrayChangeListener
+ * @param <T> actual array instance type
+ * @since JavaFX 8.0
+ */
+public interface ObservableArray<T extends ObservableArray<T>> extends Observable {
+
+    /**
+     * Add a listener to this observable array.
+     * @param listener the listener for listening to the array changes
+     */
+    public void addListener(ArrayChangeListener<T> listener);
+
+    /**
+     * Tries to removed a listener from this observable array. If the listener is not
+     * attached to this array, nothing happens.
+     * @param listener a listener to remove
+     */
+    public void removeListener(ArrayChangeListener<T> listener);
+
+    /**
+     * Sets new length of data in this array. This method ensures capacity for
+     * the new array length but never reduces the capacity. The new elements are
+     * set to zero.
+     * @param size new length of data in this array
+     * @throws NegativeArraySizeException if size is negative
+     */
+    public void resize(int size);
+
+    /**
+     * Grows the capacity of this array if the current capacity is less than
+     * given {@code capacity}, does nothing if it already exceeds
+     * the {@code capacity}.
+     * @param capacity the capacity
+     */
+    public void ensureCapacity(int capacity);
+
+    /**
+     * Shrinks the capacity to the current size of data in the array.
+     */
+    public void trimToSize();
+
+    /**
+     * Empties the array by resizing it to 0. Capacity is not changed.
+     * @see #trimToSize()
+     */
+    public void clear();
+
+    /**
+     * Retrieves length of data in this array.
+     * @return length of data in this array
+     */
+    public int size();
+}
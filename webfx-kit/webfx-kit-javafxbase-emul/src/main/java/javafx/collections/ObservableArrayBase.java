@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2013, 2014, Oracle and/or its affiliates. All rights reserved.
+ * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package javafx.collections;
+
+import com.sun.javafx.collections.ArrayListenerHelper;
+import javafx.beans.InvalidationListener;
+
+/**
+ * Abstract class that serves as a base class for {@link ObservableArray} implementations.
+ * Base class provides listener handling functionality for {@link ObservableArray}.
+ * Subclasses have to call {@link #fireChange} when the array content or size has changed.
+ * @param <T> actual array instance type
+ * @since JavaFX 8.0
+ */
+public abstract class ObservableArrayBase<T extends ObservableArray<T>> implements ObservableArray<T> {
+
+    private ArrayListenerHelper<T> listenerHelper;
+
+    @Override public final void addListener(InvalidationListener listener) {
+        listenerHelper = ArrayListenerHelper.<T>addListener(listenerHelper, listener);
+    }
+
+    @Override public final void removeListener(InvalidationListener listener) {
+        listenerHelper = ArrayListenerHelper.removeListener(listenerHelper, listener);
+    }
+
+    @Override public final void removeListener(ArrayChangeListener<T> listener) {
+        listenerHelper = ArrayListenerHelper.removeListener(listenerHelper, listener);
+    }
+
+    @Override public final void addListener(ArrayChangeListener<T> listener) {
+        listenerHelper = ArrayListenerHelper.addListener(listenerHelper, listener);
+    }
+
+    /**
+     * Notifies all listeners of a change
+     * @param sizeChanged indicates size of array changed
+     * @param from A beginning (inclusive) of an interval related to the change
+     * @param to A end (exclusive) of an interval related to the change.
+     */
+    @SuppressWarnings("unchecked")
+    protected final void fireChange(boolean sizeChanged, int from, int to) {
+        ArrayListenerHelper.fireValueChangedEvent(listenerHelper, (T) this, sizeChanged, from, to);
+    }
+}
@@ -29,11 +29,13 @@ package javafx.collections;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Predicate;
 
 import javafx.beans.Observable;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
+import javafx.util.Subscription;
 
 /**
  * A list that allows listeners to track changes when they occur.
@@ -125,6 +127,21 @@ public interface ObservableList<E> extends List<E>, Observable {
         return new SortedList<>(this, comparator);
     }
 
+    /**
+     * Creates a {@code Subscription} on this list which calls the given
+     * {@code changeSubscriber} with every list change. This is the same as
+     * {@link #addListener(ListChangeListener)}, except that the subscriber doesn't
+     * need to be kept to stop listening: the returned {@code Subscription} does it.
+     * @param changeSubscriber the listener for listening to the list changes, cannot be {@code null}
+     * @return a {@code Subscription} which can be used to cancel this subscription, never {@code null}
+     * @throws NullPointerException if the subscriber is {@code null}
+     */
+    public default Subscription subscribe(ListChangeListener<? super E> changeSubscriber) { // WebFx addition
+        Objects.requireNonNull(changeSubscriber, "changeSubscriber cannot be null");
+        addListener(changeSubscriber);
+        return () -> removeListener(changeSubscriber);
+    }
+
     /**
      * Creates a {@link SortedList} wrapper of this list with the natural
      * ordering.
@@ -28,7 +28,7 @@ package javafx.collections;
 import javafx.beans.NamedArg;
 import javafx.beans.WeakListener;
 
-import java.lang.ref.WeakReference;
+import com.sun.javafx.ref.WeakRef;
 
 /**
  * A {@code WeakListChangeListener} can be used, if an {@link ObservableList}
@@ -55,7 +55,7 @@ import java.lang.ref.WeakReference;
  */
 public final class WeakListChangeListener<E> implements ListChangeListener<E>, WeakListener {
 
-    private final WeakReference<ListChangeListener<E>> ref;
+    private final WeakRef<ListChangeListener<E>> ref;
 
     /**
      * The constructor of {@code WeakListChangeListener}.
@@ -67,7 +67,7 @@ public final class WeakListChangeListener<E> implements ListChangeListener<E>, W
         if (listener == null) {
             throw new NullPointerException("Listener must be specified.");
         }
-        this.ref = new WeakReference<ListChangeListener<E>>(listener);
+        this.ref = new WeakRef<ListChangeListener<E>>(listener);
     }
 
     /**
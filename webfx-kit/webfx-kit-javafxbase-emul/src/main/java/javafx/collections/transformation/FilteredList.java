@@ -52,6 +52,25 @@ public final class FilteredList<E> extends TransformationList<E, E>{
     private SortHelper helper;
     private static final Predicate ALWAYS_TRUE = t -> true;
 
+    /**
+     * Tells how a new predicate relates to the previous one, so that the list doesn't need to re-test all the source
+     * elements (see {@link #setPredicate(Predicate, Refinement)}).
+     */
+    public enum Refinement { // WebFx addition
+        /**
+         * The new predicate accepts only elements that were accepted by the previous one (ex: a longer search text), so
+         * only the currently included elements need to be re-tested.
+         */
+        NARROWING,
+        /**
+         * The new predicate accepts all the elements accepted by the previous one (ex: a shorter search text), so only
+         * the currently excluded elements need to be tested.
+         */
+        WIDENING
+    }
+
+    private Refinement pendingRefinement; // WebFx addition
+
     /**
      * Constructs a new FilteredList wrapper around the source list.
      * The provided predicate will match the elements in the source list that will be visible.
@@ -96,7 +115,15 @@ public final class FilteredList<E> extends TransformationList<E, E>{
             predicate = new ObjectPropertyBase<Predicate<? super E>>() {
                 @Override
                 protected void invalidated() {
-                    refilter();
+                    Refinement refinement = pendingRefinement;
+                    pendingRefinement = null;
+                    if (refinement == Refinement.NARROWING) {
+                        refilterNarrowing();
+                    } else if (refinement == Refinement.WIDENING) {
+                        refilterWidening();
+                    } else {
+                        refilter();
+                    }
                 }
 
                 @Override
@@ -122,6 +149,21 @@ public final class FilteredList<E> extends TransformationList<E, E>{
         predicateProperty().set(predicate);
     }
 
+    /**
+     * Sets a new predicate known to be a refinement of the current one. The caller is responsible for that guarantee,
+     * otherwise the content of the list will be wrong. Only the elements that the refinement can affect are tested,
+     * and only the actual removals (narrowing) or additions (widening) are reported to the listeners. A null
+     * refinement is equivalent to {@link #setPredicate(Predicate)}.
+     */
+    public final void setPredicate(Predicate<? super E> predicate, Refinement refinement) { // WebFx addition
+        ObjectProperty<Predicate<? super E>> predicateProperty = predicateProperty();
+        if (!predicateProperty.isBound()) {
+            pendingRefinement = refinement;
+        }
+        predicateProperty.set(predicate);
+        pendingRefinement = null;
+    }
+
     private Predicate<? super E> getPredicateImpl() {
         if (getPredicate() != null) {
             return getPredicate();
@@ -314,6 +356,48 @@ public final class FilteredList<E> extends TransformationList<E, E>{
         }
     }
 
+    // WebFx addition: re-testing only the included elements
+    private void refilterNarrowing() {
+        Predicate<? super E> pred = getPredicateImpl();
+        ObservableList<? extends E> source = getSource();
+        beginChange();
+        int newSize = 0;
+        for (int i = 0; i < size; ++i) {
+            int sourceIndex = filtered[i];
+            E e = source.get(sourceIndex);
+            if (pred.test(e)) {
+                filtered[newSize++] = sourceIndex;
+            } else {
+                nextRemove(newSize, e);
+            }
+        }
+        size = newSize;
+        endChange();
+    }
+
+    // WebFx addition: testing only the excluded elements
+    private void refilterWidening() {
+        Predicate<? super E> pred = getPredicateImpl();
+        ObservableList<? extends E> source = getSource();
+        int[] newFiltered = new int[Math.max(filtered.length, source.size())];
+        beginChange();
+        int newSize = 0, oldPos = 0, i = 0;
+        for (Iterator<? extends E> it = source.iterator(); it.hasNext(); ++i) {
+            E e = it.next();
+            if (oldPos < size && filtered[oldPos] == i) {
+                newFiltered[newSize++] = i;
+                ++oldPos;
+            } else if (pred.test(e)) {
+                newFiltered[newSize] = i;
+                nextAdd(newSize, newSize + 1);
+                ++newSize;
+            }
+        }
+        filtered = newFiltered;
+        size = newSize;
+        endChange();
+    }
+
     @SuppressWarnings("unchecked")
     private void refilter() {
         ensureSize(getSource().size());
@@ -70,10 +70,9 @@ public final class SortedList<E> extends TransformationList<E, E>{
      * @param source a list to wrap
      * @param comparator a comparator to use or null for unordered List
      */
-    @SuppressWarnings("unchecked")
     public SortedList(@NamedArg("source") ObservableList<? extends E> source, @NamedArg("comparator") Comparator<? super E> comparator) {
         super(source);
-        sorted = (Element<E>[]) new Element[source.size() *3/2 + 1];
+        sorted = newElementArray(source.size() *3/2 + 1);
         perm = new int[sorted.length];
         size = source.size();
         for (int i = 0; i < size; ++i) {
@@ -301,9 +300,15 @@ public final class SortedList<E> extends TransformationList<E, E>{
 
     }
 
+    // WebFx addition: single place for the unchecked creation of the generic arrays
+    @SuppressWarnings("unchecked")
+    private static <E> Element<E>[] newElementArray(int length) {
+        return (Element<E>[]) new Element[length];
+    }
+
     private void ensureSize(int size) {
         if (sorted.length < size) {
-            Element<E>[] replacement = new Element[size * 3/2 + 1];
+            Element<E>[] replacement = newElementArray(size * 3/2 + 1);
             System.arraycopy(sorted, 0, replacement, 0, this.size);
             sorted = replacement;
             int[] replacementPerm = new int[size * 3/2 + 1];
@@ -401,6 +406,8 @@ public final class SortedList<E> extends TransformationList<E, E>{
         if (size == 0) {
             setAllToMapping(c.getList(), c.getTo()); // This is basically equivalent to getAddedSubList
                                                      // as size is 0, only valid "from" is also 0
+        } else if (c.getAddedSize() > 1) { // WebFx addition
+            insertAllToMapping(c.getList(), c.getFrom(), c.getTo());
         } else {
             for (int i = c.getFrom(), to = c.getTo(); i < to; ++i) {
                 insertToMapping(c.getList().get(i), i);
@@ -408,5 +415,39 @@ public final class SortedList<E> extends TransformationList<E, E>{
         }
     }
 
+    // WebFx addition: bulk insertion of k added elements in O(n + k.log(k)) instead of O(k.n). The added elements are
+    // sorted first and then merged with the already sorted ones in a single pass, which reports only additions.
+    private void insertAllToMapping(List<? extends E> list, int from, int to) {
+        int k = to - from;
+        ensureSize(size + k);
+        for (int i = 0; i < size; ++i) {
+            if (sorted[i].index >= from) {
+                sorted[i].index += k;
+            }
+        }
+        Element<E>[] added = newElementArray(k);
+        for (int i = 0; i < k; ++i) {
+            added[i] = new Element<>(list.get(from + i), from + i);
+        }
+        Arrays.sort(added, elementComparator);
+        Element<E>[] merged = newElementArray(sorted.length);
+        int i = 0, j = 0, pos = 0;
+        while (j < k) {
+            if (i < size && elementComparator.compare(sorted[i], added[j]) <= 0) {
+                merged[pos++] = sorted[i++];
+            } else {
+                merged[pos] = added[j++];
+                nextAdd(pos, pos + 1);
+                pos++;
+            }
+        }
+        System.arraycopy(sorted, i, merged, pos, size - i);
+        sorted = merged;
+        size += k;
+        for (int p = 0; p < size; ++p) {
+            perm[sorted[p].index] = p;
+        }
+    }
+
 
 }
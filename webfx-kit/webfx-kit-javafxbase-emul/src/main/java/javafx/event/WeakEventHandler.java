@@ -25,7 +25,7 @@
 
 package javafx.event;
 
-import java.lang.ref.WeakReference;
+import com.sun.javafx.ref.WeakRef;
 import javafx.beans.NamedArg;
 
 /**
@@ -43,7 +43,7 @@ import javafx.beans.NamedArg;
  */
 public final class WeakEventHandler<T extends Event>
         implements EventHandler<T> {
-    private final WeakReference<EventHandler<T>> weakRef;
+    private final WeakRef<EventHandler<T>> weakRef;
 
     /**
      * Creates a new instance of {@code WeakEventHandler}.
@@ -52,7 +52,7 @@ public final class WeakEventHandler<T extends Event>
      *      notifications
      */
     public WeakEventHandler(final @NamedArg("eventHandler") EventHandler<T> eventHandler) {
-        weakRef = new WeakReference<EventHandler<T>>(eventHandler);
+        weakRef = new WeakRef<EventHandler<T>>(eventHandler);
     }
 
     /**
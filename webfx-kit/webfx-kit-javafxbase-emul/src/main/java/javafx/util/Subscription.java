@@ -0,0 +1,70 @@
+package javafx.util;
+
+import java.util.Objects;
+
+/**
+ * A subscription encapsulates how to cancel it without having
+ * to keep track of how it was created.<p>
+ *
+ * For example:<p>
+ * <pre>Subscription s = property.subscribe(System.out::println)</pre>
+ * The function passed in to {@code subscribe} does not need to be stored
+ * in order to clean up the subscription later.
+ *
+ * @since 21
+ */
+@FunctionalInterface
+public interface Subscription {
+
+    /**
+     * An empty subscription. Does nothing when cancelled.
+     */
+    Subscription EMPTY = () -> {};
+
+    /**
+     * Returns a {@code Subscription} which combines all of the given
+     * subscriptions.
+     *
+     * @param subscriptions an array of subscriptions to combine, cannot be {@code null} or contain {@code null}
+     * @return a {@code Subscription}, never {@code null}
+     * @throws NullPointerException when {@code subscriptions} is {@code null} or contains {@code null}
+     */
+    static Subscription combine(Subscription... subscriptions) {
+        for (Subscription subscription : subscriptions)
+            Objects.requireNonNull(subscription, "subscriptions cannot contain null");
+
+        return () -> {
+            for (Subscription subscription : subscriptions)
+                subscription.unsubscribe();
+        };
+    }
+
+    /**
+     * Cancels this subscription, or does nothing if already cancelled.
+     * <p>
+     * Implementors must ensure the implementation is idempotent (a no-op
+     * if called multiple times).
+     */
+    void unsubscribe();
+
+    /**
+     * Combines this {@link Subscription} with the given {@code Subscription}
+     * and returns a new {@code Subscription} which will cancel both when
+     * cancelled.
+     * <p>
+     * This is equivalent to {@code Subscription.combine(this, other)}.
+     *
+     * @param other another {@link Subscription}, cannot be {@code null}
+     * @return a combined {@link Subscription} which will cancel both when
+     *     cancelled, never {@code null}
+     * @throws NullPointerException when {@code other} is {@code null}
+     */
+    default Subscription and(Subscription other) {
+        Objects.requireNonNull(other, "other cannot be null");
+
+        return () -> {
+            unsubscribe();
+            other.unsubscribe();
+        };
+    }
+}
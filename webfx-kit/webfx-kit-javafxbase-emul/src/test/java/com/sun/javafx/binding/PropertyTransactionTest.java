@@ -0,0 +1,62 @@
+package com.sun.javafx.binding;
+
+import javafx.beans.binding.IntegerBinding;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Bruno Salmon
+ */
+public class PropertyTransactionTest {
+
+    @Test
+    public void bindingDependingOnSeveralPropertiesIsRecomputedOnce() {
+        IntegerProperty a = new SimpleIntegerProperty(1), b = new SimpleIntegerProperty(2);
+        int[] computeCount = {0};
+        IntegerBinding sum = new IntegerBinding() {
+            { bind(a, b); }
+
+            @Override
+            protected int computeValue() {
+                computeCount[0]++;
+                return a.get() + b.get();
+            }
+        };
+        int[] changeCount = {0};
+        sum.addListener((observable, oldValue, newValue) -> changeCount[0]++);
+        computeCount[0] = 0;
+        PropertyTransaction.run(() -> {
+            a.set(10);
+            b.set(20);
+        });
+        assertEquals(30, sum.get());
+        assertEquals(1, computeCount[0]);
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void propertyInvalidatedAgainDuringCommitNotifiesItsDependentsAgain() {
+        IntegerProperty p = new SimpleIntegerProperty(0);
+        IntegerBinding dependent = new IntegerBinding() {
+            { bind(p); }
+
+            @Override
+            protected int computeValue() {
+                return p.get() + 1;
+            }
+        };
+        dependent.get(); // validating the binding
+        // Listener validating the dependent binding and then writing the property again
+        p.addListener(observable -> {
+            if (p.get() == 1) {
+                dependent.get();
+                p.set(2);
+            }
+        });
+        PropertyTransaction.run(() -> p.set(1));
+        assertEquals(3, dependent.get());
+    }
+}
@@ -49,7 +49,10 @@ import javafx.scene.shape.*;
 import javafx.stage.Window;
 import javafx.util.Duration;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -237,7 +240,16 @@ public class ContextMenuContent extends Region {
     private void updateVisualItems() {
         ObservableList<Node> itemsContainerChilder = itemsContainer.getChildren();
 
-        disposeVisualItems();
+        // WebFx addition: the existing item containers are reused when their menu item is still present, so that
+        // showing again a context menu after an items change only creates (and binds peers for) the new items.
+        Map<MenuItem, MenuItemContainer> reusableContainers = new HashMap<>();
+        for (Node n : itemsContainerChilder) {
+            if (n instanceof MenuItemContainer) {
+                MenuItemContainer container = (MenuItemContainer) n;
+                reusableContainers.put(container.getItem(), container);
+            }
+        }
+        List<Node> newChildren = new ArrayList<>(getItems().size());
 
         for (int row = 0; row < getItems().size(); row++) {
             final MenuItem item = getItems().get(row);
@@ -252,18 +264,31 @@ public class ContextMenuContent extends Region {
                 // intend to style the background differently.
                 Node node = ((CustomMenuItem) item).getContent();
                 node.visibleProperty().bind(item.visibleProperty());
-                itemsContainerChilder.add(node);
+                newChildren.add(node);
                 // Add the (separator) menu item to properties map of this node.
                 // Special casing this for separator :
                 // This allows associating this container with SeparatorMenuItem.
                 node.getProperties().put(MenuItem.class, item);
             } else {
-                MenuItemContainer menuItemContainer = new MenuItemContainer(item);
-                menuItemContainer.visibleProperty().bind(item.visibleProperty());
-                itemsContainerChilder.add(menuItemContainer);
+                MenuItemContainer menuItemContainer = reusableContainers.remove(item);
+                if (menuItemContainer == null) {
+                    menuItemContainer = new MenuItemContainer(item);
+                    menuItemContainer.visibleProperty().bind(item.visibleProperty());
+                }
+                newChildren.add(menuItemContainer);
             }
         }
 
+        // Disposing the containers of the removed items
+        for (MenuItemContainer container : reusableContainers.values()) {
+            container.visibleProperty().unbind();
+            container.dispose();
+        }
+        // Touching the children list (and therefore the DOM) only if the items order has actually changed
+        if (!itemsContainerChilder.equals(newChildren)) {
+            itemsContainerChilder.setAll(newChildren);
+        }
+
         // Add the Menu to properties map of this skin. Used by QA for testing
         // This enables associating a parent menu for this skin showing menu items.
         if (getItems().size() > 0) {
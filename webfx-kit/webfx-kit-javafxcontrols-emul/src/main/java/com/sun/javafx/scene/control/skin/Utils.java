@@ -2,7 +2,15 @@ package com.sun.javafx.scene.control.skin;
 
 import javafx.geometry.HPos;
 import javafx.geometry.VPos;
+import javafx.scene.control.OverrunStyle;
 import javafx.scene.text.Font;
+import javafx.scene.text.TextBoundsType;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static javafx.scene.control.OverrunStyle.*;
 
 /**
  * BE REALLY CAREFUL WITH RESTORING OR RESETTING STATE OF helper NODE AS LEFTOVER
@@ -101,377 +109,410 @@ public class Utils {
     }
 */
 
-/*
-    static String computeClippedText(Font font, String text, double width,
-                                     OverrunStyle type, String ellipsisString) {
+    /* The emulation doesn't have a TextLayout to measure text, so the clipping
+     * engine below relies on a TextMeasurer provided by the caller (typically
+     * the skin measuring through its own Text node). As each measure may cost a
+     * browser reflow, the engine keeps the number of measures low by:
+     * - memoizing the widths of the text prefixes and suffixes per (text, font),
+     * - using binary searches over these widths instead of linear scans,
+     * - memoizing the clipped results per (text, font, width bucket, overrun style).
+     * The width bucket is the available width floored to the pixel, and the
+     * clipping is computed for that bucket width so the result is valid for
+     * any width of the bucket. Only the measured values are memoized (never the
+     * measurer), so the caches don't keep any skin alive, and they are cleared
+     * when the text metrics are invalidated (see Font.impl_invalidateMetrics()).
+     */
+
+    public interface TextMeasurer {
+
+        double computeTextWidth(Font font, String text, double wrappingWidth);
+
+        double computeTextHeight(Font font, String text, double wrappingWidth, TextBoundsType boundsType);
+
+    }
+
+    private static final int MAX_CACHED_TEXT_WIDTHS = 1024;
+    private static final int MAX_CACHED_CLIPPED_TEXTS = 1024;
+
+    private static final Map<TextKey, TextWidths> textWidthsCache = new LinkedHashMap<TextKey, TextWidths>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<TextKey, TextWidths> eldest) {
+            return size() > MAX_CACHED_TEXT_WIDTHS;
+        }
+    };
+
+    private static final Map<ClipKey, String> clippedTextCache = new LinkedHashMap<ClipKey, String>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ClipKey, String> eldest) {
+            return size() > MAX_CACHED_CLIPPED_TEXTS;
+        }
+    };
+
+    private static int cachesMetricsRevision = Font.impl_getMetricsRevision();
+
+    private static void checkTextMeasureCaches() {
+        int metricsRevision = Font.impl_getMetricsRevision();
+        if (cachesMetricsRevision != metricsRevision) {
+            textWidthsCache.clear();
+            clippedTextCache.clear();
+            cachesMetricsRevision = metricsRevision;
+        }
+    }
+
+    /**
+     * Returns a stamp that changes each time the memoized text measures become obsolete (ex: when a font or a css
+     * file has been loaded), so callers keeping their own clipped text can detect when it needs to be recomputed.
+     */
+    public static int getTextMeasureStamp() {
+        return Font.impl_getMetricsRevision();
+    }
+
+    public static String computeClippedText(Font font, String text, double width,
+                                            OverrunStyle type, String ellipsisString, TextMeasurer measurer) {
         if (font == null) {
             throw new IllegalArgumentException("Must specify a font");
         }
-        OverrunStyle style = (type == null || type == CLIP) ? ELLIPSIS : type;
-        final String ellipsis = (type == CLIP) ? "" : ellipsisString;
-        // if the text is empty or null or no ellipsis, then it always fits
+        // if the text is empty or null, then it always fits
         if (text == null || "".equals(text)) {
             return text;
         }
+        checkTextMeasureCaches();
+        final TextWidths textWidths = getTextWidths(font, text);
         // if the string width is < the available width, then it fits and
         // doesn't need to be clipped.  We use a double point comparison
         // of 0.001 (1/1000th of a pixel) to account for any numerical
         // discrepancies introduced when the available width was calculated.
-        // MenuItemSkinBase.doLayout, for example, does a number of double
-        // point operations when computing the available width.
-        final double stringWidth = computeTextWidth(font, text, 0);
-        if (stringWidth - width < 0.0010F) {
+        if (textWidths.prefixWidth(text.length(), measurer) - width < 0.0010F) {
             return text;
         }
-        // the width used by the ellipsis string
-        final double ellipsisWidth = computeTextWidth(font, ellipsis, 0);
-        // the available maximum width to fit chars into. This is essentially
-        // the width minus the space required for the ellipsis string
-        final double availableWidth = width - ellipsisWidth;
+        final OverrunStyle style = (type == null || type == CLIP) ? ELLIPSIS : type;
+        final String ellipsis = (type == CLIP) ? "" : ellipsisString;
+        final ClipKey key = new ClipKey(text, font, Math.floor(width), -1, style, ellipsis, null);
+        String result = clippedTextCache.get(key);
+        if (result == null) {
+            result = clipText(font, textWidths, key.width, style, ellipsis, measurer);
+            clippedTextCache.put(key, result);
+        }
+        return result;
+    }
 
+    private static String clipText(Font font, TextWidths textWidths, double width,
+                                   OverrunStyle style, String ellipsis, TextMeasurer measurer) {
+        final String text = textWidths.text;
+        final int len = text.length();
+        // the width used by the ellipsis string
+        final double ellipsisWidth = ellipsis.isEmpty() ? 0 : getTextWidths(font, ellipsis).prefixWidth(ellipsis.length(), measurer);
         if (width < ellipsisWidth) {
             // The ellipsis doesn't fit.
             return "";
         }
+        // the available maximum width to fit chars into. This is essentially
+        // the width minus the space required for the ellipsis string
+        final double availableWidth = width - ellipsisWidth;
 
-        // if we got here, then we must clip the text with an ellipsis.
-        // this can be pretty expensive depending on whether "complex" text
-        // layout needs to be taken into account. So each ellipsis option has
-        // to take into account two code paths: the easy way and the correct
-        // way. This is flagged by the "complexLayout" boolean
-        // TODO make sure this function call takes into account ligatures, kerning,
-        // and such as that will change the layout characteristics of the text
-        // and will require a full complex layout
-        // TODO since we don't have all the stuff available in FX to determine
-        // complex text, I'm going to for now assume complex text is always false.
-        final boolean complexLayout = false;
-        //requiresComplexLayout(font, text);
-
-        // generally all we want to do is count characters and add their widths.
-        // For ellipsis that breaks on words, we do NOT want to include any
-        // hanging whitespace.
-        if (style == ELLIPSIS ||
-                style == WORD_ELLIPSIS ||
-                style == LEADING_ELLIPSIS ||
-                style == LEADING_WORD_ELLIPSIS) {
-
-            final boolean wordTrim =
-                    (style == WORD_ELLIPSIS || style == LEADING_WORD_ELLIPSIS);
-            String substring;
-            if (complexLayout) {
-                //            AttributedString a = new AttributedString(text);
-                //            LineBreakMeasurer m = new LineBreakMeasurer(a.getIterator(), frc);
-                //            substring = text.substring(0, m.nextOffset((double)availableWidth));
-            } else {
-                // RT-23458: Use a faster algorithm for the most common case
-                // where truncation happens at the end, i.e. for ELLIPSIS and
-                // CLIP, but not for other cases such as WORD_ELLIPSIS, etc.
-                if (style == ELLIPSIS && !new Bidi(text, Bidi.DIRECTION_LEFT_TO_RIGHT).isMixed()) {
-                    int hit = computeTruncationIndex(font, text, width - ellipsisWidth);
-                    if (hit < 0 || hit >= text.length()) {
-                        return text;
-                    } else {
-                        return text.substring(0, hit) + ellipsis;
-                    }
+        if (style == ELLIPSIS || style == WORD_ELLIPSIS) {
+            // index is the number of leading chars that fit (so also the index of the first char that doesn't fit)
+            int index = lastFittingCount(textWidths, false, len - 1, availableWidth, measurer);
+            if (style == WORD_ELLIPSIS) {
+                int whitespaceIndex = lastWhitespaceIndex(text, index);
+                if (whitespaceIndex != -1) {
+                    index = whitespaceIndex;
                 }
+            }
+            return text.substring(0, index) + ellipsis;
+        }
 
-                // simply total up the widths of all chars to determine how many
-                // will fit in the available space. Remember the last whitespace
-                // encountered so that if we're breaking on words we can trim
-                // and omit it.
-                double total = 0.0F;
-                int whitespaceIndex = -1;
-                // at the termination of the loop, index will be one past the
-                // end of the substring
-                int index = 0;
-                int start = (style == LEADING_ELLIPSIS || style == LEADING_WORD_ELLIPSIS) ? (text.length() - 1) : (0);
-                int end = (start == 0) ? (text.length() - 1) : 0;
-                int stepValue = (start == 0) ? 1 : -1;
-                boolean done = (start == 0) ? start > end : start < end;
-                for (int i = start; !done ; i += stepValue) {
-                    index = i;
-                    char c = text.charAt(index);
-                    total = computeTextWidth(font,
-                            (start == 0) ? text.substring(0, i + 1)
-                                    : text.substring(i, start + 1),
-                            0);
-                    if (Character.isWhitespace(c)) {
-                        whitespaceIndex = index;
-                    }
-                    if (total > availableWidth) {
-                        break;
-                    }
-                    done = start == 0? i >= end : i <= end;
+        if (style == LEADING_ELLIPSIS || style == LEADING_WORD_ELLIPSIS) {
+            // index is the index of the last char (counted from the start) that doesn't fit
+            int index = len - 1 - lastFittingCount(textWidths, true, len - 1, availableWidth, measurer);
+            if (style == LEADING_WORD_ELLIPSIS) {
+                int whitespaceIndex = firstWhitespaceIndex(text, index);
+                if (whitespaceIndex != -1) {
+                    index = whitespaceIndex;
                 }
-                final boolean fullTrim = !wordTrim || whitespaceIndex == -1;
-                substring = (start == 0) ?
-                        (text.substring(0, fullTrim ? index : whitespaceIndex)) :
-                        (text.substring((fullTrim ? index : whitespaceIndex) + 1));
-                assert(!text.equals(substring));
             }
-            if (style == ELLIPSIS || style == WORD_ELLIPSIS) {
-                return substring + ellipsis;
+            return ellipsis + text.substring(index + 1);
+        }
+
+        // either CENTER_ELLIPSIS or CENTER_WORD_ELLIPSIS
+        // we keep alternatively one char on the left, then one on the end, then second on the left, then second
+        // from the end, etc... until we have used up all the availableWidth. So for a total count of kept chars, the
+        // leading count is (count + 1) / 2 and the trailing count is count / 2, and we binary search the total count.
+        int low = 0, high = len - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (textWidths.prefixWidth((mid + 1) / 2, measurer) + textWidths.suffixWidth(mid / 2, measurer) <= availableWidth) {
+                low = mid;
             } else {
-                //style is LEADING_ELLIPSIS or LEADING_WORD_ELLIPSIS
-                return ellipsis + substring;
-            }
-        } else {
-            // these two indexes are INCLUSIVE not exclusive
-            int leadingIndex = 0;
-            int trailingIndex = 0;
-            int leadingWhitespace = -1;
-            int trailingWhitespace = -1;
-            // The complex case is going to be killer. What I have to do is
-            // read all the chars from the left up to the leadingIndex,
-            // and all the chars from the right up to the trailingIndex,
-            // and sum those together to get my total. That is, I cannot have
-            // a running total but must retotal the cummulative chars each time
-            if (complexLayout) {
-            } else */
-/*            double leadingTotal = 0;
-               double trailingTotal = 0;
-               for (int i=0; i<text.length(); i++) {
-               double total = computeStringWidth(metrics, text.substring(0, i));
-               if (total + trailingTotal > availableWidth) break;
-               leadingIndex = i;
-               leadingTotal = total;
-               if (Character.isWhitespace(text.charAt(i))) leadingWhitespace = leadingIndex;
-
-               int index = text.length() - (i + 1);
-               total = computeStringWidth(metrics, text.substring(index - 1));
-               if (total + leadingTotal > availableWidth) break;
-               trailingIndex = index;
-               trailingTotal = total;
-               if (Character.isWhitespace(text.charAt(index))) trailingWhitespace = trailingIndex;
-               }*//*
-
-            {
-                // either CENTER_ELLIPSIS or CENTER_WORD_ELLIPSIS
-                // for this case I read one char on the left, then one on the end
-                // then second on the left, then second from the end, etc until
-                // I have used up all the availableWidth. At that point, I trim
-                // the string twice: once from the start to firstIndex, and
-                // once from secondIndex to the end. I then insert the ellipsis
-                // between the two.
-                leadingIndex = -1;
-                trailingIndex = -1;
-                double total = 0.0F;
-                for (int i = 0; i <= text.length() - 1; i++) {
-                    char c = text.charAt(i);
-                    //total += metrics.charWidth(c);
-                    total += computeTextWidth(font, "" + c, 0);
-                    if (total > availableWidth) {
-                        break;
-                    }
-                    leadingIndex = i;
-                    if (Character.isWhitespace(c)) {
-                        leadingWhitespace = leadingIndex;
-                    }
-                    int index = text.length() - 1 - i;
-                    c = text.charAt(index);
-                    //total += metrics.charWidth(c);
-                    total += computeTextWidth(font, "" + c, 0);
-                    if (total > availableWidth) {
-                        break;
-                    }
-                    trailingIndex = index;
-                    if (Character.isWhitespace(c)) {
-                        trailingWhitespace = trailingIndex;
-                    }
-                }
+                high = mid - 1;
             }
-            if (leadingIndex < 0) {
-                return ellipsis;
-            }
-            if (style == CENTER_ELLIPSIS) {
-                if (trailingIndex < 0) {
-                    return text.substring(0, leadingIndex + 1) + ellipsis;
-                }
-                return text.substring(0, leadingIndex + 1) + ellipsis + text.substring(trailingIndex);
-            } else {
-                boolean leadingIndexIsLastLetterInWord =
-                        Character.isWhitespace(text.charAt(leadingIndex + 1));
-                int index = (leadingWhitespace == -1 || leadingIndexIsLastLetterInWord) ? (leadingIndex + 1) : (leadingWhitespace);
-                String leading = text.substring(0, index);
-                if (trailingIndex < 0) {
-                    return leading + ellipsis;
-                }
-                boolean trailingIndexIsFirstLetterInWord =
-                        Character.isWhitespace(text.charAt(trailingIndex - 1));
-                index = (trailingWhitespace == -1 || trailingIndexIsFirstLetterInWord) ? (trailingIndex) : (trailingWhitespace + 1);
-                String trailing = text.substring(index);
-                return leading + ellipsis + trailing;
+        }
+        // these two indexes are INCLUSIVE not exclusive
+        final int leadingIndex = (low + 1) / 2 - 1;
+        final int trailingIndex = low / 2 == 0 ? -1 : len - low / 2;
+        if (leadingIndex < 0) {
+            return ellipsis;
+        }
+        if (style == CENTER_ELLIPSIS) {
+            if (trailingIndex < 0) {
+                return text.substring(0, leadingIndex + 1) + ellipsis;
             }
+            return text.substring(0, leadingIndex + 1) + ellipsis + text.substring(trailingIndex);
+        }
+        final int leadingWhitespace = lastWhitespaceIndex(text, leadingIndex);
+        boolean leadingIndexIsLastLetterInWord =
+                Character.isWhitespace(text.charAt(leadingIndex + 1));
+        int index = (leadingWhitespace == -1 || leadingIndexIsLastLetterInWord) ? (leadingIndex + 1) : (leadingWhitespace);
+        String leading = text.substring(0, index);
+        if (trailingIndex < 0) {
+            return leading + ellipsis;
         }
+        final int trailingWhitespace = firstWhitespaceIndex(text, trailingIndex);
+        boolean trailingIndexIsFirstLetterInWord =
+                Character.isWhitespace(text.charAt(trailingIndex - 1));
+        index = (trailingWhitespace == -1 || trailingIndexIsFirstLetterInWord) ? (trailingIndex) : (trailingWhitespace + 1);
+        String trailing = text.substring(index);
+        return leading + ellipsis + trailing;
     }
-*/
 
-/*
-    static String computeClippedWrappedText(Font font, String text, double width,
-                                            double height, OverrunStyle truncationStyle,
-                                            String ellipsisString, TextBoundsType boundsType) {
+    public static String computeClippedWrappedText(Font font, String text, double width,
+                                                   double height, OverrunStyle truncationStyle,
+                                                   String ellipsisString, TextBoundsType boundsType, TextMeasurer measurer) {
         if (font == null) {
             throw new IllegalArgumentException("Must specify a font");
         }
+        if (text == null || "".equals(text)) {
+            return text;
+        }
+        final OverrunStyle style = truncationStyle == null ? ELLIPSIS : truncationStyle;
+        final String ellipsis = (style == CLIP) ? "" : ellipsisString;
+        checkTextMeasureCaches();
+        final ClipKey key = new ClipKey(text, font, Math.floor(width), Math.floor(height), style, ellipsis, boundsType);
+        String result = clippedTextCache.get(key);
+        if (result == null) {
+            result = clipWrappedText(font, text, key.width, key.height, style, ellipsis, boundsType, measurer);
+            clippedTextCache.put(key, result);
+        }
+        return result;
+    }
 
-        String ellipsis = (truncationStyle == CLIP) ? "" : ellipsisString;
-        int eLen = ellipsis.length();
-        // Do this before using helper, as it's not reentrant.
-        double eWidth = computeTextWidth(font, ellipsis, 0);
-        double eHeight = computeTextHeight(font, ellipsis, 0, boundsType);
+    private static String clipWrappedText(Font font, String text, double width, double height,
+                                          OverrunStyle style, String ellipsis, TextBoundsType boundsType, TextMeasurer measurer) {
+        double eWidth = ellipsis.isEmpty() ? 0 : getTextWidths(font, ellipsis).prefixWidth(ellipsis.length(), measurer);
+        double eHeight = measurer.computeTextHeight(font, ellipsis, 0, boundsType);
 
         if (width < eWidth || height < eHeight) {
             // The ellipsis doesn't fit.
             return text; // RT-30868 - return text, not empty string.
         }
 
-        helper.setText(text);
-        helper.setFont(font);
-        helper.setWrappingWidth((int)Math.ceil(width));
-        helper.setBoundsType(boundsType);
-        helper.setLineSpacing(0);
-
-        boolean leading =  (truncationStyle == LEADING_ELLIPSIS ||
-                truncationStyle == LEADING_WORD_ELLIPSIS);
-        boolean center =   (truncationStyle == CENTER_ELLIPSIS ||
-                truncationStyle == CENTER_WORD_ELLIPSIS);
-        boolean trailing = !(leading || center);
-        boolean wordTrim = (truncationStyle == WORD_ELLIPSIS ||
-                truncationStyle == LEADING_WORD_ELLIPSIS ||
-                truncationStyle == CENTER_WORD_ELLIPSIS);
+        // if the wrapped text is not higher than the available height, then it fits and doesn't need to be clipped
+        if (measurer.computeTextHeight(font, text, width, boundsType) - height < 0.0010F) {
+            return text;
+        }
 
-        String result = text;
-        int len = (result != null) ? result.length() : 0;
-        int centerLen = -1;
+        final boolean leading = (style == LEADING_ELLIPSIS || style == LEADING_WORD_ELLIPSIS);
+        final boolean center = (style == CENTER_ELLIPSIS || style == CENTER_WORD_ELLIPSIS);
+        final boolean wordTrim = (style == WORD_ELLIPSIS || style == LEADING_WORD_ELLIPSIS || style == CENTER_WORD_ELLIPSIS);
+        final int len = text.length();
+
+        // Binary search of the greatest count of kept chars such that the wrapped text (including the ellipsis)
+        // still fits in the available height. The text is not fitting with all chars, so the count is < len.
+        int low = 0, high = len - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (measurer.computeTextHeight(font, wrappedCandidate(text, mid, leading, center, ellipsis), width, boundsType) - height < 0.0010F) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (low == 0) {
+            return ellipsis;
+        }
+        if (!wordTrim) {
+            return wrappedCandidate(text, low, leading, center, ellipsis);
+        }
+        // Word trimming: we don't keep partial words at the ellipsis boundaries (unless no break char can be found)
+        int leadingCount = leading ? 0 : center ? (low + 1) / 2 : low;
+        int trailingCount = low - leadingCount;
+        if (leadingCount > 0 && leadingCount < len && !isPreferredBreakCharacter(text.charAt(leadingCount))) {
+            int brInd = lastBreakCharIndex(text, leadingCount - 1);
+            if (brInd >= 0) {
+                leadingCount = brInd + 1;
+            }
+        }
+        if (trailingCount > 0 && trailingCount < len && !isPreferredBreakCharacter(text.charAt(len - trailingCount - 1))) {
+            int brInd = firstBreakCharIndex(text, len - trailingCount);
+            if (brInd >= 0) {
+                trailingCount = len - brInd - 1;
+            }
+        }
+        return text.substring(0, leadingCount) + ellipsis + text.substring(len - trailingCount);
+    }
 
-        Point2D centerPoint = null;
+    private static String wrappedCandidate(String text, int count, boolean leading, boolean center, String ellipsis) {
+        int len = text.length();
+        if (leading) {
+            return ellipsis + text.substring(len - count);
+        }
         if (center) {
-            // Find index of character in the middle of the visual text area
-            centerPoint = new Point2D((width - eWidth) / 2, height / 2 - helper.getBaselineOffset());
+            return text.substring(0, (count + 1) / 2) + ellipsis + text.substring(len - count / 2);
         }
+        return text.substring(0, count) + ellipsis;
+    }
 
-        // Find index of character at the bottom left of the text area.
-        // This should be the first character of a line that would be clipped.
-        Point2D endPoint = new Point2D(0, height - helper.getBaselineOffset());
+    /**
+     * Binary search of the greatest count (up to maxCount) of leading (or trailing if fromEnd is true) chars that
+     * fit in the available width.
+     */
+    private static int lastFittingCount(TextWidths textWidths, boolean fromEnd, int maxCount, double availableWidth, TextMeasurer measurer) {
+        int low = 0, high = maxCount;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            double w = fromEnd ? textWidths.suffixWidth(mid, measurer) : textWidths.prefixWidth(mid, measurer);
+            if (w <= availableWidth) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
 
-        int hit = helper.impl_hitTestChar(endPoint).getCharIndex();
-        if (hit >= len) {
-            helper.setBoundsType(TextBoundsType.LOGICAL); // restore
-            return text;
+    private static int lastWhitespaceIndex(String text, int start) {
+        for (int i = start; i >= 0; i--) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
         }
-        if (center) {
-            hit = helper.impl_hitTestChar(centerPoint).getCharIndex();
-        }
-
-        if (hit > 0 && hit < len) {
-            // Step one, make a truncation estimate.
-
-            if (center || trailing) {
-                int ind = hit;
-                if (center) {
-                    // This is for the first part, i.e. beginning of text up to ellipsis.
-                    if (wordTrim) {
-                        int brInd = lastBreakCharIndex(text, ind + 1);
-                        if (brInd >= 0) {
-                            ind = brInd + 1;
-                        } else {
-                            brInd = firstBreakCharIndex(text, ind);
-                            if (brInd >= 0) {
-                                ind = brInd + 1;
-                            }
-                        }
-                    }
-                    centerLen = ind + eLen;
-                } // else: text node wraps at words, so wordTrim is not needed here.
-                result = result.substring(0, ind) + ellipsis;
+        return -1;
+    }
+
+    private static int firstWhitespaceIndex(String text, int start) {
+        for (int i = start; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
             }
+        }
+        return -1;
+    }
 
-            if (leading || center) {
-                // The hit is an index counted from the beginning, but we need
-                // the opposite, i.e. an index counted from the end.  However,
-                // the Text node does not support wrapped line layout in the
-                // reverse direction, starting at the bottom right corner.
-
-                // We'll simulate by assuming the index will be a similar
-                // number, then back up 10 characters just to add some slop.
-                // For example, the ending lines might pack tighter than the
-                // beginning lines, and therefore fit a higher number of
-                // characters.
-                int ind = Math.max(0, len - hit - 10);
-                if (ind > 0 && wordTrim) {
-                    int brInd = lastBreakCharIndex(text, ind + 1);
-                    if (brInd >= 0) {
-                        ind = brInd + 1;
-                    } else {
-                        brInd = firstBreakCharIndex(text, ind);
-                        if (brInd >= 0) {
-                            ind = brInd + 1;
-                        }
-                    }
-                }
-                if (center) {
-                    // This is for the second part, i.e. from ellipsis to end of text.
-                    result = result + text.substring(ind);
-                } else {
-                    result = ellipsis + text.substring(ind);
+    private static TextWidths getTextWidths(Font font, String text) {
+        TextKey key = new TextKey(text, font);
+        TextWidths textWidths = textWidthsCache.get(key);
+        if (textWidths == null) {
+            textWidthsCache.put(key, textWidths = new TextWidths(font, text));
+        }
+        return textWidths;
+    }
+
+    /**
+     * The (lazily measured) prefix-width and suffix-width tables of a text for a given font. The missing widths are
+     * measured with the measurer of the caller, which is not retained.
+     */
+    private static final class TextWidths {
+        private final Font font;
+        private final String text;
+        private final double[] prefixWidths; // prefixWidths[n] = width of the n first chars (NaN if not measured yet)
+        private final double[] suffixWidths; // suffixWidths[n] = width of the n last chars (NaN if not measured yet)
+
+        TextWidths(Font font, String text) {
+            this.font = font;
+            this.text = text;
+            int len = text.length();
+            prefixWidths = new double[len + 1];
+            suffixWidths = new double[len + 1];
+            for (int i = 1; i <= len; i++) {
+                prefixWidths[i] = suffixWidths[i] = Double.NaN;
+            }
+        }
+
+        double prefixWidth(int count, TextMeasurer measurer) {
+            double w = prefixWidths[count];
+            if (Double.isNaN(w)) {
+                w = prefixWidths[count] = measurer.computeTextWidth(font, text.substring(0, count), 0);
+                if (count == text.length()) {
+                    suffixWidths[count] = w;
                 }
             }
+            return w;
+        }
 
-            // Step two, check if text still overflows after we added the ellipsis.
-            // If so, remove one char or word at a time.
-            while (true) {
-                helper.setText(result);
-                int hit2 = helper.impl_hitTestChar(endPoint).getCharIndex();
-                if (center && hit2 < centerLen) {
-                    // No room for text after ellipsis. Maybe there is a newline
-                    // here, and the next line falls outside the view.
-                    if (hit2 > 0 && result.charAt(hit2-1) == '\n') {
-                        hit2--;
-                    }
-                    result = text.substring(0, hit2) + ellipsis;
-                    break;
-                } else if (hit2 > 0 && hit2 < result.length()) {
-                    if (leading) {
-                        int ind = eLen + 1; // Past ellipsis and first char.
-                        if (wordTrim) {
-                            int brInd = firstBreakCharIndex(result, ind);
-                            if (brInd >= 0) {
-                                ind = brInd + 1;
-                            }
-                        }
-                        result = ellipsis + result.substring(ind);
-                    } else if (center) {
-                        int ind = centerLen + 1; // Past ellipsis and first char.
-                        if (wordTrim) {
-                            int brInd = firstBreakCharIndex(result, ind);
-                            if (brInd >= 0) {
-                                ind = brInd + 1;
-                            }
-                        }
-                        result = result.substring(0, centerLen) + result.substring(ind);
-                    } else {
-                        int ind = result.length() - eLen - 1; // Before last char and ellipsis.
-                        if (wordTrim) {
-                            int brInd = lastBreakCharIndex(result, ind);
-                            if (brInd >= 0) {
-                                ind = brInd;
-                            }
-                        }
-                        result = result.substring(0, ind) + ellipsis;
-                    }
-                } else {
-                    break;
+        double suffixWidth(int count, TextMeasurer measurer) {
+            double w = suffixWidths[count];
+            if (Double.isNaN(w)) {
+                w = suffixWidths[count] = measurer.computeTextWidth(font, text.substring(text.length() - count), 0);
+                if (count == text.length()) {
+                    prefixWidths[count] = w;
                 }
             }
+            return w;
+        }
+    }
+
+    private static final class TextKey {
+        private final String text;
+        private final Font font;
+
+        TextKey(String text, Font font) {
+            this.text = text;
+            this.font = font;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof TextKey)) return false;
+            TextKey that = (TextKey) o;
+            return text.equals(that.text) && font.equals(that.font);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * text.hashCode() + font.hashCode();
+        }
+    }
+
+    private static final class ClipKey {
+        private final String text;
+        private final Font font;
+        private final double width;
+        private final double height;
+        private final OverrunStyle style;
+        private final String ellipsis;
+        private final TextBoundsType boundsType; // only for wrapped text (as it's measured on its height)
+
+        ClipKey(String text, Font font, double width, double height, OverrunStyle style, String ellipsis, TextBoundsType boundsType) {
+            this.text = text;
+            this.font = font;
+            this.width = width;
+            this.height = height;
+            this.style = style;
+            this.ellipsis = ellipsis;
+            this.boundsType = boundsType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ClipKey)) return false;
+            ClipKey that = (ClipKey) o;
+            return width == that.width && height == that.height && style == that.style && boundsType == that.boundsType
+                    && text.equals(that.text) && font.equals(that.font) && Objects.equals(ellipsis, that.ellipsis);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = text.hashCode();
+            result = 31 * result + font.hashCode();
+            result = 31 * result + Double.hashCode(width);
+            result = 31 * result + Double.hashCode(height);
+            result = 31 * result + style.hashCode();
+            result = 31 * result + Objects.hashCode(boundsType);
+            return 31 * result + Objects.hashCode(ellipsis);
         }
-        // RESTORE STATE
-        helper.setWrappingWidth(DEFAULT_WRAPPING_WIDTH);
-        helper.setLineSpacing(DEFAULT_LINE_SPACING);
-        helper.setText(DEFAULT_TEXT);
-        helper.setBoundsType(DEFAULT_BOUNDS_TYPE);
-        return result;
     }
-*/
 
 
     private static int firstBreakCharIndex(String str, int start) {
@@ -7,7 +7,7 @@ import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.stage.Modality;
 
-import java.lang.ref.WeakReference;
+import com.sun.javafx.ref.WeakRef;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -145,7 +145,7 @@ public class Alert extends Dialog<ButtonType> {
      *
      **************************************************************************/
 
-    private WeakReference<DialogPane> dialogPaneRef;
+    private WeakRef<DialogPane> dialogPaneRef;
 
     private boolean installingDefaults = false;
     private boolean hasCustomButtons = false;
@@ -219,7 +219,7 @@ public class Alert extends Dialog<ButtonType> {
         dialogPane.setContentText(contentText);
         getDialogPane().getStyleClass().add("alert");
 
-        dialogPaneRef = new WeakReference<>(dialogPane);
+        dialogPaneRef = new WeakRef<>(dialogPane);
 
         hasCustomButtons = buttons != null && buttons.length > 0;
         if (hasCustomButtons)
@@ -372,6 +372,6 @@ public class Alert extends Dialog<ButtonType> {
             newPane.getButtonTypes().addListener(buttonsListener);
         }
 
-        dialogPaneRef = new WeakReference<>(newPane);
+        dialogPaneRef = new WeakRef<>(newPane);
     }
 }
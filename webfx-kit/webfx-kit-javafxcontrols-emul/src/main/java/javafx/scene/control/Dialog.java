@@ -14,7 +14,7 @@ import javafx.stage.StageStyle;
 import javafx.stage.Window;
 import javafx.util.Callback;
 
-import java.lang.ref.WeakReference;
+import com.sun.javafx.ref.WeakRef;
 import java.util.Optional;
 
 import static javafx.scene.control.ButtonBar.ButtonData;
@@ -492,7 +492,7 @@ public class Dialog<R> implements EventTarget {
         };
 */
 
-        WeakReference<DialogPane> dialogPaneRef = new WeakReference<>(null);
+        WeakRef<DialogPane> dialogPaneRef = new WeakRef<>(null);
 
         protected void invalidated() {
             DialogPane oldDialogPane = dialogPaneRef.get();
@@ -528,7 +528,7 @@ public class Dialog<R> implements EventTarget {
             // push the new dialog down into the implementation for rendering
             dialog.setDialogPane(newDialogPane);
 
-            dialogPaneRef = new WeakReference<>(newDialogPane);
+            dialogPaneRef = new WeakRef<>(newDialogPane);
         }
     };
 
@@ -16,7 +16,7 @@ import javafx.scene.image.ImageView;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 
-import java.lang.ref.WeakReference;
+import com.sun.javafx.ref.WeakRef;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -221,7 +221,7 @@ public class DialogPane extends Pane {
             return "graphic";
         }
 
-        WeakReference<Node> graphicRef = new WeakReference<>(null);
+        WeakRef<Node> graphicRef = new WeakRef<>(null);
 
         protected void invalidated() {
             Node oldGraphic = graphicRef.get();
@@ -230,7 +230,7 @@ public class DialogPane extends Pane {
             }
 
             Node newGraphic = getGraphic();
-            graphicRef = new WeakReference<>(newGraphic);
+            graphicRef = new WeakRef<>(newGraphic);
             updateHeaderArea();
         }
     };
@@ -390,7 +390,7 @@ public class DialogPane extends Pane {
 
     // --- header
     private final ObjectProperty<Node> header = new SimpleObjectProperty<Node>(null) {
-        WeakReference<Node> headerRef = new WeakReference<>(null);
+        WeakRef<Node> headerRef = new WeakRef<>(null);
         @Override protected void invalidated() {
             Node oldHeader = headerRef.get();
             if (oldHeader != null) {
@@ -398,7 +398,7 @@ public class DialogPane extends Pane {
             }
 
             Node newHeader = getHeader();
-            headerRef = new WeakReference<>(newHeader);
+            headerRef = new WeakRef<>(newHeader);
             updateHeaderArea();
         }
     };
@@ -480,7 +480,7 @@ public class DialogPane extends Pane {
 
     // --- content
     private final ObjectProperty<Node> content = new SimpleObjectProperty<Node>(null) {
-        WeakReference<Node> contentRef = new WeakReference<>(null);
+        WeakRef<Node> contentRef = new WeakRef<>(null);
         @Override protected void invalidated() {
             Node oldContent = contentRef.get();
             if (oldContent != null) {
@@ -488,7 +488,7 @@ public class DialogPane extends Pane {
             }
 
             Node newContent = getContent();
-            contentRef = new WeakReference<>(newContent);
+            contentRef = new WeakRef<>(newContent);
             updateContentArea();
         }
     };
@@ -560,7 +560,7 @@ public class DialogPane extends Pane {
 
     // --- expandable content
     private final ObjectProperty<Node> expandableContentProperty = new SimpleObjectProperty<Node>(null) {
-        WeakReference<Node> expandableContentRef = new WeakReference<>(null);
+        WeakRef<Node> expandableContentRef = new WeakRef<>(null);
         @Override protected void invalidated() {
             Node oldExpandableContent = expandableContentRef.get();
             if (oldExpandableContent != null) {
@@ -568,7 +568,7 @@ public class DialogPane extends Pane {
             }
 
             Node newExpandableContent = getExpandableContent();
-            expandableContentRef = new WeakReference<Node>(newExpandableContent);
+            expandableContentRef = new WeakRef<Node>(newExpandableContent);
             if (newExpandableContent != null) {
                 newExpandableContent.setVisible(isExpanded());
                 newExpandableContent.setManaged(isExpanded());
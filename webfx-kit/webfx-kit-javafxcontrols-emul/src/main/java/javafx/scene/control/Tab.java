@@ -36,7 +36,7 @@ import javafx.css.Styleable;
 import javafx.event.*;
 import javafx.scene.Node;
 
-import java.lang.ref.WeakReference;
+import com.sun.javafx.ref.WeakRef;
 import java.util.HashMap;
 
 /**
@@ -221,7 +221,7 @@ public class Tab implements EventTarget, Styleable {
     private ReadOnlyObjectWrapper<TabPane> tabPanePropertyImpl() {
         if (tabPane == null) {
             tabPane = new ReadOnlyObjectWrapper<TabPane>(this, "tabPane") {
-                private WeakReference<TabPane> oldParent;
+                private WeakRef<TabPane> oldParent;
 
                 @Override protected void invalidated() {
                     if(oldParent != null && oldParent.get() != null) {
@@ -232,7 +232,7 @@ public class Tab implements EventTarget, Styleable {
                     if (newParent != null) {
                         newParent.disabledProperty().addListener(parentDisabledChangedListener);
                     }
-                    oldParent = new WeakReference<TabPane>(newParent);
+                    oldParent = new WeakRef<TabPane>(newParent);
                     super.invalidated();
                 }
             };
@@ -362,7 +362,7 @@ public class Tab implements EventTarget, Styleable {
     /*public final ObjectProperty<ContextMenu> contextMenuProperty() {
         if (contextMenu == null) {
             contextMenu = new SimpleObjectProperty<ContextMenu>(this, "contextMenu") {
-                private WeakReference<ContextMenu> contextMenuRef;
+                private WeakRef<ContextMenu> contextMenuRef;
 
                 @Override protected void invalidated() {
                     ContextMenu oldMenu = contextMenuRef == null ? null : contextMenuRef.get();
@@ -371,7 +371,7 @@ public class Tab implements EventTarget, Styleable {
                     }
 
                     ContextMenu ctx = get();
-                    contextMenuRef = new WeakReference<>(ctx);
+                    contextMenuRef = new WeakRef<>(ctx);
 
                     if (ctx != null) {
                         // if a context menu is set, we need to install any accelerators
@@ -32,6 +32,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.geometry.Side;
+import javafx.util.Duration;
 
 /**
  * <p>A control that allows switching between a group of {@link Tab Tabs}.  Only one tab
@@ -294,6 +295,78 @@ public class TabPane extends Control {
         return rotateGraphic;
     }
 
+    // WebFx addition: tab content materialization policy
+
+    private BooleanProperty lazyTabContent;
+
+    /**
+     * <p>Specifies whether the content of a Tab is inserted in the scene graph
+     * only the first time that tab is selected.</p>
+     *
+     * <p>By default lazyTabContent is set to false, so the content of all tabs
+     * is inserted in the scene graph (and gets its peer) as soon as the tabs are
+     * added. Setting it to {@code true} defers this to the first selection, so
+     * that a TabPane with many heavy tabs starts at the cost of a single one.
+     * This must be set before the skin is created.</p>
+     */
+    public final void setLazyTabContent(boolean value) {
+        lazyTabContentProperty().set(value);
+    }
+
+    /**
+     * Returns {@code true} if the tab content is materialized on first selection.
+     * The default is {@code false}
+     *
+     * @return the lazyTabContent state.
+     */
+    public final boolean isLazyTabContent() {
+        return lazyTabContent == null ? false : lazyTabContent.get();
+    }
+
+    /**
+     * The lazyTabContent state of the tabs in the TabPane.
+     */
+    public final BooleanProperty lazyTabContentProperty() {
+        if (lazyTabContent == null) {
+            lazyTabContent = new SimpleBooleanProperty(this, "lazyTabContent", false);
+        }
+        return lazyTabContent;
+    }
+
+    private ObjectProperty<Duration> tabContentDetachDelay;
+
+    /**
+     * <p>Specifies the delay after which the content of a deselected Tab is
+     * removed from the scene graph.</p>
+     *
+     * <p>The content node itself is kept (and is inserted back when the tab is
+     * selected again), only its DOM is released. By default tabContentDetachDelay
+     * is null which means the content of deselected tabs is never detached.</p>
+     */
+    public final void setTabContentDetachDelay(Duration value) {
+        tabContentDetachDelayProperty().set(value);
+    }
+
+    /**
+     * Returns the delay after which the content of a deselected Tab is detached,
+     * or null if it is never detached. The default is null.
+     *
+     * @return the tabContentDetachDelay.
+     */
+    public final Duration getTabContentDetachDelay() {
+        return tabContentDetachDelay == null ? null : tabContentDetachDelay.get();
+    }
+
+    /**
+     * The detach delay of the deselected tabs content in the TabPane.
+     */
+    public final ObjectProperty<Duration> tabContentDetachDelayProperty() {
+        if (tabContentDetachDelay == null) {
+            tabContentDetachDelay = new SimpleObjectProperty<>(this, "tabContentDetachDelay", null);
+        }
+        return tabContentDetachDelay;
+    }
+
     private DoubleProperty tabMinWidth;
 
     /**
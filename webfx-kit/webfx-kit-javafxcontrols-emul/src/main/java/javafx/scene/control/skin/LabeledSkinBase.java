@@ -16,6 +16,7 @@ import javafx.scene.image.ImageView;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
 import javafx.scene.text.TextBoundsType;
+import dev.webfx.kit.launcher.WebFxKitLauncher;
 import dev.webfx.platform.shared.util.Strings;
 
 import static javafx.scene.control.ContentDisplay.*;
@@ -77,6 +78,26 @@ public abstract class LabeledSkinBase<C extends Labeled, B extends BehaviorBase<
     private double wrapWidth;
     private double wrapHeight;
 
+    /**
+     * The text measure stamp (see Utils.getTextMeasureStamp()) at the time the displayed text was last computed.
+     */
+    private int textMeasureStamp;
+
+    /**
+     * The measurer used by the Utils clipping engine, which measures the text through the Text node of this skin.
+     */
+    private final Utils.TextMeasurer textMeasurer = new Utils.TextMeasurer() {
+        @Override
+        public double computeTextWidth(Font font, String text, double wrappingWidth) {
+            return LabeledSkinBase.this.computeTextWidth(font, text, wrappingWidth);
+        }
+
+        @Override
+        public double computeTextHeight(Font font, String text, double wrappingWidth, TextBoundsType boundsType) {
+            return LabeledSkinBase.this.computeTextHeight(font, text, wrappingWidth, 0, boundsType);
+        }
+    };
+
 
     /**
      * Constructor for LabeledSkinBase. The Labeled must be specified, and cannot be null.
@@ -286,7 +307,7 @@ public abstract class LabeledSkinBase<C extends Labeled, B extends BehaviorBase<
     }
 
     private void updateDisplayedText(double w, double h) {
-        if (invalidText) {
+        if (invalidText || textMeasureStamp != Utils.getTextMeasureStamp()) {
             final Labeled labeled = getSkinnable();
             String s = labeled.getText();
 
@@ -502,12 +523,52 @@ public abstract class LabeledSkinBase<C extends Labeled, B extends BehaviorBase<
             wrapWidth = w;
             wrapHeight = h;
 
+            result = computeClippedDisplayedText(s, w, h);
+
             text.setText(result);
             updateWrappingWidth();
             invalidText = false;
+            textMeasureStamp = Utils.getTextMeasureStamp();
         }
     }
 
+    /**
+     * Returns the text to display once clipped to the available label area (w x h), according to the text overrun
+     * style. Labels with no size yet (w == -1) or whose text already fits are not clipped.
+     */
+    private String computeClippedDisplayedText(String s, double w, double h) {
+        if (s == null || s.isEmpty() || w < 0)
+            return s;
+        final Labeled labeled = getSkinnable();
+        final ContentDisplay contentDisplay = labeled.getContentDisplay();
+        if (!isIgnoreGraphic()) {
+            if (contentDisplay == LEFT || contentDisplay == RIGHT)
+                w -= graphic.getLayoutBounds().getWidth() + labeled.getGraphicTextGap();
+            else if (h >= 0 && (contentDisplay == TOP || contentDisplay == BOTTOM))
+                h -= graphic.getLayoutBounds().getHeight() + labeled.getGraphicTextGap();
+        }
+        w = Math.max(w, 0);
+        final Font font = text.getFont();
+        final OverrunStyle truncationStyle = labeled.getTextOverrun();
+        final String ellipsisString = labeled.getEllipsisString();
+        if (labeled.isWrapText())
+            return h < 0 ? s : Utils.computeClippedWrappedText(font, s, w, Math.max(h, 0), truncationStyle, ellipsisString, text.getBoundsType(), textMeasurer);
+        int len = s.length();
+        int i = s.indexOf('\n');
+        if (i < 0 || i == len - 1) // Single line (not taking into account a potential trailing newline)
+            return Utils.computeClippedText(font, s, w, truncationStyle, ellipsisString, textMeasurer);
+        // Multiline text with embedded newlines
+        StringBuilder sb = new StringBuilder();
+        String[] splits = s.split("\n");
+        for (int j = 0; j < splits.length; j++) {
+            sb.append(Utils.computeClippedText(font, splits[j], w, truncationStyle, ellipsisString, textMeasurer));
+            if (j < splits.length - 1) {
+                sb.append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
 /*
     private void addMnemonic() {
         if (labeledNode != null) {
@@ -688,6 +749,13 @@ public abstract class LabeledSkinBase<C extends Labeled, B extends BehaviorBase<
 
     private double computeTextWidth(Font font, String text, double wrappingWidth) {
         //return Utils.computeTextWidth(font, text, wrappingWidth);
+        // Measuring the single-line text without touching the displayed text when possible, as each change of the
+        // displayed text would cost a reflow in the browser (and the clipping probes many prefixes and suffixes)
+        if (wrappingWidth <= 0 && font != null) {
+            double width = Strings.isEmpty(text) ? 0 : WebFxKitLauncher.measureTextWidth(text, font);
+            if (width >= 0)
+                return width;
+        }
         return prepareDisplayedText(font, text, wrappingWidth).prefWidth(-1);
     }
 
@@ -190,6 +190,7 @@ public class TabPaneSkin extends BehaviorSkinBase<TabPane, TabPaneBehavior> {
         }
         selectedTab = getSkinnable().getSelectionModel().getSelectedItem();
         isSelectingTab = false; updateSelectedTabBorderAndBackground(); // WebFx addition
+        attachTabContent(getTabContentRegion(selectedTab)); // WebFx addition (in case of lazy tab content)
 
         initializeSwipeHandlers();
     }
@@ -203,8 +204,12 @@ public class TabPaneSkin extends BehaviorSkinBase<TabPane, TabPaneBehavior> {
     }
 
     public StackPane getSelectedTabContentRegion() {
+        return getTabContentRegion(selectedTab);
+    }
+
+    private TabContentRegion getTabContentRegion(Tab tab) { // WebFx addition
         for (TabContentRegion contentRegion : tabContentRegions) {
-            if (contentRegion.getTab().equals(selectedTab)) {
+            if (contentRegion.getTab().equals(tab)) {
                 return contentRegion;
             }
         }
@@ -215,7 +220,12 @@ public class TabPaneSkin extends BehaviorSkinBase<TabPane, TabPaneBehavior> {
         super.handleControlPropertyChanged(property);
         if ("SELECTED_TAB".equals(property)) {
             isSelectingTab = true;
+            Tab previousTab = selectedTab;
             selectedTab = getSkinnable().getSelectionModel().getSelectedItem();
+            // WebFx addition: materializing the newly selected tab content and possibly detaching the previous one
+            attachTabContent(getTabContentRegion(selectedTab));
+            if (previousTab != null && previousTab != selectedTab)
+                scheduleTabContentDetach(getTabContentRegion(previousTab));
             getSkinnable().requestLayout();
             updateSelectedTabBorderAndBackground();
         } else if ("SIDE".equals(property)) {
@@ -405,13 +415,59 @@ public class TabPaneSkin extends BehaviorSkinBase<TabPane, TabPaneBehavior> {
         TabContentRegion tabContentRegion = new TabContentRegion(tab);
         tabContentRegion.setClip(new Rectangle());
         tabContentRegions.add(tabContentRegion);
-        // We want the tab content to always sit below the tab headers
-        getChildren().add(0, tabContentRegion);
+        // WebFx addition: with lazy tab content, only the selected tab content is inserted in the scene graph
+        if (!getSkinnable().isLazyTabContent() || tab.isSelected()) {
+            attachTabContent(tabContentRegion);
+        }
+    }
+
+    // WebFx addition
+    private void attachTabContent(TabContentRegion tabContentRegion) {
+        if (tabContentRegion == null) {
+            return;
+        }
+        tabContentRegion.cancelDetach();
+        if (!tabContentRegion.materialized) {
+            tabContentRegion.materialized = true;
+            tabContentRegion.updateContent();
+        }
+        if (!tabContentRegion.attached) {
+            tabContentRegion.attached = true;
+            // We want the tab content to always sit below the tab headers
+            getChildren().add(0, tabContentRegion);
+        }
+    }
+
+    // WebFx addition
+    private void scheduleTabContentDetach(TabContentRegion tabContentRegion) {
+        Duration delay = getSkinnable().getTabContentDetachDelay();
+        if (tabContentRegion == null || !tabContentRegion.attached || delay == null) {
+            return;
+        }
+        tabContentRegion.cancelDetach();
+        PauseTransition detachTimer = new PauseTransition(delay);
+        detachTimer.setOnFinished(e -> {
+            tabContentRegion.detachTimer = null;
+            if (!tabContentRegion.getTab().isSelected()) {
+                detachTabContent(tabContentRegion);
+            }
+        });
+        tabContentRegion.detachTimer = detachTimer;
+        detachTimer.play();
+    }
+
+    // WebFx addition: the content node is kept in the region, only the region is removed from the scene graph
+    private void detachTabContent(TabContentRegion tabContentRegion) {
+        if (tabContentRegion.attached) {
+            tabContentRegion.attached = false;
+            getChildren().remove(tabContentRegion);
+        }
     }
 
     private void removeTabContent(Tab tab) {
         for (TabContentRegion contentRegion : tabContentRegions) {
             if (contentRegion.getTab().equals(tab)) {
+                contentRegion.cancelDetach(); // WebFx addition
                 contentRegion.removeListeners(tab);
                 getChildren().remove(contentRegion);
                 tabContentRegions.remove(contentRegion);
@@ -464,6 +520,7 @@ public class TabPaneSkin extends BehaviorSkinBase<TabPane, TabPaneBehavior> {
     @Override protected double computePrefWidth(double height, double topInset, double rightInset, double bottomInset, double leftInset) {
         // The TabPane can only be as wide as it widest content width.
         for (TabContentRegion contentRegion: tabContentRegions) {
+            if (!contentRegion.attached) continue; // WebFx addition
             maxw = Math.max(maxw, snapSize(contentRegion.prefWidth(-1)));
         }
 
@@ -480,6 +537,7 @@ public class TabPaneSkin extends BehaviorSkinBase<TabPane, TabPaneBehavior> {
     @Override protected double computePrefHeight(double width, double topInset, double rightInset, double bottomInset, double leftInset) {
         // The TabPane can only be as high as it highest content height.
         for (TabContentRegion contentRegion: tabContentRegions) {
+            if (!contentRegion.attached) continue; // WebFx addition
             maxh = Math.max(maxh, snapSize(contentRegion.prefHeight(-1)));
         }
 
@@ -582,6 +640,7 @@ public class TabPaneSkin extends BehaviorSkinBase<TabPane, TabPaneBehavior> {
 
         for (int i = 0, max = tabContentRegions.size(); i < max; i++) {
             TabContentRegion tabContent = tabContentRegions.get(i);
+            if (!tabContent.attached) continue; // WebFx addition (not in the scene graph)
 
             tabContent.setAlignment(Pos.TOP_LEFT);
             if (tabContent.getClip() != null) {
@@ -1547,6 +1606,10 @@ public class TabPaneSkin extends BehaviorSkinBase<TabPane, TabPaneBehavior> {
         //private TraversalEngine engine;
         private Direction direction = Direction.NEXT;
         private Tab tab;
+        // WebFx addition: lazy materialization & detach state
+        private boolean materialized;
+        private boolean attached;
+        private PauseTransition detachTimer;
 
         private InvalidationListener tabContentListener = valueModel -> {
             updateContent();
@@ -1570,7 +1633,6 @@ public class TabPaneSkin extends BehaviorSkinBase<TabPane, TabPaneBehavior> {
             getStyleClass().setAll("tab-content-area");
             setManaged(false);
             this.tab = tab;
-            updateContent();
             setVisible(tab.isSelected());
 
             tab.selectedProperty().addListener(weakTabSelectedListener);
@@ -1578,6 +1640,9 @@ public class TabPaneSkin extends BehaviorSkinBase<TabPane, TabPaneBehavior> {
         }
 
         private void updateContent() {
+            if (!materialized) { // WebFx addition: the content will be set on first attach
+                return;
+            }
             Node newContent = getTab().getContent();
             if (newContent == null) {
                 getChildren().clear();
@@ -1591,6 +1656,13 @@ public class TabPaneSkin extends BehaviorSkinBase<TabPane, TabPaneBehavior> {
             tab.contentProperty().removeListener(weakTabContentListener);
         }
 
+        private void cancelDetach() { // WebFx addition
+            if (detachTimer != null) {
+                detachTimer.stop();
+                detachTimer = null;
+            }
+        }
+
     } /* End TabContentRegion */
 
     /**************************************************************************
@@ -5,6 +5,7 @@ import elemental2.dom.HTMLElement;
 import javafx.geometry.Insets;
 import javafx.scene.control.Control;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html.HtmlRegionPeer;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlStyles;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlUtil;
 import dev.webfx.kit.mapper.peers.javafxcontrols.base.ControlPeerBase;
 import dev.webfx.kit.mapper.peers.javafxcontrols.base.ControlPeerMixin;
@@ -27,6 +28,7 @@ public abstract class HtmlControlPeer
         setContainer(spanContainer);
         HTMLElement childrenContainer = createAbsolutePositionSpan();
         HtmlUtil.setStyleAttribute(childrenContainer, "pointer-events", "none");
+        childrenContainer.classList.add(HtmlStyles.SKIN_CHILDREN_CSS_CLASS); // So the inline style reaches the text children
         setChildrenContainer(childrenContainer);
         HtmlUtil.setChildren(spanContainer, getElement(), childrenContainer);
     }
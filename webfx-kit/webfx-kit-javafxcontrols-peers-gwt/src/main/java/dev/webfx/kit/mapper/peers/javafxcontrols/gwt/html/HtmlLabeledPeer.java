@@ -76,7 +76,7 @@ abstract class HtmlLabeledPeer
 
     @Override
     public void updateTextFill(Paint textFill) {
-        String cssPaint = HtmlPaints.toHtmlCssPaint(textFill);
+        String cssPaint = HtmlPaints.toHtmlCssColorPaint(textFill);
         getElement().style.color = cssPaint;
         // Also if the labeled is associated with a monochrome svg image, showing the svg image in the same color
         Node graphic = getNode().getGraphic();
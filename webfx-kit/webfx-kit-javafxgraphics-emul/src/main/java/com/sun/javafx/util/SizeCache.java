@@ -0,0 +1,86 @@
+package com.sun.javafx.util;
+
+/**
+ * A small fixed-size LRU cache of computed sizes keyed by (measure kind, constraint value). It is used by the layout
+ * code to remember the sizes computed for the last few constraints (ex: the pref height of a wrapping label at
+ * different widths) so that a parent asking several times the same measure during a layout pass doesn't trigger a
+ * new computation (or a new browser reflow) each time.
+ *
+ * Entries are kept ordered from the most recently used to the least recently used one, and the least recently used
+ * one is dropped when a new entry is put into a full cache. Because the cache is very small, a linear scan is faster
+ * than any hashing.
+ */
+public final class SizeCache {
+
+    public static final int PREF_WIDTH = 0;
+    public static final int PREF_HEIGHT = 1;
+    public static final int MIN_WIDTH = 2;
+    public static final int MIN_HEIGHT = 3;
+
+    public static final int DEFAULT_CAPACITY = 4;
+
+    private final int[] kinds;
+    private final double[] constraints;
+    private final double[] sizes;
+    private int size;
+
+    public SizeCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public SizeCache(int capacity) {
+        kinds = new int[capacity];
+        constraints = new double[capacity];
+        sizes = new double[capacity];
+    }
+
+    /**
+     * Returns the cached size for this measure kind and constraint, or -1 if not cached.
+     */
+    public double get(int kind, double constraint) {
+        for (int i = 0; i < size; i++) {
+            if (kinds[i] == kind && constraints[i] == constraint) {
+                double value = sizes[i];
+                if (i > 0) { // Moving the entry to the front (most recently used)
+                    shiftDown(i);
+                    kinds[0] = kind;
+                    constraints[0] = constraint;
+                    sizes[0] = value;
+                }
+                return value;
+            }
+        }
+        return -1;
+    }
+
+    public void put(int kind, double constraint, double value) {
+        int i = 0;
+        while (i < size && (kinds[i] != kind || constraints[i] != constraint))
+            i++;
+        if (i == size) { // New entry (dropping the least recently used one if the cache is full)
+            if (size < kinds.length)
+                size++;
+            i = size - 1;
+        }
+        shiftDown(i);
+        kinds[0] = kind;
+        constraints[0] = constraint;
+        sizes[0] = value;
+    }
+
+    private void shiftDown(int toIndex) {
+        for (int j = toIndex; j > 0; j--) {
+            kinds[j] = kinds[j - 1];
+            constraints[j] = constraints[j - 1];
+            sizes[j] = sizes[j - 1];
+        }
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+}
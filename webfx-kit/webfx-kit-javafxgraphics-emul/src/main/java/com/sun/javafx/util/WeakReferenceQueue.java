@@ -25,8 +25,8 @@
 
 package com.sun.javafx.util;
 
-import java.lang.ref.ReferenceQueue;
-import java.lang.ref.WeakReference;
+import com.sun.javafx.ref.WeakRef;
+
 import java.util.Iterator;
 
 /**
@@ -40,52 +40,62 @@ import java.util.Iterator;
  * As we abandoned mobile, we considered removal of this class. But replacement
  * by WeakHashMap is not always possible as we use mutable elements. At least
  * it was now possible to optimize this class using the ReferenceQueue.
+ *
+ * WebFx: the ReferenceQueue is not available with GWT, so the entries now hold a {@link WeakRef} (which is really weak
+ * in browsers supporting WeakRef) and the cleared entries are removed by scanning the list. To keep add() amortized
+ * O(1), the scan is done only once the size has doubled since the previous one.
  */
 public class WeakReferenceQueue<E> {
-    /**
-     * Reference queue for cleared weak references
-     */
-    private final ReferenceQueue garbage = new ReferenceQueue();
-
     /**
      * Strongly referenced list head
      */
     private Object strongRef = new Object();
-    private ListEntry head = new ListEntry(strongRef, garbage);
+    private ListEntry head = new ListEntry(strongRef);
 
     /**
      * Size of the queue
      */
     int size = 0;
 
+    /**
+     * Size of the queue after the last cleanup (WebFx addition)
+     */
+    private int cleanedSize = 0;
+
     @SuppressWarnings("unchecked")
     public void add(E obj) {
-        cleanup();
+        if (size >= 2 * cleanedSize + 8)
+            cleanup();
         size++;
-        new ListEntry(obj, garbage).insert(head.prev);
+        new ListEntry(obj).insert(head.prev);
     }
 
     public void remove(E obj) {
-        cleanup();
-
         ListEntry entry = head.next;
         while (entry != head) {
+            ListEntry next = entry.next;
             Object other = entry.get();
-            if (other == obj) {
+            if (other == obj || other == null) { // also removing the cleared entries met on the way
                 size--;
                 entry.remove();
-                return;
+                if (other == obj)
+                    return;
             }
-            entry = entry.next;
+            entry = next;
         }
     }
 
     public void cleanup() {
-        ListEntry entry;
-        while ((entry = (ListEntry) garbage.poll()) != null) {
-            size--;
-            entry.remove();
+        ListEntry entry = head.next;
+        while (entry != head) {
+            ListEntry next = entry.next;
+            if (entry.get() == null) {
+                size--;
+                entry.remove();
+            }
+            entry = next;
         }
+        cleanedSize = size;
     }
 
     public Iterator<? super E> iterator() {
@@ -128,15 +138,20 @@ public class WeakReferenceQueue<E> {
         };
     }
 
-    private static class ListEntry extends WeakReference {
+    private static class ListEntry {
+        final WeakRef<Object> ref;
         ListEntry prev, next;
 
-        public ListEntry(Object o, ReferenceQueue queue) {
-            super(o, queue);
+        public ListEntry(Object o) {
+            ref = new WeakRef<>(o);
             prev = this;
             next = this;
         }
 
+        public Object get() {
+            return ref.get();
+        }
+
         public void insert(ListEntry where) {
             prev = where;
             next = where.next;
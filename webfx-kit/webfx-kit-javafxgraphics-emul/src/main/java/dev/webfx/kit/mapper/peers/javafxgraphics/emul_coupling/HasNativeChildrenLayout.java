@@ -0,0 +1,12 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling;
+
+/**
+ * Marks a peer that lays out the children of its node itself (ex: the html TextFlow peer relying on the browser inline
+ * flow). The node then skips the Java positioning of its children and asks the peer (as a LayoutMeasurable) for its
+ * size.
+ *
+ * @author Bruno Salmon
+ */
+public interface HasNativeChildrenLayout {
+
+}
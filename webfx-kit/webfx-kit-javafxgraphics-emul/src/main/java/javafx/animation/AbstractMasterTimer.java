@@ -15,8 +15,9 @@ abstract class AbstractMasterTimer {
     // enough in advance of the vsync to complete rendering before it happens
     private static boolean useAdaptivePulse = false; //Settings.getBoolean(ADAPTIVE_PULSE_PROP);
 
-    private final int PULSE_DURATION_NS = getPulseDuration(1000000000);
-    private final int PULSE_DURATION_TICKS = getPulseDuration((int)TickCalculation.fromMillis(1000));
+    // WebFx change: not final as the pulse duration follows the measured frame rate (see updatePulseDuration())
+    private int PULSE_DURATION_NS = getPulseDuration(1000000000);
+    private int PULSE_DURATION_TICKS = getPulseDuration((int)TickCalculation.fromMillis(1000));
 
 /*
     // This PropertyChangeListener is added to Settings to listen for changes
@@ -66,6 +67,21 @@ abstract class AbstractMasterTimer {
 
     private final MainLoop theMaster = new MainLoop();
 
+    // WebFx additions: frame rate measurement & frame budget
+
+    // Frame intervals above this value are not considered as a display refresh (the loop was throttled or stopped)
+    private static final long MAX_FRAME_INTERVAL_NS = 100_000_000; // 10 fps
+    // Number of measured frames before the measured frame interval replaces the default one
+    private static final int MIN_FRAME_SAMPLES = 10;
+    // Number of consecutive overrun pulses after which the non-essential animation timers are called anyway
+    private static final int MAX_SKIPPED_PULSES = 4;
+
+    private long lastFrameSystemTime;
+    private long frameIntervalNs; // exponential moving average of the intervals between consecutive frames
+    private int frameSamples;
+    private long frameBudgetNs; // 0 = the measured frame interval
+    private int skippedPulses;
+
 
 /*
     static {
@@ -93,9 +109,51 @@ abstract class AbstractMasterTimer {
         if (paused) {
             paused = false;
             totalPausedTime += nanos() - startPauseTime;
+            // WebFx addition: the main loop stopped while paused, so it's restarted with a fresh frame measurement
+            lastFrameSystemTime = 0;
+            theMaster.nextPulseTime = nanos();
+            theMaster.updateAnimationRunnable();
         }
     }
 
+    /**
+     * WebFx addition: returns the measured display frame rate (in frames per second), or 0 if not enough frames have
+     * been measured yet.
+     */
+    public double getMeasuredFrameRate() {
+        return frameSamples < MIN_FRAME_SAMPLES ? 0 : 1_000_000_000d / frameIntervalNs;
+    }
+
+    /**
+     * WebFx addition: sets the time budget of a pulse in nanoseconds. Once a pulse has exceeded it, the remaining
+     * non-essential animation timers (see {@link TimerReceiver#isEssential()}) are skipped for that pulse. 0 (the
+     * default value) means that the budget is the measured frame interval.
+     */
+    public void setFrameBudget(long frameBudgetNs) {
+        this.frameBudgetNs = Math.max(0, frameBudgetNs);
+    }
+
+    public long getFrameBudget() {
+        return frameBudgetNs > 0 ? frameBudgetNs : frameSamples < MIN_FRAME_SAMPLES ? PULSE_DURATION_NS : frameIntervalNs;
+    }
+
+    private void recordFrame(long systemNow) {
+        if (lastFrameSystemTime > 0) {
+            long interval = systemNow - lastFrameSystemTime;
+            if (interval > 0 && interval <= MAX_FRAME_INTERVAL_NS) {
+                frameIntervalNs = frameSamples == 0 ? interval : (frameIntervalNs * 7 + interval) / 8;
+                if (++frameSamples >= MIN_FRAME_SAMPLES && frameSamples % MIN_FRAME_SAMPLES == 0)
+                    updatePulseDuration();
+            }
+        }
+        lastFrameSystemTime = systemNow;
+    }
+
+    private void updatePulseDuration() {
+        PULSE_DURATION_NS = getPulseDuration(1000000000);
+        PULSE_DURATION_TICKS = getPulseDuration((int)TickCalculation.fromMillis(1000));
+    }
+
     public long nanos() {
         if (fixedPulseLength > 0)
             return debugNanos;
@@ -212,14 +270,18 @@ abstract class AbstractMasterTimer {
     private final class MainLoop implements DelayedRunnable {
 
         private boolean inactive = true;
+        private boolean scheduled; // WebFx addition to prevent the loop from being posted twice for the same frame
 
         private long nextPulseTime = nanos();
         private long lastPulseDuration = Integer.MIN_VALUE;
 
         @Override
         public void run() {
+            scheduled = false;
             if (paused)
                 return;
+            if (fullspeed)
+                recordFrame(systemNanoTime());
             long now = nanos();
             recordStart((nextPulseTime - now) / 1000000);
             timePulseImpl(now);
@@ -274,10 +336,16 @@ abstract class AbstractMasterTimer {
 
         private void updateAnimationRunnable() {
             boolean newInactive = (animationTimersLength == 0 && receiversLength == 0);
-            if (inactive != newInactive)
+            if (inactive != newInactive) {
                 inactive = newInactive;
-            if (!inactive)
+                // The next frame after an idle period doesn't measure the display refresh
+                lastFrameSystemTime = 0;
+            }
+            // Nothing is posted while idle or paused, so an idle application doesn't consume any frame
+            if (!inactive && !paused && !scheduled) {
+                scheduled = true;
                 postUpdateAnimationRunnable(this);
+            }
         }
     }
 
@@ -285,7 +353,10 @@ abstract class AbstractMasterTimer {
 
     protected abstract int getPulseDuration(int precision);
 
+    private long pulseStartSystemTime;
+
     protected void timePulseImpl(long now) {
+        pulseStartSystemTime = systemNanoTime();
         if (fixedPulseLength > 0) {
             debugNanos += fixedPulseLength;
             now = debugNanos;
@@ -303,13 +374,22 @@ abstract class AbstractMasterTimer {
 
         TimerReceiver animationTimersSnapshot[] = animationTimers;
         int aTLength = animationTimersLength;
+        // WebFx addition: the non-essential animation timers are skipped once the pulse has exceeded the frame budget
+        long budgetEnd = pulseStartSystemTime + getFrameBudget();
+        boolean skipping = false;
         try {
             animationTimersLocked = true;
             // After every frame, call any frame jobs
-            for (int i = 0; i < aTLength; i++)
-                animationTimersSnapshot[i].handle(now);
+            for (int i = 0; i < aTLength; i++) {
+                TimerReceiver animationTimer = animationTimersSnapshot[i];
+                if (!animationTimer.isEssential() && skippedPulses < MAX_SKIPPED_PULSES
+                        && (skipping || (skipping = systemNanoTime() > budgetEnd)))
+                    continue;
+                animationTimer.handle(now);
+            }
         } finally {
             animationTimersLocked = false;
         }
+        skippedPulses = skipping ? skippedPulses + 1 : 0;
     }
 }
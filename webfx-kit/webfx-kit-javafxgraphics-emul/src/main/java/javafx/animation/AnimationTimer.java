@@ -54,11 +54,16 @@ public abstract class AnimationTimer {
 */
             AnimationTimer.this.handle(now);
         }
+
+        @Override public boolean isEssential() {
+            return essential;
+        }
     }
 
     private final AbstractMasterTimer timer;
     private final AnimationTimerReceiver timerReceiver = new AnimationTimerReceiver();
     private boolean active;
+    private boolean essential = true; // WebFx addition
 
     // Access control context, captured in start()
     //private AccessControlContext accessCtrlCtx = null;
@@ -112,4 +117,27 @@ public abstract class AnimationTimer {
             active = false;
         }
     }
+
+    // WebFx additions
+
+    /**
+     * Sets whether this timer must be called in every frame (the default). A non-essential timer (ex: a decorative
+     * effect) is skipped for the frames whose pulse has already exceeded the frame budget, so that the essential
+     * animations keep a smooth frame rate on slow devices.
+     */
+    public void setEssential(boolean essential) {
+        this.essential = essential;
+    }
+
+    public boolean isEssential() {
+        return essential;
+    }
+
+    /**
+     * Sets the time budget (in milliseconds) of a frame pulse beyond which the non-essential timers are skipped. 0
+     * (the default value) means that the budget is the measured interval between two frames of the display.
+     */
+    public static void setFrameBudgetMillis(double frameBudgetMillis) {
+        MasterTimer.get().setFrameBudget((long) (frameBudgetMillis * 1_000_000));
+    }
 }
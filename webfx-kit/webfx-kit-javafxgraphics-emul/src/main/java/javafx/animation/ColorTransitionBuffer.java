@@ -0,0 +1,61 @@
+package javafx.animation;
+
+import javafx.scene.paint.Color;
+
+/**
+ * Interpolates the colors of the color transitions (FillTransition and StrokeTransition) without creating a Color per
+ * frame. The RGBA components are interpolated and quantized to the 8-bit resolution of the CSS colors into a reused
+ * packed int, and a new Color is created only when this quantized color changes. So most frames of a slow color
+ * transition don't allocate anything nor update the peer (which would emit the same CSS color).
+ *
+ * @author Bruno Salmon
+ */
+final class ColorTransitionBuffer {
+
+    private Color start;
+    private Color end;
+    private Color lastColor;
+    private int lastRgba;
+
+    void reset(Color start, Color end) {
+        this.start = start;
+        this.end = end;
+        lastColor = null;
+    }
+
+    /**
+     * Returns the color for the specified fraction, or null if it is the same color as the one returned by the
+     * previous call (in which case the shape doesn't need to be updated).
+     */
+    Color interpolate(double frac) {
+        Color color;
+        int rgba;
+        if (frac <= 0 || frac >= 1) {
+            color = frac <= 0 ? start : end;
+            if (color == lastColor)
+                return null;
+            rgba = toRgba(color.getRed(), color.getGreen(), color.getBlue(), color.getOpacity());
+        } else {
+            rgba = toRgba(
+                    start.getRed()     + (end.getRed()     - start.getRed())     * frac,
+                    start.getGreen()   + (end.getGreen()   - start.getGreen())   * frac,
+                    start.getBlue()    + (end.getBlue()    - start.getBlue())    * frac,
+                    start.getOpacity() + (end.getOpacity() - start.getOpacity()) * frac
+            );
+            if (lastColor != null && rgba == lastRgba)
+                return null;
+            color = Color.rgb(rgba >>> 24, (rgba >> 16) & 0xff, (rgba >> 8) & 0xff, (rgba & 0xff) / 255d);
+        }
+        lastColor = color;
+        lastRgba = rgba;
+        return color;
+    }
+
+    private static int toRgba(double red, double green, double blue, double opacity) {
+        return to8Bits(red) << 24 | to8Bits(green) << 16 | to8Bits(blue) << 8 | to8Bits(opacity);
+    }
+
+    private static int to8Bits(double component) {
+        return (int) Math.round(Math.max(0, Math.min(component, 1)) * 255);
+    }
+}
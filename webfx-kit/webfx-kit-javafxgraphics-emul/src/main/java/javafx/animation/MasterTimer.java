@@ -1,5 +1,8 @@
 package javafx.animation;
 
+import dev.webfx.kit.launcher.WebFxKitLauncher;
+import dev.webfx.kit.launcher.spi.WebFxKitLauncherProvider;
+import dev.webfx.platform.shared.services.log.Logger;
 import dev.webfx.platform.client.services.uischeduler.UiScheduler;
 
 /**
@@ -7,13 +10,35 @@ import dev.webfx.platform.client.services.uischeduler.UiScheduler;
  */
 class MasterTimer extends AbstractMasterTimer {
 
+    private static final int DEFAULT_FRAME_RATE = 60;
+
     private static MasterTimer INSTANCE;
     public static MasterTimer get() {
-        if (INSTANCE == null)
+        if (INSTANCE == null) {
             INSTANCE = new MasterTimer();
+            INSTANCE.pauseWhenHidden();
+        }
         return INSTANCE;
     }
 
+    private void pauseWhenHidden() {
+        // The animations are paused while the application is hidden (ex: browser tab in background), and resume from
+        // where they were when it is visible again (instead of jumping over the hidden period)
+        WebFxKitLauncherProvider provider = null;
+        try {
+            provider = WebFxKitLauncher.getProvider();
+        } catch (Exception e) {
+            Logger.log("No FxKitLauncher provider (assuming server side), animations will not be paused when hidden");
+        }
+        if (provider != null)
+            provider.addVisibilityListener(visible -> {
+                if (visible)
+                    resume();
+                else
+                    pause();
+            });
+    }
+
     @Override
     protected void postUpdateAnimationRunnable(DelayedRunnable animationRunnable) {
         UiScheduler.scheduleDelayInFutureAnimationFrame(animationRunnable.getDelay(), animationRunnable);
@@ -21,7 +46,10 @@ class MasterTimer extends AbstractMasterTimer {
 
     @Override
     protected int getPulseDuration(int precision) {
-        int rate = 60;
+        // The pulse follows the measured display refresh rate (ex: 120 fps on high refresh rate screens) when known
+        int rate = (int) Math.round(getMeasuredFrameRate());
+        if (rate <= 0)
+            rate = DEFAULT_FRAME_RATE;
         return precision / rate;
     }
 }
@@ -0,0 +1,605 @@
+/*
+ * Copyright (c) 2010, 2016, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.animation;
+
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ObjectPropertyBase;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.shape.*;
+import javafx.util.Duration;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This {@code Transition} creates a path animation that spans its
+ * {@link #durationProperty() duration}. The translation along the path is done by updating the
+ * {@code translateX} and {@code translateY} variables of the {@code node}, and
+ * the {@code rotate} variable will get updated if {@code orientation} is set to
+ * {@code OrientationType.ORTHOGONAL_TO_TANGENT}, at regular interval.
+ * <p>
+ * The animated path is defined by the outline of a shape.
+ *
+ * <p>
+ * Code Segment Example:
+ * </p>
+ *
+ * <pre>
+ * <code>
+ * import javafx.scene.shape.*;
+ * import javafx.animation.*;
+ *
+ * ...
+ *
+ *     Rectangle rect = new Rectangle (100, 40, 100, 100);
+ *     rect.setArcHeight(50);
+ *     rect.setArcWidth(50);
+ *     rect.setFill(Color.VIOLET);
+ *
+ *
+ *     Path path = new Path();
+ *     path.getElements().add (new MoveTo (0f, 50f));
+ *     path.getElements().add (new CubicCurveTo (40f, 10f, 390f, 240f, 1904, 50f));
+ *
+ *     pathTransition.setDuration(Duration.millis(10000));
+ *     pathTransition.setNode(rect);
+ *     pathTransition.setPath(path);
+ *     pathTransition.setOrientation(OrientationType.ORTHOGONAL_TO_TANGENT);
+ *     pathTransition.setCycleCount(4f);
+ *     pathTransition.setAutoReverse(true);
+ *
+ *     pathTransition.play();
+ *
+ * ...
+ *
+ * </code>
+ * </pre>
+ *
+ * WebFx note: the path is flattened into line segments once when the transition is synchronized (on start), and an
+ * arc-length lookup table is computed from them, so each frame is a binary search plus a linear interpolation with no
+ * allocation. The supported paths are Path, Line, Polyline, Polygon, Rectangle (without the rounded corners), Circle,
+ * Ellipse, Arc, QuadCurve and CubicCurve (SVGPath is not supported).
+ *
+ * @see Transition
+ * @see Animation
+ *
+ * @since JavaFX 2.0
+ */
+public final class PathTransition extends Transition {
+
+    /**
+     * The target node of this {@code Transition}.
+     * <p>
+     * It is not possible to change the target {@code node} of a running
+     * {@code PathTransition}. If the value of {@code node} is changed for a
+     * running {@code PathTransition}, the animation has to be stopped and
+     * started again to pick up the new value.
+     */
+    private ObjectProperty<Node> node;
+    private static final Node DEFAULT_NODE = null;
+
+    public final void setNode(Node value) {
+        if ((node != null) || (value != null /* DEFAULT_NODE */)) {
+            nodeProperty().set(value);
+        }
+    }
+
+    public final Node getNode() {
+        return (node == null)? DEFAULT_NODE : node.get();
+    }
+
+    public final ObjectProperty<Node> nodeProperty() {
+        if (node == null) {
+            node = new SimpleObjectProperty<Node>(this, "node", DEFAULT_NODE);
+        }
+        return node;
+    }
+
+    private Node cachedNode;
+
+    /**
+     * The duration of this {@code PathTransition}.
+     * <p>
+     * It is not possible to change the {@code duration} of a running
+     * {@code PathTransition}. If the value of {@code duration} is changed for a
+     * running {@code PathTransition}, the animation has to be stopped and
+     * started again to pick up the new value.
+     * <p>
+     * Note: While the unit of {@code duration} is a millisecond, the
+     * granularity depends on the underlying operating system and will in
+     * general be larger. For example animations on desktop systems usually run
+     * with a maximum of 60fps which gives a granularity of ~17 ms.
+     *
+     * Setting duration to value lower than {@link Duration#ZERO} will result
+     * in {@link IllegalArgumentException}.
+     *
+     * @defaultValue 400ms
+     */
+    private ObjectProperty<Duration> duration;
+    private static final Duration DEFAULT_DURATION = Duration.millis(400);
+
+    public final void setDuration(Duration value) {
+        if ((duration != null) || (!DEFAULT_DURATION.equals(value))) {
+            durationProperty().set(value);
+        }
+    }
+
+    public final Duration getDuration() {
+        return (duration == null)? DEFAULT_DURATION : duration.get();
+    }
+
+    public final ObjectProperty<Duration> durationProperty() {
+        if (duration == null) {
+            duration = new ObjectPropertyBase<Duration>(DEFAULT_DURATION) {
+
+                @Override
+                public void invalidated() {
+                    try {
+                        setCycleDuration(getDuration());
+                    } catch (IllegalArgumentException e) {
+                        if (isBound()) {
+                            unbind();
+                        }
+                        set(getCycleDuration());
+                        throw e;
+                    }
+                }
+
+                @Override
+                public Object getBean() {
+                    return PathTransition.this;
+                }
+
+                @Override
+                public String getName() {
+                    return "duration";
+                }
+            };
+        }
+        return duration;
+    }
+
+    /**
+     * The shape on which outline the node should be animated.
+     * <p>
+     * It is not possible to change the {@code path} of a running
+     * {@code PathTransition}. If the value of {@code path} is changed for a
+     * running {@code PathTransition}, the animation has to be stopped and
+     * started again to pick up the new value.
+     *
+     * @defaultValue null
+     */
+    private ObjectProperty<Shape> path;
+    private static final Shape DEFAULT_PATH = null;
+
+    public final void setPath(Shape value) {
+        if ((path != null) || (value != null /* DEFAULT_PATH */)) {
+            pathProperty().set(value);
+        }
+    }
+
+    public final Shape getPath() {
+        return (path == null)? DEFAULT_PATH : path.get();
+    }
+
+    public final ObjectProperty<Shape> pathProperty() {
+        if (path == null) {
+            path = new SimpleObjectProperty<Shape>(this, "path", DEFAULT_PATH);
+        }
+        return path;
+    }
+
+    /**
+     * Specifies the upright orientation of {@code node} along the {@code path}.
+     * @since JavaFX 2.0
+     */
+    public static enum OrientationType {
+
+        /**
+         * The targeted {@code node}'s rotation matrix stays unchange along the
+         * geometric path.
+         */
+        NONE,
+
+        /**
+         * The targeted node's rotation matrix is set to keep {@code node}
+         * perpendicular to the path's tangent along the geometric path.
+         */
+        ORTHOGONAL_TO_TANGENT
+    }
+
+    /**
+     * Specifies the upright orientation of {@code node} along the {@code path}.
+     * The default orientation is set to {@link OrientationType#NONE}.
+     * <p>
+     * It is not possible to change the {@code orientation} of a running
+     * {@code PathTransition}. If the value of {@code orientation} is changed
+     * for a running {@code PathTransition}, the animation has to be stopped and
+     * started again to pick up the new value.
+     *
+     * @defaultValue NONE
+     */
+    private ObjectProperty<OrientationType> orientation;
+    private static final OrientationType DEFAULT_ORIENTATION = OrientationType.NONE;
+
+    public final void setOrientation(OrientationType value) {
+        if ((orientation != null) || (!DEFAULT_ORIENTATION.equals(value))) {
+            orientationProperty().set(value);
+        }
+    }
+
+    public final OrientationType getOrientation() {
+        return (orientation == null)? OrientationType.NONE : orientation.get();
+    }
+
+    public final ObjectProperty<OrientationType> orientationProperty() {
+        if (orientation == null) {
+            orientation = new SimpleObjectProperty<OrientationType>(this, "orientation", DEFAULT_ORIENTATION);
+        }
+        return orientation;
+    }
+
+    private boolean cachedIsNormalRequired;
+
+    /**
+     * The constructor of {@code PathTransition}.
+     *
+     * @param duration
+     *            The {@link #durationProperty() duration} of this {@code PathTransition}
+     * @param path
+     *            The {@link #pathProperty() path} of this {@code PathTransition}
+     * @param node
+     *            The {@link #nodeProperty() node} of this {@code PathTransition}
+     */
+    public PathTransition(Duration duration, Shape path, Node node) {
+        setDuration(duration);
+        setPath(path);
+        setNode(node);
+        setCycleDuration(duration);
+    }
+
+    /**
+     * The constructor of {@code PathTransition}.
+     *
+     * @param duration
+     *            The {@link #durationProperty() duration} of this {@code PathTransition}
+     * @param path
+     *            The {@link #pathProperty() path} of this {@code PathTransition}
+     */
+    public PathTransition(Duration duration, Shape path) {
+        this(duration, path, null);
+    }
+
+    /**
+     * The constructor of {@code PathTransition}.
+     */
+    public PathTransition() {
+        this(DEFAULT_DURATION, null, null);
+    }
+
+    // WebFx implementation of the path geometry: the path is flattened into points (the segment ends) stored in
+    // arrays that make the arc-length lookup table
+
+    private static final double SMOOTH_ZONE = 10;
+    private static final int CURVE_SEGMENTS = 16; // number of line segments per bezier curve
+    private static final double ARC_SEGMENT_ANGLE = Math.PI / 18; // 10 degrees per line segment for arcs
+
+    private int pointCount;
+    private double[] xs = new double[16];
+    private double[] ys = new double[16];
+    private double[] accumLengths = new double[16]; // length of the path from its start to the point
+    private double[] rotateAngles = new double[16]; // angle of the segment ending at the point
+    private boolean[] moveTos = new boolean[16]; // true if the point starts a new sub path (no segment ends there)
+    private double totalLength;
+    private double pivotX, pivotY; // center of the node layout bounds
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void interpolate(double frac) {
+        if (pointCount == 0) {
+            return;
+        }
+        final double part = totalLength * Math.min(1, Math.max(0, frac));
+        final int segIdx = findSegment(part);
+        double x = xs[segIdx], y = ys[segIdx];
+        double rotateAngle = rotateAngles[segIdx];
+        if (segIdx > 0) {
+            final double segLength = accumLengths[segIdx] - accumLengths[segIdx - 1];
+            final double partLength = part - accumLengths[segIdx - 1];
+            if (segLength > 0) {
+                final double ratio = partLength / segLength;
+                x = xs[segIdx - 1] + (x - xs[segIdx - 1]) * ratio;
+                y = ys[segIdx - 1] + (y - ys[segIdx - 1]) * ratio;
+            }
+            if (cachedIsNormalRequired) {
+                // provide smooth rotation on segment bounds
+                final double z = Math.min(SMOOTH_ZONE, segLength / 2);
+                if (partLength < z && !moveTos[segIdx - 1]) {
+                    //interpolate rotation to previous segment
+                    rotateAngle = interpolateAngle(rotateAngles[segIdx - 1], rotateAngle, partLength / z / 2 + 0.5F);
+                } else {
+                    final double dist = segLength - partLength;
+                    if (dist < z && segIdx + 1 < pointCount && !moveTos[segIdx + 1]) {
+                        //interpolate rotation to next segment
+                        rotateAngle = interpolateAngle(rotateAngle, rotateAngles[segIdx + 1], (z - dist) / z / 2);
+                    }
+                }
+            }
+        }
+        cachedNode.setTranslateX(x - pivotX);
+        cachedNode.setTranslateY(y - pivotY);
+        // Need to handle orientation if it is requested
+        if (cachedIsNormalRequired) {
+            cachedNode.setRotate(rotateAngle);
+        }
+    }
+
+    // Returns the index of the first point whose accumulated length reaches the specified length (this can't be the
+    // start of a sub path except the first point, as its accumulated length is the same as the previous point)
+    private int findSegment(double length) {
+        int begin = 0, end = pointCount - 1;
+        while (begin < end) {
+            final int middle = (begin + end) >>> 1;
+            if (accumLengths[middle] < length) {
+                begin = middle + 1;
+            } else {
+                end = middle;
+            }
+        }
+        return begin;
+    }
+
+    private static double interpolateAngle(double fromAngle, double toAngle, double ratio) {
+        final double delta = toAngle - fromAngle;
+        if (Math.abs(delta) > 180) {
+            toAngle += delta > 0 ? -360 : 360;
+        }
+        return fromAngle + ratio * (toAngle - fromAngle);
+    }
+
+    private Node getTargetNode() {
+        final Node node = getNode();
+        return (node != null) ? node : getParentTargetNode();
+    }
+
+    @Override
+    boolean impl_startable(boolean forceSync) {
+        return super.impl_startable(forceSync)
+                && (((getTargetNode() != null) && (getPath() != null)) || (!forceSync
+                && (cachedNode != null)));
+    }
+
+    @Override
+    void impl_sync(boolean forceSync) {
+        super.impl_sync(forceSync);
+        if (forceSync || (cachedNode == null)) {
+            cachedNode = getTargetNode();
+            recomputeSegments();
+            cachedIsNormalRequired = getOrientation() == OrientationType.ORTHOGONAL_TO_TANGENT;
+        }
+    }
+
+    private void recomputeSegments() {
+        pointCount = 0;
+        totalLength = 0;
+        final Shape shape = getPath();
+        if (shape instanceof Path) {
+            addPathElements(((Path) shape).getElements());
+        } else if (shape instanceof Line) {
+            final Line line = (Line) shape;
+            moveTo(line.getStartX(), line.getStartY());
+            lineTo(line.getEndX(), line.getEndY());
+        } else if (shape instanceof Polyline) {
+            addPoints(((Polyline) shape).getPoints(), false);
+        } else if (shape instanceof Polygon) {
+            addPoints(((Polygon) shape).getPoints(), true);
+        } else if (shape instanceof Rectangle) {
+            final Rectangle r = (Rectangle) shape;
+            final double x = r.getX(), y = r.getY(), w = r.getWidth(), h = r.getHeight();
+            moveTo(x, y);
+            lineTo(x + w, y);
+            lineTo(x + w, y + h);
+            lineTo(x, y + h);
+            lineTo(x, y);
+        } else if (shape instanceof Circle) {
+            final Circle c = (Circle) shape;
+            addEllipseArc(c.getCenterX(), c.getCenterY(), c.getRadius(), c.getRadius(), 0, 0, 2 * Math.PI, true);
+        } else if (shape instanceof Ellipse) {
+            final Ellipse e = (Ellipse) shape;
+            addEllipseArc(e.getCenterX(), e.getCenterY(), e.getRadiusX(), e.getRadiusY(), 0, 0, 2 * Math.PI, true);
+        } else if (shape instanceof Arc) {
+            // The arc angles are counter-clockwise in degrees (y axis up), hence the negative angles (y axis down)
+            final Arc a = (Arc) shape;
+            addEllipseArc(a.getCenterX(), a.getCenterY(), a.getRadiusX(), a.getRadiusY(), 0,
+                    -Math.toRadians(a.getStartAngle()), -Math.toRadians(a.getLength()), true);
+        } else if (shape instanceof QuadCurve) {
+            final QuadCurve q = (QuadCurve) shape;
+            moveTo(q.getStartX(), q.getStartY());
+            quadTo(q.getControlX(), q.getControlY(), q.getEndX(), q.getEndY());
+        } else if (shape instanceof CubicCurve) {
+            final CubicCurve c = (CubicCurve) shape;
+            moveTo(c.getStartX(), c.getStartY());
+            cubicTo(c.getControlX1(), c.getControlY1(), c.getControlX2(), c.getControlY2(), c.getEndX(), c.getEndY());
+        }
+        // The points are converted into the parent coordinates of the path, and the lookup table is computed
+        for (int i = 0; i < pointCount; i++) {
+            final Point2D p = shape.localToParent(xs[i], ys[i]);
+            xs[i] = p.getX();
+            ys[i] = p.getY();
+            if (i == 0 || moveTos[i]) {
+                accumLengths[i] = totalLength;
+                rotateAngles[i] = i == 0 ? 0 : rotateAngles[i - 1];
+            } else {
+                final double dx = xs[i] - xs[i - 1], dy = ys[i] - ys[i - 1];
+                final double length = Math.sqrt(dx * dx + dy * dy);
+                totalLength += length;
+                accumLengths[i] = totalLength;
+                rotateAngles[i] = length == 0 ? rotateAngles[i - 1] : Math.toDegrees(Math.atan2(dy, dx));
+            }
+        }
+        final Bounds layoutBounds = cachedNode.getLayoutBounds();
+        pivotX = layoutBounds.getMinX() + layoutBounds.getWidth() / 2;
+        pivotY = layoutBounds.getMinY() + layoutBounds.getHeight() / 2;
+    }
+
+    private void addPathElements(List<PathElement> elements) {
+        double startX = 0, startY = 0; // start of the current sub path (for ClosePath)
+        for (PathElement element : elements) {
+            final double x0 = pointCount == 0 ? 0 : xs[pointCount - 1];
+            final double y0 = pointCount == 0 ? 0 : ys[pointCount - 1];
+            final double ox = element.isAbsolute() ? 0 : x0, oy = element.isAbsolute() ? 0 : y0;
+            if (element instanceof MoveTo) {
+                final MoveTo m = (MoveTo) element;
+                moveTo(startX = ox + m.getX(), startY = oy + m.getY());
+            } else if (element instanceof LineTo) {
+                final LineTo l = (LineTo) element;
+                lineTo(ox + l.getX(), oy + l.getY());
+            } else if (element instanceof HLineTo) {
+                lineTo(ox + ((HLineTo) element).getX(), y0);
+            } else if (element instanceof VLineTo) {
+                lineTo(x0, oy + ((VLineTo) element).getY());
+            } else if (element instanceof QuadCurveTo) {
+                final QuadCurveTo q = (QuadCurveTo) element;
+                quadTo(ox + q.getControlX(), oy + q.getControlY(), ox + q.getX(), oy + q.getY());
+            } else if (element instanceof CubicCurveTo) {
+                final CubicCurveTo c = (CubicCurveTo) element;
+                cubicTo(ox + c.getControlX1(), oy + c.getControlY1(), ox + c.getControlX2(), oy + c.getControlY2(), ox + c.getX(), oy + c.getY());
+            } else if (element instanceof ArcTo) {
+                final ArcTo a = (ArcTo) element;
+                arcTo(x0, y0, a.getRadiusX(), a.getRadiusY(), a.getXAxisRotation(), a.isLargeArcFlag(), a.isSweepFlag(), ox + a.getX(), oy + a.getY());
+            } else if (element instanceof ClosePath) {
+                lineTo(startX, startY);
+            }
+        }
+    }
+
+    private void addPoints(List<Double> points, boolean closed) {
+        final int n = points.size() / 2;
+        for (int i = 0; i < n; i++) {
+            final double x = points.get(2 * i), y = points.get(2 * i + 1);
+            if (i == 0) {
+                moveTo(x, y);
+            } else {
+                lineTo(x, y);
+            }
+        }
+        if (closed && n > 1) {
+            lineTo(points.get(0), points.get(1));
+        }
+    }
+
+    private void quadTo(double cx, double cy, double x, double y) {
+        final double x0 = xs[pointCount - 1], y0 = ys[pointCount - 1];
+        for (int i = 1; i <= CURVE_SEGMENTS; i++) {
+            final double t = (double) i / CURVE_SEGMENTS, u = 1 - t;
+            lineTo(u * u * x0 + 2 * u * t * cx + t * t * x, u * u * y0 + 2 * u * t * cy + t * t * y);
+        }
+    }
+
+    private void cubicTo(double cx1, double cy1, double cx2, double cy2, double x, double y) {
+        final double x0 = xs[pointCount - 1], y0 = ys[pointCount - 1];
+        for (int i = 1; i <= CURVE_SEGMENTS; i++) {
+            final double t = (double) i / CURVE_SEGMENTS, u = 1 - t;
+            final double a = u * u * u, b = 3 * u * u * t, c = 3 * u * t * t, d = t * t * t;
+            lineTo(a * x0 + b * cx1 + c * cx2 + d * x, a * y0 + b * cy1 + c * cy2 + d * y);
+        }
+    }
+
+    // SVG arc (endpoint parameterization) converted into its center parameterization
+    private void arcTo(double x0, double y0, double rx, double ry, double xAxisRotation, boolean largeArc, boolean sweep, double x, double y) {
+        rx = Math.abs(rx);
+        ry = Math.abs(ry);
+        if (rx == 0 || ry == 0) {
+            lineTo(x, y);
+            return;
+        }
+        final double phi = Math.toRadians(xAxisRotation), cos = Math.cos(phi), sin = Math.sin(phi);
+        final double dx2 = (x0 - x) / 2, dy2 = (y0 - y) / 2;
+        final double x1p = cos * dx2 + sin * dy2, y1p = -sin * dx2 + cos * dy2;
+        final double lambda = x1p * x1p / (rx * rx) + y1p * y1p / (ry * ry);
+        if (lambda > 1) { // radii too small => scaled up
+            rx *= Math.sqrt(lambda);
+            ry *= Math.sqrt(lambda);
+        }
+        final double rx2 = rx * rx, ry2 = ry * ry;
+        final double sq = Math.max(0, (rx2 * ry2 - rx2 * y1p * y1p - ry2 * x1p * x1p) / (rx2 * y1p * y1p + ry2 * x1p * x1p));
+        final double coef = (largeArc == sweep ? -1 : 1) * Math.sqrt(sq);
+        final double cxp = coef * rx * y1p / ry, cyp = -coef * ry * x1p / rx;
+        final double cx = cos * cxp - sin * cyp + (x0 + x) / 2, cy = sin * cxp + cos * cyp + (y0 + y) / 2;
+        final double theta1 = Math.atan2((y1p - cyp) / ry, (x1p - cxp) / rx);
+        double dTheta = Math.atan2((-y1p - cyp) / ry, (-x1p - cxp) / rx) - theta1;
+        if (!sweep && dTheta > 0) {
+            dTheta -= 2 * Math.PI;
+        } else if (sweep && dTheta < 0) {
+            dTheta += 2 * Math.PI;
+        }
+        addEllipseArc(cx, cy, rx, ry, phi, theta1, dTheta, false);
+        lineTo(x, y); // exact end point
+    }
+
+    private void addEllipseArc(double cx, double cy, double rx, double ry, double phi, double startAngle, double angleLength, boolean moveToStart) {
+        final double cos = Math.cos(phi), sin = Math.sin(phi);
+        final int n = Math.max(4, (int) Math.ceil(Math.abs(angleLength) / ARC_SEGMENT_ANGLE));
+        for (int i = moveToStart ? 0 : 1; i <= n; i++) {
+            final double t = startAngle + angleLength * i / n;
+            final double ex = rx * Math.cos(t), ey = ry * Math.sin(t);
+            final double x = cx + ex * cos - ey * sin, y = cy + ex * sin + ey * cos;
+            if (i == 0) {
+                moveTo(x, y);
+            } else {
+                lineTo(x, y);
+            }
+        }
+    }
+
+    private void moveTo(double x, double y) {
+        addPoint(x, y, true);
+    }
+
+    private void lineTo(double x, double y) {
+        addPoint(x, y, pointCount == 0);
+    }
+
+    private void addPoint(double x, double y, boolean moveTo) {
+        if (pointCount == xs.length) {
+            final int capacity = pointCount * 2;
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            accumLengths = Arrays.copyOf(accumLengths, capacity);
+            rotateAngles = Arrays.copyOf(rotateAngles, capacity);
+            moveTos = Arrays.copyOf(moveTos, capacity);
+        }
+        xs[pointCount] = x;
+        ys[pointCount] = y;
+        moveTos[pointCount] = moveTo;
+        pointCount++;
+    }
+}
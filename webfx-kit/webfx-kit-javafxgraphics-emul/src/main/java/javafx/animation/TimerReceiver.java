@@ -13,4 +13,12 @@ public interface TimerReceiver {
      *            during one frame.
      */
     public void handle(long now);
+
+    /**
+     * WebFx addition: returns false if this receiver can be skipped for a pulse that has already exceeded its frame
+     * budget.
+     */
+    default boolean isEssential() {
+        return true;
+    }
 }
@@ -1,5 +1,6 @@
 package javafx.application;
 
+import com.sun.javafx.binding.PropertyTransaction;
 import dev.webfx.platform.client.services.uischeduler.UiScheduler;
 import dev.webfx.platform.shared.services.shutdown.Shutdown;
 
@@ -179,4 +180,31 @@ public final class Platform {
         return accessibilityActiveProperty.getReadOnlyProperty();
     }
 */
+
+    // WebFx additions: property transactions
+
+    /**
+     * Starts a property transaction: until the matching {@link #commitPropertyTransaction()}, the listeners of the
+     * modified properties (and of the bindings depending on them) are not notified immediately. They are notified once
+     * on commit, after all the writes, so a binding depending on several of these properties is recomputed only once
+     * and never observes an intermediate state. Transactions can be nested.
+     */
+    public static void beginPropertyTransaction() {
+        PropertyTransaction.begin();
+    }
+
+    /**
+     * Ends the property transaction started by {@link #beginPropertyTransaction()}, and notifies the deferred listeners
+     * if this was the outermost transaction.
+     */
+    public static void commitPropertyTransaction() {
+        PropertyTransaction.commit();
+    }
+
+    /**
+     * Runs the specified runnable inside a property transaction.
+     */
+    public static void runInPropertyTransaction(Runnable runnable) {
+        PropertyTransaction.run(runnable);
+    }
 }
@@ -0,0 +1,148 @@
+package javafx.scene;
+
+import com.sun.javafx.geom.Point2D;
+import dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling.HasNativeChildrenLayout;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.scene.layout.Region;
+import javafx.scene.transform.Transform;
+
+import java.util.List;
+
+/**
+ * Java side picking engine used by the Scene when bounds picking is enabled (see Scene.setBoundsPickingEnabled()),
+ * instead of asking the scene peer (which calls document.elementFromPoint() in the browser and therefore forces a
+ * style & layout flush when the DOM is dirty). This works from the scene graph only, so it is also usable by non-DOM
+ * peers and headless tests.
+ *
+ * The scene graph itself is used as a bounding volume hierarchy: each node caches the bounds (in its parent
+ * coordinates) of itself and all its descendants, so the picking descends only into the branches whose cached bounds
+ * contain the point. These cached bounds are invalidated incrementally (for the node and its ancestors only) from the
+ * property and list changes reported to the SceneRequester (the same changes that update the peers: layout position,
+ * transforms, size, geometry, visibility, children...), and are recomputed lazily on the next pick.
+ *
+ * A parent whose children are laid out by its peer (see HasNativeChildrenLayout, ex: the html TextFlow) is a single
+ * pick target, because the Java positions of its children are not updated (they all stay at the parent origin).
+ *
+ * @author Bruno Salmon
+ */
+final class BoundsPicker {
+
+    private BoundsPicker() {
+    }
+
+    /**
+     * Invalidates the cached picking bounds of the node and its ancestors. The node itself may have no cached bounds
+     * while its parent has (ex: an invisible child, which is not part of the parent bounds), so the propagation always
+     * starts with the parent, and then stops at the first already invalid ancestor (as the cached bounds of a parent
+     * include its visible children, a visible node with invalid bounds has invalid ancestors).
+     */
+    static void invalidate(Node node) {
+        if (node == null)
+            return;
+        node.pickingBounds = null;
+        for (Node parent = node.getParent(); parent != null && parent.pickingBounds != null; parent = parent.getParent())
+            parent.pickingBounds = null;
+    }
+
+    /**
+     * Returns the top-most node of the root branch at the specified coordinates (expressed in the root parent
+     * coordinates, i.e. the scene coordinates for the scene root), or null if there is none.
+     */
+    static Node pick(Node root, double x, double y) {
+        return root == null ? null : pickNode(root, x, y);
+    }
+
+    private static Node pickNode(Node node, double parentX, double parentY) {
+        if (!node.isVisible() || node.isMouseTransparent() || !getPickingBounds(node).contains(parentX, parentY))
+            return null;
+        // Expressing the point in the node local coordinates (by applying the inverse transforms in reverse order)
+        Point2D p = new Point2D((float) parentX, (float) parentY);
+        List<Transform> transforms = node.localToParentTransforms();
+        for (int i = transforms.size() - 1; i >= 0; i--)
+            p = transforms.get(i).inverseTransform(p);
+        double x = p.x, y = p.y;
+        Node clip = node.getClip();
+        if (clip != null && !containsParentPoint(clip, x, y))
+            return null;
+        if (node instanceof Parent && !hasNativeChildrenLayout(node)) {
+            // Looping in inverse order because last children are painted above the previous ones
+            List<Node> children = ((Parent) node).getChildren();
+            for (int i = children.size() - 1; i >= 0; i--) {
+                Node picked = pickNode(children.get(i), x, y);
+                if (picked != null)
+                    return picked;
+            }
+            // Like in the DOM, a region is picked on its area (even with no background), while other parents such as
+            // groups are picked on their bounds only if pickOnBounds is set
+            if (!(node instanceof Region))
+                return node.isPickOnBounds() && node.getBoundsInLocal().contains(x, y) ? node : null;
+        }
+        return node.contains(x, y) ? node : null;
+    }
+
+    private static boolean containsParentPoint(Node node, double parentX, double parentY) {
+        Point2D p = new Point2D((float) parentX, (float) parentY);
+        List<Transform> transforms = node.localToParentTransforms();
+        for (int i = transforms.size() - 1; i >= 0; i--)
+            p = transforms.get(i).inverseTransform(p);
+        return node.contains(p.x, p.y);
+    }
+
+    private static boolean hasNativeChildrenLayout(Node node) {
+        return node.getNodePeer() instanceof HasNativeChildrenLayout;
+    }
+
+    private static Bounds getPickingBounds(Node node) {
+        Bounds bounds = node.pickingBounds;
+        if (bounds == null)
+            node.pickingBounds = bounds = computePickingBounds(node);
+        return bounds;
+    }
+
+    private static Bounds computePickingBounds(Node node) {
+        // Union (in local coordinates) of the node bounds and the picking bounds of its visible children. The bounds of
+        // a parent that is picked only through its children (ex: a group) are not needed (they are the children union).
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        if (!(node instanceof Parent) || node instanceof Region || node.isPickOnBounds()) {
+            Bounds local = node.getBoundsInLocal();
+            if (!local.isEmpty()) {
+                minX = local.getMinX();
+                minY = local.getMinY();
+                maxX = local.getMaxX();
+                maxY = local.getMaxY();
+            }
+        }
+        if (node instanceof Parent && !hasNativeChildrenLayout(node))
+            for (Node child : ((Parent) node).getChildren()) {
+                if (!child.isVisible())
+                    continue;
+                Bounds cb = getPickingBounds(child);
+                if (cb.isEmpty())
+                    continue;
+                minX = Math.min(minX, cb.getMinX());
+                minY = Math.min(minY, cb.getMinY());
+                maxX = Math.max(maxX, cb.getMaxX());
+                maxY = Math.max(maxY, cb.getMaxY());
+            }
+        if (minX > maxX || minY > maxY)
+            return new BoundingBox(0, 0, -1, -1); // empty bounds
+        // Transforming the 4 corners into the parent coordinates
+        List<Transform> transforms = node.localToParentTransforms();
+        if (transforms.isEmpty())
+            return new BoundingBox(minX, minY, maxX - minX, maxY - minY);
+        double pMinX = Double.POSITIVE_INFINITY, pMinY = Double.POSITIVE_INFINITY;
+        double pMaxX = Double.NEGATIVE_INFINITY, pMaxY = Double.NEGATIVE_INFINITY;
+        for (int corner = 0; corner < 4; corner++) {
+            Point2D p = new Point2D((float) (corner % 2 == 0 ? minX : maxX), (float) (corner < 2 ? minY : maxY));
+            for (Transform transform : transforms)
+                p = transform.transform(p);
+            pMinX = Math.min(pMinX, p.x);
+            pMinY = Math.min(pMinY, p.y);
+            pMaxX = Math.max(pMaxX, p.x);
+            pMaxY = Math.max(pMaxY, p.y);
+        }
+        return new BoundingBox(pMinX, pMinY, pMaxX - pMinX, pMaxY - pMinY);
+    }
+}
@@ -30,6 +30,7 @@ import javafx.scene.transform.Scale;
 import javafx.scene.transform.Transform;
 import javafx.scene.transform.Translate;
 import javafx.stage.Window;
+import javafx.util.Subscription;
 import dev.webfx.kit.launcher.WebFxKitLauncher;
 import dev.webfx.kit.mapper.peers.javafxgraphics.NodePeer;
 import dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling.HasSizeChangedCallback;
@@ -75,6 +76,44 @@ public abstract class Node implements INode, EventTarget, Styleable {
         return mouseTransparentProperty;
     }
 
+    /**
+     * Defines how the picking computation is done for this node when
+     * triggering a {@code MouseEvent} or a {@code contains} function call.
+     *
+     * If {@code pickOnBounds} is {@code true}, then picking is computed by
+     * intersecting with the bounds of this node, else picking is computed
+     * by intersecting with the geometric shape of this node.
+     *
+     * WebFx note: this is used only by the Scene bounds picking (see Scene.setBoundsPickingEnabled()).
+     *
+     * @defaultValue false
+     */
+    private BooleanProperty pickOnBounds;
+
+    public final void setPickOnBounds(boolean value) {
+        pickOnBoundsProperty().set(value);
+    }
+
+    public final boolean isPickOnBounds() {
+        return pickOnBounds != null && pickOnBounds.get();
+    }
+
+    public final BooleanProperty pickOnBoundsProperty() {
+        if (pickOnBounds == null) {
+            pickOnBounds = new SimpleBooleanProperty(false) {
+                @Override
+                protected void invalidated() {
+                    BoundsPicker.invalidate(Node.this);
+                }
+            };
+        }
+        return pickOnBounds;
+    }
+
+    // WebFx addition: cached bounds (in parent coordinates) of this node and its descendants for the Scene bounds
+    // picking, null when invalid (see BoundsPicker)
+    Bounds pickingBounds;
+
     /**
      * Called whenever the "managed" flag has changed. This is only
      * used by Parent as an optimization to keep track of whether a
@@ -1062,6 +1101,34 @@ public abstract class Node implements INode, EventTarget, Styleable {
         getInternalEventDispatcher().getEventHandlerManager().removeEventFilter(eventType, eventFilter);
     }
 
+    /**
+     * WebFx addition: registers an event handler to this node (as {@link #addEventHandler(EventType, EventHandler)}
+     * does) and returns a {@code Subscription} that unregisters it, so the caller doesn't need to keep the handler.
+     *
+     * @param <T> the specific event class of the handler
+     * @param eventType the type of the events to receive by the handler
+     * @param eventHandler the handler to register
+     * @return a {@code Subscription} which can be used to unregister the handler
+     */
+    public final <T extends Event> Subscription subscribeEventHandler(EventType<T> eventType, EventHandler<? super T> eventHandler) {
+        addEventHandler(eventType, eventHandler);
+        return () -> removeEventHandler(eventType, eventHandler);
+    }
+
+    /**
+     * WebFx addition: registers an event filter to this node (as {@link #addEventFilter(EventType, EventHandler)}
+     * does) and returns a {@code Subscription} that unregisters it, so the caller doesn't need to keep the filter.
+     *
+     * @param <T> the specific event class of the filter
+     * @param eventType the type of the events to receive by the filter
+     * @param eventFilter the filter to register
+     * @return a {@code Subscription} which can be used to unregister the filter
+     */
+    public final <T extends Event> Subscription subscribeEventFilter(EventType<T> eventType, EventHandler<? super T> eventFilter) {
+        addEventFilter(eventType, eventFilter);
+        return () -> removeEventFilter(eventType, eventFilter);
+    }
+
     /**
      * Sets the handler to use for this event type. There can only be one such handler
      * specified at a time. This handler is guaranteed to be called as the last, after
@@ -1314,6 +1381,7 @@ public abstract class Node implements INode, EventTarget, Styleable {
 
     public void onPeerSizeChanged() {
         markDirtyLayoutBranch();
+        BoundsPicker.invalidate(this);
         impl_geomChanged(); // will call parent.requestLayout()
         layoutBounds.setValue(getLayoutBounds());
     }
@@ -1322,6 +1390,41 @@ public abstract class Node implements INode, EventTarget, Styleable {
         return getLayoutBounds(); // Temporary
     }
 
+    /**
+     * Returns {@code true} if the given point (specified in the local
+     * coordinate space of this {@code Node}) is contained within the shape of
+     * this {@code Node}. Note that this method does not take visibility into
+     * account; the test is based on the geometry of this {@code Node} only.
+     * @param localX the x coordinate of the point in Node's space
+     * @param localY the y coordinate of the point in Node's space
+     * @return the result of contains for this {@code Node}
+     */
+    public boolean contains(double localX, double localY) {
+        return getBoundsInLocal().contains(localX, localY)
+                && (isPickOnBounds() || impl_computeContains(localX, localY));
+    }
+
+    /**
+     * Returns {@code true} if the given point (specified in the local
+     * coordinate space of this {@code Node}) is contained within the shape of
+     * this {@code Node}. Note that this method does not take visibility into
+     * account; the test is based on the geometry of this {@code Node} only.
+     * @param localPoint the 2D point in Node's space
+     * @return the result of contains for this {@code Node}
+     */
+    public boolean contains(Point2D localPoint) {
+        return contains(localPoint.getX(), localPoint.getY());
+    }
+
+    /**
+     * Tests whether the point (already checked to be within the local bounds) is within the geometric shape of this
+     * node. WebFx note: the default implementation returns true (the node shape is its bounds), and only the shapes
+     * whose geometry differs significantly from their bounds override it.
+     */
+    protected boolean impl_computeContains(double localX, double localY) {
+        return true;
+    }
+
     protected void createLayoutMeasurable(NodePeer nodePeer) {
         // Always creating a new LayoutMeasurable (even when nodePeer is valid) so that min/pref/max
         // width/height user values are returned in priority whenever they have been set.
@@ -3,6 +3,7 @@ package javafx.scene;
 import com.sun.javafx.geom.BaseBounds;
 import com.sun.javafx.geom.RectBounds;
 import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.javafx.util.SizeCache;
 import javafx.beans.property.Property;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
@@ -10,12 +11,11 @@ import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.scene.layout.LayoutFlags;
 import javafx.scene.layout.PreferenceResizableNode;
-import dev.webfx.kit.mapper.peers.javafxgraphics.markers.HasManagedProperty;
 import dev.webfx.kit.util.properties.ObservableLists;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * @author Bruno Salmon
@@ -39,6 +39,7 @@ public class Parent extends Node {
                         setAndPropagateScene(child, null);
                     }
             }
+            childrenSnapshot = null;
             managedChildChanged();
         });
     }
@@ -88,6 +89,19 @@ public class Parent extends Node {
         return unmodifiableChildren;
     }
 
+    /**
+     * A snapshot array of the children used by the layout traversal. It is created whenever first asked for and
+     * thrown away whenever the children list changes (snapshot-on-write), so the layout pass doesn't need to copy
+     * the children on each call, while still being safe if the children are modified during that pass.
+     */
+    private Node[] childrenSnapshot;
+
+    private Node[] getChildrenSnapshot() {
+        if (childrenSnapshot == null)
+            childrenSnapshot = children.toArray(new Node[children.size()]);
+        return childrenSnapshot;
+    }
+
     /**
      * A cached reference to the unmodifiable managed children of this Parent. This is
      * created whenever first asked for, and thrown away whenever children are added
@@ -103,8 +117,15 @@ public class Parent extends Node {
      * @return list of all managed children in this parent
      */
     protected <E extends Node> List<E> getManagedChildren() {
-        if (unmodifiableManagedChildren == null)
-            unmodifiableManagedChildren = children.stream().filter(HasManagedProperty::isManaged).collect(Collectors.toList());
+        if (unmodifiableManagedChildren == null) {
+            List<Node> managedChildren = new ArrayList<>(children.size());
+            for (int i = 0, max = children.size(); i < max; i++) {
+                Node child = children.get(i);
+                if (child.isManaged())
+                    managedChildren.add(child);
+            }
+            unmodifiableManagedChildren = Collections.unmodifiableList(managedChildren);
+        }
         return (List<E>)unmodifiableManagedChildren;
     }
     /**
@@ -171,6 +192,9 @@ public class Parent extends Node {
     private double prefHeightCache = -1;
     private double minWidthCache = -1;
     private double minHeightCache = -1;
+    // WebFx addition: small LRU cache for the sizes computed with a constraint other than -1 (ex: the pref height of
+    // a content-biased node at a given width), as parents usually ask them several times during a layout pass
+    private SizeCache constrainedSizeCache;
 
     public void setLayoutFlag(LayoutFlags flag) {
         if (needsLayout != null)
@@ -226,6 +250,8 @@ public class Parent extends Node {
             prefHeightCache = -1;
             minWidthCache = -1;
             minHeightCache = -1;
+            if (constrainedSizeCache != null)
+                constrainedSizeCache.clear();
             sizeCacheClear = true;
         }
     }
@@ -241,8 +267,7 @@ public class Parent extends Node {
             }
             return prefWidthCache;
         }
-        double result = computePrefWidth(height);
-        return Double.isNaN(result) || result < 0 ? 0 : result;
+        return computeConstrainedSize(SizeCache.PREF_WIDTH, height);
     }
 
     @Override
@@ -256,8 +281,7 @@ public class Parent extends Node {
             }
             return prefHeightCache;
         }
-        double result = computePrefHeight(width);
-        return Double.isNaN(result) || result < 0 ? 0 : result;
+        return computeConstrainedSize(SizeCache.PREF_HEIGHT, width);
     }
 
     @Override
@@ -271,8 +295,7 @@ public class Parent extends Node {
             }
             return minWidthCache;
         }
-        double result = computeMinWidth(height);
-        return Double.isNaN(result) || result < 0 ? 0 : result;
+        return computeConstrainedSize(SizeCache.MIN_WIDTH, height);
     }
 
     @Override
@@ -286,8 +309,29 @@ public class Parent extends Node {
             }
             return minHeightCache;
         }
-        double result = computeMinHeight(width);
-        return Double.isNaN(result) || result < 0 ? 0 : result;
+        return computeConstrainedSize(SizeCache.MIN_HEIGHT, width);
+    }
+
+    private double computeConstrainedSize(int kind, double constraint) { // WebFx addition
+        if (constrainedSizeCache != null) {
+            double cachedSize = constrainedSizeCache.get(kind, constraint);
+            if (cachedSize >= 0)
+                return cachedSize;
+        }
+        double result;
+        switch (kind) {
+            case SizeCache.PREF_WIDTH:  result = computePrefWidth(constraint); break;
+            case SizeCache.PREF_HEIGHT: result = computePrefHeight(constraint); break;
+            case SizeCache.MIN_WIDTH:   result = computeMinWidth(constraint); break;
+            default:                    result = computeMinHeight(constraint); break;
+        }
+        if (Double.isNaN(result) || result < 0)
+            result = 0;
+        if (constrainedSizeCache == null)
+            constrainedSizeCache = new SizeCache();
+        constrainedSizeCache.put(kind, constraint, result);
+        sizeCacheClear = false;
+        return result;
     }
 
     /**
@@ -407,7 +451,9 @@ public class Parent extends Node {
                 layoutChildren();
                 // Intended fall-through
             case DIRTY_BRANCH:
-                for (Node child : new ArrayList<>(children)) {
+                Node[] snapshot = getChildrenSnapshot();
+                for (int i = 0; i < snapshot.length; i++) {
+                    Node child = snapshot[i];
                     if (child instanceof Parent) {
                         ((Parent) child).layout();
 /*
@@ -442,7 +488,12 @@ public class Parent extends Node {
      * Subclasses should override this function to layout content as needed.
      */
     protected void layoutChildren() {
-        children.stream().filter(node -> node.isResizable() && node.isManaged()).forEach(Node::autosize);
+        List<Node> managed = getManagedChildren();
+        for (int i = 0, max = managed.size(); i < max; i++) {
+            Node node = managed.get(i);
+            if (node.isResizable())
+                node.autosize();
+        }
     }
 
     /**
@@ -619,11 +619,13 @@ public class Scene implements EventTarget,
 
         @Override
         public void requestNodePeerPropertyUpdate(Node node, ObservableValue changedProperty) {
+            BoundsPicker.invalidate(node);
             executePropertyChange(() -> getScene(node).updateViewProperty(node, changedProperty));
         }
 
         @Override
         public void requestNodePeerListUpdate(Node node, ObservableList changedList, ListChangeListener.Change change) {
+            BoundsPicker.invalidate(node);
             if (change != null && !UiScheduler.isAnimationFrameNow())
                 change = new SnapshotChange(change);
             ListChangeListener.Change finalChange = change;
@@ -647,6 +649,7 @@ public class Scene implements EventTarget,
             // Setting the parent to all children
             for (Node child : parent.getChildren())
                 child.setParent(parent);
+            BoundsPicker.invalidate(parent);
             updateParentAndChildrenPeers(parent, (ListChangeListener.Change<Node>) c);
         }, parent.getChildren());
     }
@@ -2154,7 +2157,28 @@ public class Scene implements EventTarget,
         }
     }
 
+    // WebFx addition: picking from the node bounds hierarchy instead of the peer
+    private boolean boundsPickingEnabled;
+
+    /**
+     * WebFx addition: when enabled, the picking of the mouse events target (including hover and drag) is computed on
+     * the Java side from a bounds hierarchy of the scene graph (honouring pickOnBounds, mouseTransparent, visible, clip
+     * and the shapes geometry), instead of asking the scene peer (which calls document.elementFromPoint() in the
+     * browser and forces a style & layout flush when the DOM is dirty). Disabled by default.
+     */
+    public void setBoundsPickingEnabled(boolean boundsPickingEnabled) {
+        this.boundsPickingEnabled = boundsPickingEnabled;
+    }
+
+    public boolean isBoundsPickingEnabled() {
+        return boundsPickingEnabled;
+    }
+
     private PickResult pick(final double x, final double y) {
+        if (boundsPickingEnabled) {
+            Node node = BoundsPicker.pick(getRoot(), x, y);
+            return node == null ? null : new PickResult(node, x, y);
+        }
         NodePeer nodePeer = impl_getPeer().pickPeer(x, y);
         PickResult pickResult = null;
         if (nodePeer != null) {
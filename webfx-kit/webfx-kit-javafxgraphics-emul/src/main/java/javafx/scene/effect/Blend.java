@@ -0,0 +1,87 @@
+package javafx.scene.effect;
+
+/**
+ * An effect that blends the two inputs together using one of the
+ * pre-defined {@link BlendMode}s.
+ *
+ * WebFx note: mapped to a svg filter with a feBlend primitive (the modes not supported by the browser fall back to
+ * a normal blending).
+ *
+ * @author Bruno Salmon
+ */
+public class Blend extends Effect {
+
+    private BlendMode mode = BlendMode.SRC_OVER;
+    private double opacity = 1;
+    private Effect bottomInput;
+    private Effect topInput;
+
+    /**
+     * Creates a new instance of Blend with default parameters.
+     */
+    public Blend() {}
+
+    /**
+     * Creates a new instance of Blend with the specified mode.
+     * @param mode the {@code BlendMode} used to blend the two inputs together
+     * @since JavaFX 2.1
+     */
+    public Blend(BlendMode mode) {
+        setMode(mode);
+    }
+
+    /**
+     * Creates a new instance of Blend with the specified mode and bottom
+     * and top inputs.
+     * @param mode the {@code BlendMode} used to blend the two inputs together
+     * @param bottomInput the bottom input for this {@code Blend} operation
+     * @param topInput the top input for this {@code Blend} operation
+     * @since JavaFX 2.1
+     */
+    public Blend(BlendMode mode, Effect bottomInput, Effect topInput) {
+        setMode(mode);
+        setBottomInput(bottomInput);
+        setTopInput(topInput);
+    }
+
+    public BlendMode getMode() {
+        return mode;
+    }
+
+    public void setMode(BlendMode mode) {
+        this.mode = mode;
+        markDirty();
+    }
+
+    public double getOpacity() {
+        return opacity;
+    }
+
+    public void setOpacity(double opacity) {
+        this.opacity = opacity;
+        markDirty();
+    }
+
+    public Effect getBottomInput() {
+        return bottomInput;
+    }
+
+    public void setBottomInput(Effect bottomInput) {
+        this.bottomInput = bottomInput;
+        markDirty();
+    }
+
+    public Effect getTopInput() {
+        return topInput;
+    }
+
+    public void setTopInput(Effect topInput) {
+        this.topInput = topInput;
+        markDirty();
+    }
+
+    @Override
+    int getChainRevision() {
+        return getChainRevision(getChainRevision(super.getChainRevision(), bottomInput), topInput);
+    }
+}
@@ -0,0 +1,52 @@
+package javafx.scene.effect;
+
+/**
+ * A high-level effect that makes brighter portions of the input image
+ * appear to glow, based on a configurable threshold.
+ *
+ * WebFx note: mapped to a svg filter (the portions above the threshold are blurred and added to the input).
+ *
+ * @author Bruno Salmon
+ */
+public class Bloom extends Effect {
+
+    private double threshold = 0.3;
+    private Effect input;
+
+    /**
+     * Creates a new instance of Bloom with default parameters.
+     */
+    public Bloom() {}
+
+    /**
+     * Creates a new instance of Bloom with the specified threshold.
+     * @param threshold the threshold value for luminosity of the pixels to glow
+     * @since JavaFX 2.1
+     */
+    public Bloom(double threshold) {
+        setThreshold(threshold);
+    }
+
+    public double getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(double threshold) {
+        this.threshold = threshold;
+        markDirty();
+    }
+
+    public Effect getInput() {
+        return input;
+    }
+
+    public void setInput(Effect input) {
+        this.input = input;
+        markDirty();
+    }
+
+    @Override
+    int getChainRevision() {
+        return getChainRevision(super.getChainRevision(), input);
+    }
+}
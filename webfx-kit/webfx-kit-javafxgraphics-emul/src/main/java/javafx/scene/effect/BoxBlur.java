@@ -3,7 +3,7 @@ package javafx.scene.effect;
 /**
  * @author Bruno Salmon
  */
-public class BoxBlur implements Effect {
+public class BoxBlur extends Effect {
 
     private final double width;
     private final double height;
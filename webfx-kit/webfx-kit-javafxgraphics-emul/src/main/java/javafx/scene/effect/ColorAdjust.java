@@ -0,0 +1,89 @@
+package javafx.scene.effect;
+
+/**
+ * An effect that allows for per-pixel adjustments of hue, saturation,
+ * brightness, and contrast.
+ *
+ * WebFx note: mapped to the hue-rotate(), saturate(), brightness() and contrast() css filter functions.
+ *
+ * @author Bruno Salmon
+ */
+public class ColorAdjust extends Effect {
+
+    private double hue;
+    private double saturation;
+    private double brightness;
+    private double contrast;
+    private Effect input;
+
+    /**
+     * Creates a new instance of ColorAdjust with default parameters.
+     */
+    public ColorAdjust() {}
+
+    /**
+     * Creates a new instance of ColorAdjust with the specified hue, saturation,
+     * brightness, and contrast.
+     * @param hue the hue adjustment value
+     * @param saturation the saturation adjustment value
+     * @param brightness the brightness adjustment value
+     * @param contrast the contrast adjustment value
+     * @since JavaFX 2.1
+     */
+    public ColorAdjust(double hue, double saturation, double brightness, double contrast) {
+        setHue(hue);
+        setSaturation(saturation);
+        setBrightness(brightness);
+        setContrast(contrast);
+    }
+
+    public double getHue() {
+        return hue;
+    }
+
+    public void setHue(double hue) {
+        this.hue = hue;
+        markDirty();
+    }
+
+    public double getSaturation() {
+        return saturation;
+    }
+
+    public void setSaturation(double saturation) {
+        this.saturation = saturation;
+        markDirty();
+    }
+
+    public double getBrightness() {
+        return brightness;
+    }
+
+    public void setBrightness(double brightness) {
+        this.brightness = brightness;
+        markDirty();
+    }
+
+    public double getContrast() {
+        return contrast;
+    }
+
+    public void setContrast(double contrast) {
+        this.contrast = contrast;
+        markDirty();
+    }
+
+    public Effect getInput() {
+        return input;
+    }
+
+    public void setInput(Effect input) {
+        this.input = input;
+        markDirty();
+    }
+
+    @Override
+    int getChainRevision() {
+        return getChainRevision(super.getChainRevision(), input);
+    }
+}
@@ -5,7 +5,7 @@ import javafx.scene.paint.Color;
 /**
  * @author Bruno Salmon
  */
-public class DropShadow implements Effect {
+public class DropShadow extends Effect {
 
     private BlurType blurType = BlurType.THREE_PASS_BOX;
     private Color color = Color.BLACK;
@@ -75,6 +75,7 @@ public class DropShadow implements Effect {
 
     public void setBlurType(BlurType blurType) {
         this.blurType = blurType;
+        markDirty();
     }
 
     public Color getColor() {
@@ -83,6 +84,7 @@ public class DropShadow implements Effect {
 
     public void setColor(Color color) {
         this.color = color;
+        markDirty();
     }
 
     public double getRadius() {
@@ -91,6 +93,7 @@ public class DropShadow implements Effect {
 
     public void setRadius(double radius) {
         this.radius = radius;
+        markDirty();
     }
 
     public double getSpread() {
@@ -99,6 +102,7 @@ public class DropShadow implements Effect {
 
     public void setSpread(double spread) {
         this.spread = spread;
+        markDirty();
     }
 
     public double getOffsetX() {
@@ -107,6 +111,7 @@ public class DropShadow implements Effect {
 
     public void setOffsetX(double offsetX) {
         this.offsetX = offsetX;
+        markDirty();
     }
 
     public double getOffsetY() {
@@ -115,6 +120,7 @@ public class DropShadow implements Effect {
 
     public void setOffsetY(double offsetY) {
         this.offsetY = offsetY;
+        markDirty();
     }
 
     public Effect getInput() {
@@ -123,5 +129,11 @@ public class DropShadow implements Effect {
 
     public void setInput(Effect input) {
         this.input = input;
+        markDirty();
+    }
+
+    @Override
+    int getChainRevision() {
+        return getChainRevision(super.getChainRevision(), input);
     }
 }
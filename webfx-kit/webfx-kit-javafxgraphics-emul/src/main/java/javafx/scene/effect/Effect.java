@@ -1,7 +1,59 @@
 package javafx.scene.effect;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * @author Bruno Salmon
  */
-public interface Effect {
+public abstract class Effect {
+
+    protected Effect() {
+    }
+
+    // WebFx additions: revision of the input chain (so the peers can replace what they created for a previous
+    // revision, ex: a svg filter) and cache for the peers (ex: the css filter rendering this effect), which is
+    // invalidated as soon as an effect of the input chain is modified
+
+    private static int revisionSeq;
+    private int revision = ++revisionSeq;
+    private Map<Object, Object> peerCache;
+    private int peerCacheRevision;
+
+    final void markDirty() {
+        revision = ++revisionSeq;
+    }
+
+    // Returns the highest revision of the input chain, which changes whenever one of its effects is modified (as the
+    // revisions come from a single sequence, replacing an input with an older effect still produces a new value)
+    int getChainRevision() {
+        return revision;
+    }
+
+    static int getChainRevision(int revision, Effect input) {
+        return input == null ? revision : Math.max(revision, input.getChainRevision());
+    }
+
+    public int impl_getRevision() {
+        return getChainRevision();
+    }
+
+    public Object impl_getPeerCache(Object key) {
+        if (peerCache == null)
+            return null;
+        if (peerCacheRevision != getChainRevision()) {
+            peerCache = null;
+            return null;
+        }
+        return peerCache.get(key);
+    }
+
+    public void impl_setPeerCache(Object key, Object value) {
+        int chainRevision = getChainRevision();
+        if (peerCache == null || peerCacheRevision != chainRevision) {
+            peerCache = new HashMap<>();
+            peerCacheRevision = chainRevision;
+        }
+        peerCache.put(key, value);
+    }
 }
@@ -3,7 +3,7 @@ package javafx.scene.effect;
 /**
  * @author Bruno Salmon
  */
-public class GaussianBlur implements Effect {
+public class GaussianBlur extends Effect {
 
     private final double radius;
 
@@ -0,0 +1,52 @@
+package javafx.scene.effect;
+
+/**
+ * A high-level effect that makes the input image appear to glow,
+ * based on a configurable threshold.
+ *
+ * WebFx note: mapped to a svg filter (the input added to its blurred copy).
+ *
+ * @author Bruno Salmon
+ */
+public class Glow extends Effect {
+
+    private double level = 0.3;
+    private Effect input;
+
+    /**
+     * Creates a new instance of Glow with default parameters.
+     */
+    public Glow() {}
+
+    /**
+     * Creates a new instance of Glow with specified level.
+     * @param level the level value, which controls the intensity
+     * of the glow effect
+     */
+    public Glow(double level) {
+        setLevel(level);
+    }
+
+    public double getLevel() {
+        return level;
+    }
+
+    public void setLevel(double level) {
+        this.level = level;
+        markDirty();
+    }
+
+    public Effect getInput() {
+        return input;
+    }
+
+    public void setInput(Effect input) {
+        this.input = input;
+        markDirty();
+    }
+
+    @Override
+    int getChainRevision() {
+        return getChainRevision(super.getChainRevision(), input);
+    }
+}
@@ -28,7 +28,7 @@ package javafx.scene.effect;
 import javafx.scene.paint.Color;
 
 
-public class InnerShadow implements Effect {
+public class InnerShadow extends Effect {
     private BlurType blurType;
     private Color color;
     private double radius;
@@ -95,6 +95,7 @@ public class InnerShadow implements Effect {
 
     public void setBlurType(BlurType blurType) {
         this.blurType = blurType;
+        markDirty();
     }
 
     public Color getColor() {
@@ -103,6 +104,7 @@ public class InnerShadow implements Effect {
 
     public void setColor(Color color) {
         this.color = color;
+        markDirty();
     }
 
     public double getRadius() {
@@ -111,6 +113,7 @@ public class InnerShadow implements Effect {
 
     public void setRadius(double radius) {
         this.radius = radius;
+        markDirty();
     }
 
     public double getChoke() {
@@ -119,6 +122,7 @@ public class InnerShadow implements Effect {
 
     public void setChoke(double choke) {
         this.choke = choke;
+        markDirty();
     }
 
     public double getOffsetX() {
@@ -127,6 +131,7 @@ public class InnerShadow implements Effect {
 
     public void setOffsetX(double offsetX) {
         this.offsetX = offsetX;
+        markDirty();
     }
 
     public double getOffsetY() {
@@ -135,6 +140,7 @@ public class InnerShadow implements Effect {
 
     public void setOffsetY(double offsetY) {
         this.offsetY = offsetY;
+        markDirty();
     }
 
     public Effect getInput() {
@@ -143,5 +149,11 @@ public class InnerShadow implements Effect {
 
     public void setInput(Effect input) {
         this.input = input;
+        markDirty();
+    }
+
+    @Override
+    int getChainRevision() {
+        return getChainRevision(super.getChainRevision(), input);
     }
 }
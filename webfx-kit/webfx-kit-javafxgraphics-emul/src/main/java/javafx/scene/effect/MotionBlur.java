@@ -0,0 +1,65 @@
+package javafx.scene.effect;
+
+/**
+ * A motion blur effect using a Gaussian convolution kernel, with a
+ * configurable radius and angle.
+ *
+ * WebFx note: mapped to a svg filter with a Gaussian blur whose horizontal and vertical deviations are the projections
+ * of the radius on the angle (as the svg blur can't be rotated, this is exact only for horizontal and vertical angles).
+ *
+ * @author Bruno Salmon
+ */
+public class MotionBlur extends Effect {
+
+    private double angle;
+    private double radius = 10;
+    private Effect input;
+
+    /**
+     * Creates a new instance of MotionBlur with default parameters.
+     */
+    public MotionBlur() {}
+
+    /**
+     * Creates a new instance of MotionBlur with the specified angle and radius.
+     * @param angle the angle of the motion effect, in degrees
+     * @param radius the radius of the blur kernel
+     * @since JavaFX 2.1
+     */
+    public MotionBlur(double angle, double radius) {
+        setAngle(angle);
+        setRadius(radius);
+    }
+
+    public double getAngle() {
+        return angle;
+    }
+
+    public void setAngle(double angle) {
+        this.angle = angle;
+        markDirty();
+    }
+
+    public double getRadius() {
+        return radius;
+    }
+
+    public void setRadius(double radius) {
+        this.radius = radius;
+        markDirty();
+    }
+
+    public Effect getInput() {
+        return input;
+    }
+
+    public void setInput(Effect input) {
+        this.input = input;
+        markDirty();
+    }
+
+    @Override
+    int getChainRevision() {
+        return getChainRevision(super.getChainRevision(), input);
+    }
+}
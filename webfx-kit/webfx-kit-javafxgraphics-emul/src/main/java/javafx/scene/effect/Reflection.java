@@ -58,7 +58,7 @@ import javafx.beans.property.DoublePropertyBase;
  * </p>
  * @since JavaFX 2.0
  */
-public class Reflection implements Effect {
+public class Reflection extends Effect {
     /**
      * Creates a new instance of Reflection with default parameters.
      */
@@ -0,0 +1,52 @@
+package javafx.scene.effect;
+
+/**
+ * A filter that produces a sepia tone effect, similar to antique photographs.
+ *
+ * WebFx note: mapped to the sepia() css filter function.
+ *
+ * @author Bruno Salmon
+ */
+public class SepiaTone extends Effect {
+
+    private double level = 1;
+    private Effect input;
+
+    /**
+     * Creates a new instance of SepiaTone with default parameters.
+     */
+    public SepiaTone() {}
+
+    /**
+     * Creates a new instance of SepiaTone with the specified level.
+     * @param level the level value, which controls the intensity of the
+     * sepia effect
+     * @since JavaFX 2.1
+     */
+    public SepiaTone(double level) {
+        setLevel(level);
+    }
+
+    public double getLevel() {
+        return level;
+    }
+
+    public void setLevel(double level) {
+        this.level = level;
+        markDirty();
+    }
+
+    public Effect getInput() {
+        return input;
+    }
+
+    public void setInput(Effect input) {
+        this.input = input;
+        markDirty();
+    }
+
+    @Override
+    int getChainRevision() {
+        return getChainRevision(super.getChainRevision(), input);
+    }
+}
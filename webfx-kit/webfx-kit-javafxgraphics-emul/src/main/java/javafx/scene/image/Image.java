@@ -1,7 +1,13 @@
 package javafx.scene.image;
 
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleObjectProperty;
 import dev.webfx.kit.mapper.peers.javafxgraphics.markers.HasHeightProperty;
 import dev.webfx.kit.mapper.peers.javafxgraphics.markers.HasWidthProperty;
 
@@ -336,4 +342,60 @@ public class Image implements
         return progress;
     }
 
+    /**
+     * Indicates whether an error was detected while loading an image.
+     *
+     * @defaultValue false
+     */
+    private BooleanProperty error;
+
+    public final boolean isError() {
+        return error == null ? false : error.get();
+    }
+
+    public final ReadOnlyBooleanProperty errorProperty() {
+        return errorPropertyImpl();
+    }
+
+    private BooleanProperty errorPropertyImpl() {
+        if (error == null) {
+            error = new SimpleBooleanProperty(this, "error");
+        }
+        return error;
+    }
+
+    /**
+     * The exception which caused image loading to fail. Contains a non-null
+     * value only if the {@code error} property is set to {@code true}.
+     *
+     * @since JavaFX 8.0
+     */
+    private ObjectProperty<Exception> exception;
+
+    public final Exception getException() {
+        return exception == null ? null : exception.get();
+    }
+
+    public final ReadOnlyObjectProperty<Exception> exceptionProperty() {
+        return exceptionPropertyImpl();
+    }
+
+    private ObjectProperty<Exception> exceptionPropertyImpl() {
+        if (exception == null) {
+            exception = new SimpleObjectProperty<>(this, "exception");
+        }
+        return exception;
+    }
+
+    /**
+     * WebFx addition: called by the peers when the image failed to load (this sets both the exception and the error
+     * properties).
+     *
+     * @param exception the exception describing the failure.
+     */
+    public final void impl_setException(Exception exception) {
+        exceptionPropertyImpl().set(exception);
+        errorPropertyImpl().set(true);
+    }
+
 }
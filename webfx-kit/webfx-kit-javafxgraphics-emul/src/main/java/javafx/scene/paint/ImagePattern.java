@@ -0,0 +1,177 @@
+package javafx.scene.paint;
+
+import javafx.scene.image.Image;
+
+/**
+ * <p>The {@code ImagePattern} class fills a shape with an image pattern. The
+ * user may specify the anchor rectangle, which defines the position,
+ * width, and height of the image relative to the upper left corner of the
+ * shape. If the shape extends out of the anchor rectangle, the image is tiled.
+ * </p>
+ *
+ * <p>If the {@code proportional} variable is set to true (the default)
+ * then the anchor rectangle should be specified relative to the unit
+ * square (0.0-&gt;1.0) and will be stretched across the shape.
+ * If the {@code proportional} variable is set to false, then the anchor
+ * rectangle should be specified in the local coordinate system of the shape
+ * and the image will be stretched to fit the anchor rectangle. The anchor
+ * rectangle will not be stretched across the shape.</p>
+ *
+ * <p>The example below demonstrates the use of the {@code proportional}
+ * variable.  The shapes on the top row use proportional coordinates
+ * (the default) to specify the anchor rectangle.  The shapes on the
+ * bottom row use absolute coordinates.  The flower image is stretched
+ * to fill the entire triangle shape, while the dots image is tiled within
+ * the circle shape.</p>
+ *
+<pre><code>
+    Image dots = new Image("dots.png");
+    Image flower = new Image("flower.png");
+
+    Circle c = new Circle(100, 100, 50);
+    c.setFill(new ImagePattern(dots, 0, 0, 20, 20, false));
+    Rectangle r = new Rectangle(0, 0, 100, 100);
+    r.setFill(new ImagePattern(flower));
+</code></pre>
+ *
+ * WebFx note: the pattern is mapped to a CSS background (background-image, position, size and repeat) for the html
+ * peers, to a shared &lt;pattern&gt; def for the svg peers, and to a canvas pattern in the GraphicsContext.
+ *
+ * @since JavaFX 2.2
+ */
+public final class ImagePattern implements Paint {
+
+    private final Image image;
+    private final double x;
+    private final double y;
+    private final double width;
+    private final double height;
+    private final boolean proportional;
+
+    /**
+     * Gets the image to be used as a paint.
+     *
+     * @return Image to be used as a paint.
+     */
+    public final Image getImage() {
+        return image;
+    }
+
+    /**
+     * Gets the x origin of the anchor rectangle.
+     *
+     * @defaultValue 0.0
+     * @return The x origin of the anchor rectangle.
+     */
+    public final double getX() {
+        return x;
+    }
+
+    /**
+     * Gets the y origin of the anchor rectangle.
+     *
+     * @defaultValue 0.0
+     * @return The y origin of the anchor rectangle.
+     */
+    public final double getY() {
+        return y;
+    }
+
+    /**
+     * Gets the width of the anchor rectangle.
+     *
+     * @defaultValue 1.0
+     * @return The width of the anchor rectangle.
+     */
+    public final double getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the anchor rectangle.
+     *
+     * @defaultValue 1.0
+     * @return The height of the anchor rectangle.
+     */
+    public final double getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets a boolean that indicates whether start and end locations are
+     * proportional to the bounding box of the shape.
+     *
+     * @defaultValue true
+     * @return boolean that is true if this paint is proportional.
+     */
+    public final boolean isProportional() {
+        return proportional;
+    }
+
+    /**
+     * WebFx note: always false, as the image pixels are not read to check if the image is opaque.
+     */
+    @Override
+    public final boolean isOpaque() {
+        return false;
+    }
+
+    /**
+     * Creates a new instance of ImagePattern from the specified image. Default
+     * values are used for all other parameters.
+     *
+     * @param image the image to be used as the paint.
+     * @throws NullPointerException if the image is null.
+     */
+    public ImagePattern(Image image) {
+        this(image, 0, 0, 1, 1, true);
+    }
+
+    /**
+     * Creates a new instance of ImagePattern.
+     *
+     * @param image the image to be used as the paint.
+     * @param x the x origin of the anchor rectangle.
+     * @param y the y origin of the anchor rectangle.
+     * @param width the width of the anchor rectangle.
+     * @param height the height of the anchor rectangle.
+     * @param proportional whether the coordinates are proportional
+     * to the shape which ImagePattern fills
+     * @throws NullPointerException if the image is null.
+     */
+    public ImagePattern(Image image, double x, double y, double width,
+            double height, boolean proportional) {
+        if (image == null) {
+            throw new NullPointerException("Image must be non-null.");
+        }
+        this.image = image;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        this.proportional = proportional;
+    }
+
+    // WebFx addition: equals() and hashCode() so that identical patterns can share the same svg def
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) return true;
+        if (!(obj instanceof ImagePattern)) return false;
+        ImagePattern other = (ImagePattern) obj;
+        return image.equals(other.image) && x == other.x && y == other.y && width == other.width
+                && height == other.height && proportional == other.proportional;
+    }
+
+    @Override
+    public int hashCode() {
+        long bits = 7L;
+        bits = 31L * bits + image.hashCode();
+        bits = 31L * bits + Double.doubleToLongBits(x);
+        bits = 31L * bits + Double.doubleToLongBits(y);
+        bits = 31L * bits + Double.doubleToLongBits(width);
+        bits = 31L * bits + Double.doubleToLongBits(height);
+        bits = 31L * bits + (proportional ? 1 : 0);
+        return (int) (bits ^ (bits >> 32));
+    }
+}
@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2010, 2016, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.shape;
+
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.BooleanPropertyBase;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.DoublePropertyBase;
+
+/**
+ * A path element that forms an arc from the previous coordinates
+ * to the specified x and y coordinates using the specified radius.
+ *
+ * <p>For more information on path elements see the {@link Path} and
+ * {@link PathElement} classes.
+ *
+ * <p>Example:
+ *
+ <PRE>
+ import javafx.scene.shape.*;
+
+ Path path = new Path();
+
+ MoveTo moveTo = new MoveTo();
+ moveTo.setX(0.0);
+ moveTo.setY(0.0);
+
+ ArcTo arcTo = new ArcTo();
+ arcTo.setX(50.0);
+ arcTo.setY(50.0);
+ arcTo.setRadiusX(50.0);
+ arcTo.setRadiusY(50.0);
+
+ path.getElements().add(moveTo);
+ path.getElements().add(arcTo);
+ </PRE>
+ *
+ * <p>
+ * {@code radiusX} is the horizontal radius of the full ellipse of which this arc is
+ * a partial section, {@code radiusY} is its vertical radius.
+ * {@code xAxisRotation} defines the rotation of the ellipse in degrees.
+ * </p>
+ * <p>
+ * In most cases, there are four options of how to draw an arc from
+ * starting point to given end coordinates. They can be distinguished by
+ * {@code largeArcFlag} and {@code sweepFlag} parameters.
+ * {@code largeArcFlag == true} means that the arc greater than 180 degrees will
+ * be drawn. {@code sweepFlag == true} means that the arc will be drawn
+ * in the positive angle direction - i.e. the angle in the
+ * ellipse formula will increase from {@code [fromX, fromY]} to {@code [x,y]}.
+ * </p>
+ * @since JavaFX 2.0
+ */
+public class ArcTo extends PathElement {
+
+    /**
+     * Creates an empty instance of ArcTo.
+     */
+    public ArcTo() {
+    }
+
+    /**
+     * Creates a new instance of ArcTo.
+     * @param radiusX horizontal radius of the arc
+     * @param radiusY vertical radius of the arc
+     * @param xAxisRotation the x-axis rotation in degrees
+     * @param x horizontal position of the arc end point
+     * @param y vertical position of the arc end point
+     * @param largeArcFlag large arg flag: determines which arc to use (large/small)
+     * @param sweepFlag sweep flag: determines which arc to use (direction)
+     */
+    public ArcTo(double radiusX, double radiusY, double xAxisRotation, double x, double y, boolean largeArcFlag, boolean sweepFlag) {
+        setRadiusX(radiusX);
+        setRadiusY(radiusY);
+        setXAxisRotation(xAxisRotation);
+        setX(x);
+        setY(y);
+        setLargeArcFlag(largeArcFlag);
+        setSweepFlag(sweepFlag);
+    }
+
+    /**
+     * The horizontal radius to use for the arc.
+     *
+     * @defaultValue 0.0
+     */
+    private DoubleProperty radiusX;
+
+    public final void setRadiusX(double value) {
+        if (radiusX != null || value != 0.0) {
+            radiusXProperty().set(value);
+        }
+    }
+
+    public final double getRadiusX() {
+        return radiusX == null ? 0.0 : radiusX.get();
+    }
+
+    public final DoubleProperty radiusXProperty() {
+        if (radiusX == null) {
+            radiusX = new DoublePropertyBase() {
+
+                @Override
+                public void invalidated() {
+                    u();
+                }
+
+                @Override
+                public Object getBean() {
+                    return ArcTo.this;
+                }
+
+                @Override
+                public String getName() {
+                    return "radiusX";
+                }
+            };
+        }
+        return radiusX;
+    }
+
+    /**
+     * The vertical radius to use for the arc.
+     *
+     * @defaultValue 0.0
+     */
+    private DoubleProperty radiusY;
+
+    public final void setRadiusY(double value) {
+        if (radiusY != null || value != 0.0) {
+            radiusYProperty().set(value);
+        }
+    }
+
+    public final double getRadiusY() {
+        return radiusY == null ? 0.0 : radiusY.get();
+    }
+
+    public final DoubleProperty radiusYProperty() {
+        if (radiusY == null) {
+            radiusY = new DoublePropertyBase() {
+
+                @Override
+                public void invalidated() {
+                    u();
+                }
+
+                @Override
+                public Object getBean() {
+                    return ArcTo.this;
+                }
+
+                @Override
+                public String getName() {
+                    return "radiusY";
+                }
+            };
+        }
+        return radiusY;
+    }
+
+    /**
+     * The x-axis rotation in degrees.
+     *
+     * @defaultValue 0.0
+     */
+    private DoubleProperty xAxisRotation;
+
+    public final void setXAxisRotation(double value) {
+        if (xAxisRotation != null || value != 0.0) {
+            xAxisRotationProperty().set(value);
+        }
+    }
+
+    public final double getXAxisRotation() {
+        return xAxisRotation == null ? 0.0 : xAxisRotation.get();
+    }
+
+    public final DoubleProperty xAxisRotationProperty() {
+        if (xAxisRotation == null) {
+            xAxisRotation = new DoublePropertyBase() {
+
+                @Override
+                public void invalidated() {
+                    u();
+                }
+
+                @Override
+                public Object getBean() {
+                    return ArcTo.this;
+                }
+
+                @Override
+                public String getName() {
+                    return "xAxisRotation";
+                }
+            };
+        }
+        return xAxisRotation;
+    }
+
+    /**
+     * The x coordinate to arc to.
+     *
+     * @defaultValue 0.0
+     */
+    private DoubleProperty x;
+
+    public final void setX(double value) {
+        if (x != null || value != 0.0) {
+            xProperty().set(value);
+        }
+    }
+
+    public final double getX() {
+        return x == null ? 0.0 : x.get();
+    }
+
+    public final DoubleProperty xProperty() {
+        if (x == null) {
+            x = new DoublePropertyBase() {
+
+                @Override
+                public void invalidated() {
+                    u();
+                }
+
+                @Override
+                public Object getBean() {
+                    return ArcTo.this;
+                }
+
+                @Override
+                public String getName() {
+                    return "x";
+                }
+            };
+        }
+        return x;
+    }
+
+    /**
+     * The y coordinate to arc to.
+     *
+     * @defaultValue 0.0
+     */
+    private DoubleProperty y;
+
+    public final void setY(double value) {
+        if (y != null || value != 0.0) {
+            yProperty().set(value);
+        }
+    }
+
+    public final double getY() {
+        return y == null ? 0.0 : y.get();
+    }
+
+    public final DoubleProperty yProperty() {
+        if (y == null) {
+            y = new DoublePropertyBase() {
+
+                @Override
+                public void invalidated() {
+                    u();
+                }
+
+                @Override
+                public Object getBean() {
+                    return ArcTo.this;
+                }
+
+                @Override
+                public String getName() {
+                    return "y";
+                }
+            };
+        }
+        return y;
+    }
+
+    /**
+     * The large arc flag.
+     *
+     * @defaultValue false
+     */
+    private BooleanProperty largeArcFlag;
+
+    public final void setLargeArcFlag(boolean value) {
+        if (largeArcFlag != null || value) {
+            largeArcFlagProperty().set(value);
+        }
+    }
+
+    public final boolean isLargeArcFlag() {
+        return largeArcFlag != null && largeArcFlag.get();
+    }
+
+    public final BooleanProperty largeArcFlagProperty() {
+        if (largeArcFlag == null) {
+            largeArcFlag = new BooleanPropertyBase() {
+                @Override
+                public void invalidated() {
+                    u();
+                }
+
+                @Override
+                public Object getBean() {
+                    return ArcTo.this;
+                }
+
+                @Override
+                public String getName() {
+                    return "largeArcFlag";
+                }
+            };
+        }
+        return largeArcFlag;
+    }
+
+    /**
+     * The sweep flag.
+     *
+     * @defaultValue false
+     */
+    private BooleanProperty sweepFlag;
+
+    public final void setSweepFlag(boolean value) {
+        if (sweepFlag != null || value) {
+            sweepFlagProperty().set(value);
+        }
+    }
+
+    public final boolean isSweepFlag() {
+        return sweepFlag != null && sweepFlag.get();
+    }
+
+    public final BooleanProperty sweepFlagProperty() {
+        if (sweepFlag == null) {
+            sweepFlag = new BooleanPropertyBase() {
+                @Override
+                public void invalidated() {
+                    u();
+                }
+
+                @Override
+                public Object getBean() {
+                    return ArcTo.this;
+                }
+
+                @Override
+                public String getName() {
+                    return "sweepFlag";
+                }
+            };
+        }
+        return sweepFlag;
+    }
+
+    /**
+     * Returns a string representation of this {@code ArcTo} object.
+     * @return a string representation of this {@code ArcTo} object.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("ArcTo[");
+        sb.append("radiusX=").append(getRadiusX());
+        sb.append(", radiusY=").append(getRadiusY());
+        sb.append(", xAxisRotation=").append(getXAxisRotation());
+        sb.append(", x=").append(getX());
+        sb.append(", y=").append(getY());
+        sb.append(", largeArcFlag=").append(isLargeArcFlag());
+        sb.append(", sweepFlag=").append(isSweepFlag());
+        return sb.append("]").toString();
+    }
+}
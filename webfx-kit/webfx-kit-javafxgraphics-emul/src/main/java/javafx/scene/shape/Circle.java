@@ -67,6 +67,12 @@ public class Circle extends Shape implements
         return bounds.deriveWithNewBounds((float) (centerX - radius), (float) (centerY - radius), 0, (float) (centerX + radius), (float) (centerY + radius), 0);
     }
 
+    @Override
+    protected boolean impl_computeContains(double localX, double localY) {
+        double dx = localX - getCenterX(), dy = localY - getCenterY(), radius = getRadius();
+        return dx * dx + dy * dy <= radius * radius;
+    }
+
     static {
         JavaFxGraphicsRegistry.registerCircle();
     }
@@ -0,0 +1,125 @@
+package javafx.scene.shape;
+
+import com.sun.javafx.geom.BaseBounds;
+import com.sun.javafx.geom.transform.BaseTransform;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import dev.webfx.kit.mapper.peers.javafxgraphics.markers.HasEndXProperty;
+import dev.webfx.kit.mapper.peers.javafxgraphics.markers.HasEndYProperty;
+import dev.webfx.kit.mapper.peers.javafxgraphics.markers.HasStartXProperty;
+import dev.webfx.kit.mapper.peers.javafxgraphics.markers.HasStartYProperty;
+import dev.webfx.kit.registry.javafxgraphics.JavaFxGraphicsRegistry;
+
+/**
+ * @author Bruno Salmon
+ */
+public class CubicCurve extends Shape implements
+        HasStartXProperty,
+        HasStartYProperty,
+        HasEndXProperty,
+        HasEndYProperty {
+
+    public CubicCurve() {
+    }
+
+    public CubicCurve(double startX, double startY, double controlX1, double controlY1, double controlX2, double controlY2, double endX, double endY) {
+        setStartX(startX);
+        setStartY(startY);
+        setControlX1(controlX1);
+        setControlY1(controlY1);
+        setControlX2(controlX2);
+        setControlY2(controlY2);
+        setEndX(endX);
+        setEndY(endY);
+    }
+
+    private final DoubleProperty startXProperty = new SimpleDoubleProperty(0d);
+    @Override
+    public DoubleProperty startXProperty() {
+        return startXProperty;
+    }
+
+    private final DoubleProperty startYProperty = new SimpleDoubleProperty(0d);
+    @Override
+    public DoubleProperty startYProperty() {
+        return startYProperty;
+    }
+
+    private final DoubleProperty controlX1Property = new SimpleDoubleProperty(0d);
+    public final DoubleProperty controlX1Property() {
+        return controlX1Property;
+    }
+
+    public final void setControlX1(double value) {
+        controlX1Property.set(value);
+    }
+
+    public final double getControlX1() {
+        return controlX1Property.get();
+    }
+
+    private final DoubleProperty controlY1Property = new SimpleDoubleProperty(0d);
+    public final DoubleProperty controlY1Property() {
+        return controlY1Property;
+    }
+
+    public final void setControlY1(double value) {
+        controlY1Property.set(value);
+    }
+
+    public final double getControlY1() {
+        return controlY1Property.get();
+    }
+
+    private final DoubleProperty controlX2Property = new SimpleDoubleProperty(0d);
+    public final DoubleProperty controlX2Property() {
+        return controlX2Property;
+    }
+
+    public final void setControlX2(double value) {
+        controlX2Property.set(value);
+    }
+
+    public final double getControlX2() {
+        return controlX2Property.get();
+    }
+
+    private final DoubleProperty controlY2Property = new SimpleDoubleProperty(0d);
+    public final DoubleProperty controlY2Property() {
+        return controlY2Property;
+    }
+
+    public final void setControlY2(double value) {
+        controlY2Property.set(value);
+    }
+
+    public final double getControlY2() {
+        return controlY2Property.get();
+    }
+
+    private final DoubleProperty endXProperty = new SimpleDoubleProperty(0d);
+    @Override
+    public DoubleProperty endXProperty() {
+        return endXProperty;
+    }
+
+    private final DoubleProperty endYProperty = new SimpleDoubleProperty(0d);
+    @Override
+    public DoubleProperty endYProperty() {
+        return endYProperty;
+    }
+
+    @Override
+    public BaseBounds impl_computeGeomBounds(BaseBounds bounds, BaseTransform tx) {
+        // Note: approximate Geom bounds (the curve is always contained in the convex hull of its points)
+        double minX = Math.min(Math.min(Math.min(getStartX(), getEndX()), getControlX1()), getControlX2());
+        double minY = Math.min(Math.min(Math.min(getStartY(), getEndY()), getControlY1()), getControlY2());
+        double maxX = Math.max(Math.max(Math.max(getStartX(), getEndX()), getControlX1()), getControlX2());
+        double maxY = Math.max(Math.max(Math.max(getStartY(), getEndY()), getControlY1()), getControlY2());
+        return bounds.deriveWithNewBounds((float) minX, (float) minY, 0, (float) maxX, (float) maxY, 0);
+    }
+
+    static {
+        JavaFxGraphicsRegistry.registerCubicCurve();
+    }
+}
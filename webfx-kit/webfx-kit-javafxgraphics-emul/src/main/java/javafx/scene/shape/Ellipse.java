@@ -0,0 +1,88 @@
+package javafx.scene.shape;
+
+import com.sun.javafx.geom.BaseBounds;
+import com.sun.javafx.geom.transform.BaseTransform;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import dev.webfx.kit.mapper.peers.javafxgraphics.markers.HasCenterXProperty;
+import dev.webfx.kit.mapper.peers.javafxgraphics.markers.HasCenterYProperty;
+import dev.webfx.kit.registry.javafxgraphics.JavaFxGraphicsRegistry;
+
+/**
+ * @author Bruno Salmon
+ */
+public class Ellipse extends Shape implements
+        HasCenterXProperty,
+        HasCenterYProperty {
+
+    public Ellipse() {
+    }
+
+    public Ellipse(double radiusX, double radiusY) {
+        setRadiusX(radiusX);
+        setRadiusY(radiusY);
+    }
+
+    public Ellipse(double centerX, double centerY, double radiusX, double radiusY) {
+        this(radiusX, radiusY);
+        setCenterX(centerX);
+        setCenterY(centerY);
+    }
+
+    private final DoubleProperty centerXProperty = new SimpleDoubleProperty(0d);
+    @Override
+    public DoubleProperty centerXProperty() {
+        return centerXProperty;
+    }
+
+    private final DoubleProperty centerYProperty = new SimpleDoubleProperty(0d);
+    @Override
+    public DoubleProperty centerYProperty() {
+        return centerYProperty;
+    }
+
+    private final DoubleProperty radiusXProperty = new SimpleDoubleProperty(0d);
+    public final DoubleProperty radiusXProperty() {
+        return radiusXProperty;
+    }
+
+    public final void setRadiusX(double value) {
+        radiusXProperty.set(value);
+    }
+
+    public final double getRadiusX() {
+        return radiusXProperty.get();
+    }
+
+    private final DoubleProperty radiusYProperty = new SimpleDoubleProperty(0d);
+    public final DoubleProperty radiusYProperty() {
+        return radiusYProperty;
+    }
+
+    public final void setRadiusY(double value) {
+        radiusYProperty.set(value);
+    }
+
+    public final double getRadiusY() {
+        return radiusYProperty.get();
+    }
+
+    @Override
+    public BaseBounds impl_computeGeomBounds(BaseBounds bounds, BaseTransform tx) {
+        double centerX = getCenterX(), centerY = getCenterY(), radiusX = getRadiusX(), radiusY = getRadiusY();
+        return bounds.deriveWithNewBounds((float) (centerX - radiusX), (float) (centerY - radiusY), 0, (float) (centerX + radiusX), (float) (centerY + radiusY), 0);
+    }
+
+    @Override
+    protected boolean impl_computeContains(double localX, double localY) {
+        double radiusX = getRadiusX(), radiusY = getRadiusY();
+        if (radiusX <= 0 || radiusY <= 0)
+            return false;
+        double dx = (localX - getCenterX()) / radiusX, dy = (localY - getCenterY()) / radiusY;
+        return dx * dx + dy * dy <= 1;
+    }
+
+    static {
+        JavaFxGraphicsRegistry.registerEllipse();
+    }
+}
@@ -0,0 +1,72 @@
+package javafx.scene.shape;
+
+import com.sun.javafx.collections.DoubleArrayObservableList;
+import com.sun.javafx.geom.BaseBounds;
+import com.sun.javafx.geom.transform.BaseTransform;
+import javafx.collections.ObservableList;
+import dev.webfx.kit.registry.javafxgraphics.JavaFxGraphicsRegistry;
+
+/**
+ * Creates a polygon, defined by an array of x,y coordinates. The Polygon class is similar to the Polyline
+ * class, except that the Polyline class is not automatically closed.
+ *
+ * @author Bruno Salmon
+ */
+public class Polygon extends Shape {
+
+    // WebFx: the points are stored in a flat double array, so that bulk changes (addAll, setAll) are a single ranged
+    // change, and the peer can read all the coordinates without boxing
+    private final DoubleArrayObservableList points = new DoubleArrayObservableList();
+
+    public Polygon() {
+    }
+
+    public Polygon(double... points) {
+        this();
+        if (points != null)
+            this.points.setAll(points);
+    }
+
+    /**
+     * Gets the coordinates of the {@code Polygon} vertices.
+     *
+     * @return An observable list of vertices of this {@code Polygon}
+     */
+    public final ObservableList<Double> getPoints() {
+        return points;
+    }
+
+    @Override
+    public BaseBounds impl_computeGeomBounds(BaseBounds bounds, BaseTransform tx) {
+        int n = points.size() & ~1; // ignoring a possible odd last coordinate
+        if (n == 0)
+            return bounds.makeEmpty();
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY, maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i += 2) {
+            double x = points.getDouble(i), y = points.getDouble(i + 1);
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+        }
+        return bounds.deriveWithNewBounds((float) minX, (float) minY, 0, (float) maxX, (float) maxY, 0);
+    }
+
+    @Override
+    protected boolean impl_computeContains(double localX, double localY) {
+        // Even-odd ray casting (the polygon fill rule)
+        int n = points.size() & ~1;
+        boolean inside = false;
+        for (int i = 0, j = n - 2; i < n; j = i, i += 2) {
+            double xi = points.getDouble(i), yi = points.getDouble(i + 1);
+            double xj = points.getDouble(j), yj = points.getDouble(j + 1);
+            if ((yi > localY) != (yj > localY) && localX < (xj - xi) * (localY - yi) / (yj - yi) + xi)
+                inside = !inside;
+        }
+        return inside;
+    }
+
+    static {
+        JavaFxGraphicsRegistry.registerPolygon();
+    }
+}
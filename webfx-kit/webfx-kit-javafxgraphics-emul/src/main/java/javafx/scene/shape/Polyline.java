@@ -0,0 +1,62 @@
+package javafx.scene.shape;
+
+import com.sun.javafx.collections.DoubleArrayObservableList;
+import com.sun.javafx.geom.BaseBounds;
+import com.sun.javafx.geom.transform.BaseTransform;
+import javafx.collections.ObservableList;
+import javafx.scene.paint.Color;
+import dev.webfx.kit.registry.javafxgraphics.JavaFxGraphicsRegistry;
+
+/**
+ * Creates a polyline, defined by the array of the segment points. The Polyline class is similar to the
+ * Polygon class, except that it is not automatically closed.
+ *
+ * @author Bruno Salmon
+ */
+public class Polyline extends Shape {
+
+    // WebFx: the points are stored in a flat double array, so that bulk changes (addAll, setAll) are a single ranged
+    // change, and the peer can read all the coordinates without boxing
+    private final DoubleArrayObservableList points = new DoubleArrayObservableList();
+
+    public Polyline() {
+        // Like in JavaFx, a polyline is stroked (and not filled) by default
+        setFill(null);
+        setStroke(Color.BLACK);
+    }
+
+    public Polyline(double... points) {
+        this();
+        if (points != null)
+            this.points.setAll(points);
+    }
+
+    /**
+     * Gets the coordinates of the {@code Polyline} vertices.
+     *
+     * @return An observable list of vertices of this {@code Polyline}
+     */
+    public final ObservableList<Double> getPoints() {
+        return points;
+    }
+
+    @Override
+    public BaseBounds impl_computeGeomBounds(BaseBounds bounds, BaseTransform tx) {
+        int n = points.size() & ~1; // ignoring a possible odd last coordinate
+        if (n == 0)
+            return bounds.makeEmpty();
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY, maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i += 2) {
+            double x = points.getDouble(i), y = points.getDouble(i + 1);
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+        }
+        return bounds.deriveWithNewBounds((float) minX, (float) minY, 0, (float) maxX, (float) maxY, 0);
+    }
+
+    static {
+        JavaFxGraphicsRegistry.registerPolyline();
+    }
+}
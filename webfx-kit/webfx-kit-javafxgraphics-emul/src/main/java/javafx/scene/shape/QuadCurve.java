@@ -0,0 +1,97 @@
+package javafx.scene.shape;
+
+import com.sun.javafx.geom.BaseBounds;
+import com.sun.javafx.geom.transform.BaseTransform;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import dev.webfx.kit.mapper.peers.javafxgraphics.markers.HasEndXProperty;
+import dev.webfx.kit.mapper.peers.javafxgraphics.markers.HasEndYProperty;
+import dev.webfx.kit.mapper.peers.javafxgraphics.markers.HasStartXProperty;
+import dev.webfx.kit.mapper.peers.javafxgraphics.markers.HasStartYProperty;
+import dev.webfx.kit.registry.javafxgraphics.JavaFxGraphicsRegistry;
+
+/**
+ * @author Bruno Salmon
+ */
+public class QuadCurve extends Shape implements
+        HasStartXProperty,
+        HasStartYProperty,
+        HasEndXProperty,
+        HasEndYProperty {
+
+    public QuadCurve() {
+    }
+
+    public QuadCurve(double startX, double startY, double controlX, double controlY, double endX, double endY) {
+        setStartX(startX);
+        setStartY(startY);
+        setControlX(controlX);
+        setControlY(controlY);
+        setEndX(endX);
+        setEndY(endY);
+    }
+
+    private final DoubleProperty startXProperty = new SimpleDoubleProperty(0d);
+    @Override
+    public DoubleProperty startXProperty() {
+        return startXProperty;
+    }
+
+    private final DoubleProperty startYProperty = new SimpleDoubleProperty(0d);
+    @Override
+    public DoubleProperty startYProperty() {
+        return startYProperty;
+    }
+
+    private final DoubleProperty controlXProperty = new SimpleDoubleProperty(0d);
+    public final DoubleProperty controlXProperty() {
+        return controlXProperty;
+    }
+
+    public final void setControlX(double value) {
+        controlXProperty.set(value);
+    }
+
+    public final double getControlX() {
+        return controlXProperty.get();
+    }
+
+    private final DoubleProperty controlYProperty = new SimpleDoubleProperty(0d);
+    public final DoubleProperty controlYProperty() {
+        return controlYProperty;
+    }
+
+    public final void setControlY(double value) {
+        controlYProperty.set(value);
+    }
+
+    public final double getControlY() {
+        return controlYProperty.get();
+    }
+
+    private final DoubleProperty endXProperty = new SimpleDoubleProperty(0d);
+    @Override
+    public DoubleProperty endXProperty() {
+        return endXProperty;
+    }
+
+    private final DoubleProperty endYProperty = new SimpleDoubleProperty(0d);
+    @Override
+    public DoubleProperty endYProperty() {
+        return endYProperty;
+    }
+
+    @Override
+    public BaseBounds impl_computeGeomBounds(BaseBounds bounds, BaseTransform tx) {
+        // Note: approximate Geom bounds (the curve is always contained in the convex hull of its points)
+        double minX = Math.min(Math.min(getStartX(), getEndX()), getControlX());
+        double minY = Math.min(Math.min(getStartY(), getEndY()), getControlY());
+        double maxX = Math.max(Math.max(getStartX(), getEndX()), getControlX());
+        double maxY = Math.max(Math.max(getStartY(), getEndY()), getControlY());
+        return bounds.deriveWithNewBounds((float) minX, (float) minY, 0, (float) maxX, (float) maxY, 0);
+    }
+
+    static {
+        JavaFxGraphicsRegistry.registerQuadCurve();
+    }
+}
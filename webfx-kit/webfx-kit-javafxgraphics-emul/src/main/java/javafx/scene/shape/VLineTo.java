@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2010, 2016, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.shape;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.DoublePropertyBase;
+
+/**
+ * Creates a vertical line path element from the current point to y.
+ *
+ * <p>For more information on path elements see the {@link Path} and
+ * {@link PathElement} classes.
+ *
+ * <p>Example:
+ *
+ <PRE>
+ import javafx.scene.shape.*;
+
+ Path path = new Path();
+ path.getElements().add(new MoveTo(50.0f, 0.0f));
+ path.getElements().add(new VLineTo(50.0f));
+ </PRE>
+ * @since JavaFX 2.0
+ */
+public class VLineTo extends PathElement {
+
+    /**
+     * Creates an empty instance of VLineTo.
+     */
+    public VLineTo() {
+    }
+
+    /**
+     * Creates an instance of VLineTo.
+     * @param y the vertical coordinate to line to
+     */
+    public VLineTo(double y) {
+        setY(y);
+    }
+
+    /**
+     * Defines the Y coordinate.
+     *
+     * @defaultValue 0.0
+     */
+    private DoubleProperty y;
+
+    public final void setY(double value) {
+        if (y != null || value != 0.0) {
+            yProperty().set(value);
+        }
+    }
+
+    public final double getY() {
+        return y == null ? 0.0 : y.get();
+    }
+
+    public final DoubleProperty yProperty() {
+        if (y == null) {
+            y = new DoublePropertyBase() {
+
+                @Override
+                public void invalidated() {
+                    u();
+                }
+
+                @Override
+                public Object getBean() {
+                    return VLineTo.this;
+                }
+
+                @Override
+                public String getName() {
+                    return "y";
+                }
+            };
+        }
+        return y;
+    }
+
+    /**
+     * Returns a string representation of this {@code VLineTo} object.
+     * @return a string representation of this {@code VLineTo} object.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("VLineTo[");
+        sb.append("y=").append(getY());
+        return sb.append("]").toString();
+    }
+}
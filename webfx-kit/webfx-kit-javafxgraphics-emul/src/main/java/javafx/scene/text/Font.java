@@ -1,5 +1,11 @@
 package javafx.scene.text;
 
+import dev.webfx.kit.launcher.WebFxKitLauncher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
 /**
  * @author Bruno Salmon
  */
@@ -100,6 +106,106 @@ public class Font {
         return new Font(size);
     }
 
+    /**
+     * Loads a font resource from the specified URL. If the load fails, the returned font is still usable but will be
+     * rendered with a fallback font. The URL can be a web or a relative path to the application.
+     *
+     * WebFx note: the font is loaded asynchronously, and the returned font family is derived from the file name of
+     * the URL (ex: "fonts/Roboto-Bold.ttf" => "Roboto-Bold"). Use {@link #loadFont(String, String, double)} to choose
+     * the family, and {@link #onFontsLoaded(Runnable)} to wait for the loaded fonts.
+     *
+     * @param urlStr from which to load the font, specified as a String.
+     * @param size of the font
+     * @return the Font
+     */
+    public static Font loadFont(String urlStr, double size) {
+        return loadFont(urlStr, familyFromUrl(urlStr), size);
+    }
+
+    /**
+     * Loads font resources from the specified URL. WebFx note: only single font files are supported, so the returned
+     * array contains one font.
+     *
+     * @param urlStr from which to load the fonts, specified as a String.
+     * @param size of the fonts
+     * @return array of Font
+     */
+    public static Font[] loadFonts(String urlStr, double size) {
+        return new Font[] { loadFont(urlStr, size) };
+    }
+
+    // WebFx additions
+
+    private static int pendingFontLoads;
+    private static List<Runnable> fontsLoadedRunnables;
+
+    /**
+     * Loads a font resource from the specified URL and makes it available under the specified family.
+     */
+    public static Font loadFont(String urlStr, String family, double size) {
+        pendingFontLoads++;
+        WebFxKitLauncher.loadFont(urlStr, family, Font::onFontLoadCompleted);
+        return font(family, size);
+    }
+
+    /**
+     * Returns true if all the fonts requested so far with loadFont() have been loaded (or have failed to load).
+     */
+    public static boolean isFontsLoaded() {
+        return pendingFontLoads == 0;
+    }
+
+    /**
+     * Calls the runnable once all the fonts requested so far with loadFont() have been loaded (or have failed to
+     * load), or immediately if they already are. This can be used to delay the first display of a scene until its
+     * critical fonts are available.
+     */
+    public static void onFontsLoaded(Runnable runnable) {
+        if (isFontsLoaded())
+            runnable.run();
+        else {
+            if (fontsLoadedRunnables == null)
+                fontsLoadedRunnables = new ArrayList<>();
+            fontsLoadedRunnables.add(runnable);
+        }
+    }
+
+    private static void onFontLoadCompleted() {
+        if (--pendingFontLoads == 0 && fontsLoadedRunnables != null) {
+            List<Runnable> runnables = fontsLoadedRunnables;
+            fontsLoadedRunnables = null;
+            for (Runnable runnable : runnables)
+                runnable.run();
+        }
+    }
+
+    private static int metricsRevision;
+
+    /**
+     * Called by the peers when a font or a stylesheet has been loaded, which makes the text measures memoized so far
+     * (ex: by the text clipping engine of the labeled skins) obsolete.
+     */
+    public static void impl_invalidateMetrics() {
+        metricsRevision++;
+    }
+
+    /**
+     * Returns a revision that changes each time the text measures are invalidated (see impl_invalidateMetrics()).
+     */
+    public static int impl_getMetricsRevision() {
+        return metricsRevision;
+    }
+
+    private static String familyFromUrl(String urlStr) {
+        String fileName = urlStr;
+        int index = fileName.indexOf('?');
+        if (index >= 0)
+            fileName = fileName.substring(0, index);
+        fileName = fileName.substring(fileName.lastIndexOf('/') + 1);
+        index = fileName.lastIndexOf('.');
+        return index > 0 ? fileName.substring(0, index) : fileName;
+    }
+
     private static Font DEFAULT;
     /**
      * Gets the default font which will be from the family "System",
@@ -114,4 +220,25 @@ public class Font {
         return DEFAULT;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Font)) return false;
+        Font font = (Font) o;
+        return Double.compare(font.size, size) == 0 &&
+                Objects.equals(name, font.name) &&
+                family.equals(font.family) &&
+                weight == font.weight &&
+                posture == font.posture;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(name);
+        result = 31 * result + family.hashCode();
+        result = 31 * result + weight.hashCode();
+        result = 31 * result + posture.hashCode();
+        return 31 * result + Double.hashCode(size);
+    }
+
 }
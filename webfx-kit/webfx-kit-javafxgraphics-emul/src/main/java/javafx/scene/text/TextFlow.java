@@ -1,21 +1,36 @@
 package javafx.scene.text;
 
+import dev.webfx.kit.mapper.peers.javafxgraphics.NodePeer;
+import dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling.HasNativeChildrenLayout;
+import dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling.LayoutMeasurable;
+import dev.webfx.kit.mapper.peers.javafxgraphics.markers.HasTextAlignmentProperty;
+import dev.webfx.kit.registry.javafxgraphics.JavaFxGraphicsRegistry;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.geometry.Insets;
 import javafx.geometry.Orientation;
 import javafx.scene.Node;
-import javafx.scene.layout.VBox;
+import javafx.scene.layout.Pane;
+
+import java.util.List;
 
 /**
- * Temporary simplified implementation of TextFlow that works with 1 Text.
- * The html peer makes the text wrap (see HtmlScenePeer).
+ * TextFlow lays out its Text children (and possible other inline nodes) as a single flow of rich text.
+ *
+ * With the html peer, the children are rendered as inline runs of the same block element, so the browser does the line
+ * breaking, the text alignment and the line spacing natively, and the pref height for a given width is answered by a
+ * single measure of that block (instead of measuring and positioning each child in Java). Without such a peer, the
+ * children are laid out in Java as a simple flow of boxes (each Text being considered as a non breakable box).
+ *
+ * Limitation of the native flow: the Java layoutX/Y of the children are not updated (the browser positions them), so
+ * their bounds in the parent remain at the text flow origin. The Java bounds picking therefore picks the text flow
+ * itself and not its children (see BoundsPicker).
  *
  * @author Bruno Salmon
  */
-public class TextFlow extends /*Pane */ VBox {
-
-    /*{
-        prefWidthProperty().bind(maxWidthProperty());
-    }*/
+public class TextFlow extends Pane implements HasTextAlignmentProperty {
 
     public TextFlow() {
     }
@@ -24,24 +39,144 @@ public class TextFlow extends /*Pane */ VBox {
         super(children);
     }
 
+    private final ObjectProperty<TextAlignment> textAlignmentProperty = new SimpleObjectProperty<TextAlignment>(this, "textAlignment", TextAlignment.LEFT) {
+        @Override
+        protected void invalidated() {
+            requestLayout();
+        }
+    };
+
+    @Override
+    public ObjectProperty<TextAlignment> textAlignmentProperty() {
+        return textAlignmentProperty;
+    }
+
+    private final DoubleProperty lineSpacingProperty = new SimpleDoubleProperty(this, "lineSpacing", 0) {
+        @Override
+        protected void invalidated() {
+            requestLayout();
+        }
+    };
+
+    public final DoubleProperty lineSpacingProperty() {
+        return lineSpacingProperty;
+    }
+
+    public final void setLineSpacing(double spacing) {
+        lineSpacingProperty.set(spacing);
+    }
+
+    public final double getLineSpacing() {
+        return lineSpacingProperty.get();
+    }
+
     @Override
     public Orientation getContentBias() {
         return Orientation.HORIZONTAL;
     }
 
+    private boolean isNativeFlow() {
+        return getNodePeer() instanceof HasNativeChildrenLayout;
+    }
+
+    @Override
+    public void requestLayout() {
+        // The flow content has changed (ex: a child text or font), so the sizes measured by the native peer are obsolete
+        NodePeer nodePeer = getNodePeer();
+        if (nodePeer instanceof HasNativeChildrenLayout && nodePeer instanceof LayoutMeasurable)
+            ((LayoutMeasurable) nodePeer).clearCache();
+        super.requestLayout();
+    }
+
+    // The following methods are called only without native peer (otherwise the peer answers the layout measures)
+
     @Override
-    public double prefHeight(double width) {
-        Insets insets = getPadding();
-        double childPrefHeight;
-        if (getChildren().isEmpty())
-            childPrefHeight = 0;
-        else
-            childPrefHeight = getChildren().get(0).prefHeight(width);
-        return snapSpace(insets.getTop()) +
-                childPrefHeight +
-                snapSpace(insets.getBottom());
+    protected double computePrefWidth(double height) {
+        Insets insets = getInsets();
+        double width = 0;
+        List<Node> managed = getManagedChildren();
+        for (int i = 0, n = managed.size(); i < n; i++)
+            width += managed.get(i).prefWidth(-1);
+        return insets.getLeft() + width + insets.getRight();
     }
 
-    public void setTextAlignment(TextAlignment textAlignment) {}
+    @Override
+    protected double computePrefHeight(double width) {
+        Insets insets = getInsets();
+        double contentWidth = width < 0 ? Double.MAX_VALUE : width - insets.getLeft() - insets.getRight();
+        return insets.getTop() + flow(contentWidth, false) + insets.getBottom();
+    }
 
+    @Override
+    protected void layoutChildren() {
+        if (isNativeFlow()) { // The browser positions the children (not reported in Java), but the inline nodes still need to be sized
+            List<Node> managed = getManagedChildren();
+            for (int i = 0, n = managed.size(); i < n; i++) {
+                Node child = managed.get(i);
+                if (!(child instanceof Text) && child.isResizable())
+                    child.autosize();
+            }
+            return;
+        }
+        Insets insets = getInsets();
+        flow(getWidth() - insets.getLeft() - insets.getRight(), true);
+    }
+
+    // Java flow of the children boxes, returning the content height (and positioning the children if layout is true)
+    private double flow(double contentWidth, boolean layout) {
+        List<Node> managed = getManagedChildren();
+        int n = managed.size();
+        if (n == 0)
+            return 0;
+        Insets insets = getInsets();
+        double lineSpacing = getLineSpacing();
+        double y = 0;
+        int lineStart = 0;
+        while (lineStart < n) {
+            // Collecting the children of this line
+            double lineWidth = 0, lineHeight = 0;
+            int lineEnd = lineStart;
+            while (lineEnd < n) {
+                Node child = managed.get(lineEnd);
+                double childWidth = child.prefWidth(-1);
+                if (lineEnd > lineStart && lineWidth + childWidth > contentWidth)
+                    break;
+                lineWidth += childWidth;
+                lineHeight = Math.max(lineHeight, child.prefHeight(childWidth));
+                lineEnd++;
+            }
+            if (layout) {
+                double x = insets.getLeft() + computeAlignmentOffset(contentWidth - lineWidth);
+                for (int i = lineStart; i < lineEnd; i++) {
+                    Node child = managed.get(i);
+                    double childWidth = child.prefWidth(-1);
+                    double childHeight = child.prefHeight(childWidth);
+                    if (child.isResizable())
+                        child.resize(childWidth, childHeight);
+                    child.relocate(snapPositionX(x), snapPositionY(insets.getTop() + y + lineHeight - childHeight));
+                    x += childWidth;
+                }
+            }
+            y += lineHeight;
+            lineStart = lineEnd;
+            if (lineStart < n)
+                y += lineSpacing;
+        }
+        return y;
+    }
+
+    private double computeAlignmentOffset(double remainingWidth) {
+        if (remainingWidth <= 0)
+            return 0;
+        TextAlignment textAlignment = getTextAlignment();
+        if (textAlignment == TextAlignment.CENTER)
+            return remainingWidth / 2;
+        if (textAlignment == TextAlignment.RIGHT)
+            return remainingWidth;
+        return 0;
+    }
+
+    static {
+        JavaFxGraphicsRegistry.registerTextFlow();
+    }
 }
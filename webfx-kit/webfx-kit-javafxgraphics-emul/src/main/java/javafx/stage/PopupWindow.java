@@ -460,7 +460,7 @@ public abstract class PopupWindow extends Window {
         //PerformanceTracker.logEvent("PopupWindow.storeVisible for [PopupWindow]");
 
         //Toolkit toolkit = Toolkit.getToolkit();
-        if (visible && (impl_peer == null)) {
+        if (visible && (peerListener == null)) { // WebFx change: the peer may have been kept from a previous show
             // Setup the peer
             StageStyle popupStyle = StageStyle.TRANSPARENT;
 /*
@@ -475,11 +475,19 @@ public abstract class PopupWindow extends Window {
                 popupStyle = StageStyle.UNDECORATED;
             }
 */
-            impl_peer = null; // toolkit.createTKPopupStage(this, popupStyle, getOwnerWindow().impl_getPeer(), acc);
+            //impl_peer = toolkit.createTKPopupStage(this, popupStyle, getOwnerWindow().impl_getPeer(), acc);
             peerListener = new PopupWindowPeerListener(PopupWindow.this);
         }
     }
 
+    /**
+     * WebFx addition: popups (context menus, etc...) are frequently shown and hidden, so their peer is kept (detached
+     * from the document) while hidden and showing them again just re-attaches it.
+     */
+    @Override protected boolean impl_isPeerKeptWhenHidden() {
+        return true;
+    }
+
     private Window rootWindow;
 
     /**
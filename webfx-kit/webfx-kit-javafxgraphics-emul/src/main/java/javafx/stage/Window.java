@@ -456,10 +456,19 @@ public class Window implements EventTarget,
         assert impl_peer != null;
         if (!visible) {
             peerListener = null;
-            impl_peer = null;
+            if (!impl_isPeerKeptWhenHidden()) // WebFx addition
+                impl_peer = null;
         }
     }
 
+    /**
+     * WebFx addition: indicates if the peer (and therefore its DOM) should be kept while this window is hidden, so it
+     * can be reused on next show instead of being recreated.
+     */
+    protected boolean impl_isPeerKeptWhenHidden() {
+        return false;
+    }
+
     /**
      * Whether or not this {@code Window} has the keyboard or input focus.
      * <p>
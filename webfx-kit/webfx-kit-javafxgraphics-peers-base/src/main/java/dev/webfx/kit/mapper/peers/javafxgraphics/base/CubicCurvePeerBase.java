@@ -0,0 +1,44 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.base;
+
+import javafx.beans.value.ObservableValue;
+import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
+import javafx.scene.shape.CubicCurve;
+
+/**
+ * @author Bruno Salmon
+ */
+public class CubicCurvePeerBase
+        <N extends CubicCurve, NB extends CubicCurvePeerBase<N, NB, NM>, NM extends CubicCurvePeerMixin<N, NB, NM>>
+
+        extends ShapePeerBase<N, NB, NM> {
+
+    @Override
+    public void bind(N s, SceneRequester sceneRequester) {
+        super.bind(s, sceneRequester);
+        requestUpdateOnPropertiesChange(sceneRequester
+                , s.startXProperty()
+                , s.startYProperty()
+                , s.controlX1Property()
+                , s.controlY1Property()
+                , s.controlX2Property()
+                , s.controlY2Property()
+                , s.endXProperty()
+                , s.endYProperty()
+        );
+    }
+
+    @Override
+    public boolean updateProperty(ObservableValue changedProperty) {
+        N s = node;
+        return super.updateProperty(changedProperty)
+                || updateProperty(s.startXProperty(), changedProperty, p -> mixin.updateStartX(p.doubleValue()))
+                || updateProperty(s.startYProperty(), changedProperty, p -> mixin.updateStartY(p.doubleValue()))
+                || updateProperty(s.controlX1Property(), changedProperty, p -> mixin.updateControlX1(p.doubleValue()))
+                || updateProperty(s.controlY1Property(), changedProperty, p -> mixin.updateControlY1(p.doubleValue()))
+                || updateProperty(s.controlX2Property(), changedProperty, p -> mixin.updateControlX2(p.doubleValue()))
+                || updateProperty(s.controlY2Property(), changedProperty, p -> mixin.updateControlY2(p.doubleValue()))
+                || updateProperty(s.endXProperty(), changedProperty, p -> mixin.updateEndX(p.doubleValue()))
+                || updateProperty(s.endYProperty(), changedProperty, p -> mixin.updateEndY(p.doubleValue()))
+                ;
+    }
+}
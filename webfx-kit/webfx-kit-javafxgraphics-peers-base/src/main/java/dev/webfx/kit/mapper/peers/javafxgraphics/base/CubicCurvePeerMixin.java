@@ -0,0 +1,28 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.base;
+
+import javafx.scene.shape.CubicCurve;
+
+/**
+ * @author Bruno Salmon
+ */
+public interface CubicCurvePeerMixin
+        <N extends CubicCurve, NB extends CubicCurvePeerBase<N, NB, NM>, NM extends CubicCurvePeerMixin<N, NB, NM>>
+
+        extends ShapePeerMixin<N, NB, NM> {
+
+    void updateStartX(Double startX);
+
+    void updateStartY(Double startY);
+
+    void updateControlX1(Double controlX1);
+
+    void updateControlY1(Double controlY1);
+
+    void updateControlX2(Double controlX2);
+
+    void updateControlY2(Double controlY2);
+
+    void updateEndX(Double endX);
+
+    void updateEndY(Double endY);
+}
@@ -0,0 +1,36 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.base;
+
+import javafx.beans.value.ObservableValue;
+import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
+import javafx.scene.shape.Ellipse;
+
+/**
+ * @author Bruno Salmon
+ */
+public class EllipsePeerBase
+        <N extends Ellipse, NB extends EllipsePeerBase<N, NB, NM>, NM extends EllipsePeerMixin<N, NB, NM>>
+
+        extends ShapePeerBase<N, NB, NM> {
+
+    @Override
+    public void bind(N s, SceneRequester sceneRequester) {
+        super.bind(s, sceneRequester);
+        requestUpdateOnPropertiesChange(sceneRequester
+                , s.centerXProperty()
+                , s.centerYProperty()
+                , s.radiusXProperty()
+                , s.radiusYProperty()
+        );
+    }
+
+    @Override
+    public boolean updateProperty(ObservableValue changedProperty) {
+        N s = node;
+        return super.updateProperty(changedProperty)
+                || updateProperty(s.centerXProperty(), changedProperty, p -> mixin.updateCenterX(p.doubleValue()))
+                || updateProperty(s.centerYProperty(), changedProperty, p -> mixin.updateCenterY(p.doubleValue()))
+                || updateProperty(s.radiusXProperty(), changedProperty, p -> mixin.updateRadiusX(p.doubleValue()))
+                || updateProperty(s.radiusYProperty(), changedProperty, p -> mixin.updateRadiusY(p.doubleValue()))
+                ;
+    }
+}
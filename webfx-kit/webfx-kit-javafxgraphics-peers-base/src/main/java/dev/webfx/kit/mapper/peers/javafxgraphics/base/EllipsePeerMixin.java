@@ -0,0 +1,20 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.base;
+
+import javafx.scene.shape.Ellipse;
+
+/**
+ * @author Bruno Salmon
+ */
+public interface EllipsePeerMixin
+        <N extends Ellipse, NB extends EllipsePeerBase<N, NB, NM>, NM extends EllipsePeerMixin<N, NB, NM>>
+
+        extends ShapePeerMixin<N, NB, NM> {
+
+    void updateCenterX(Double centerX);
+
+    void updateCenterY(Double centerY);
+
+    void updateRadiusX(Double radiusX);
+
+    void updateRadiusY(Double radiusY);
+}
@@ -1,5 +1,6 @@
 package dev.webfx.kit.mapper.peers.javafxgraphics.base;
 
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.Property;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ListChangeListener;
@@ -16,6 +17,7 @@ import dev.webfx.kit.util.properties.Properties;
 import dev.webfx.platform.shared.util.Arrays;
 import dev.webfx.platform.shared.util.collection.Collections;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -59,6 +61,7 @@ public abstract class NodePeerBase
                 , node.cursorProperty()
                 , node.mouseTransparentProperty()
                 , node.onMouseDraggedProperty()
+                , node.styleProperty()
         );
     }
 
@@ -103,6 +106,24 @@ public abstract class NodePeerBase
         sceneRequester.requestNodePeerListUpdate(node, list, change);
     }
 
+    private List<ObservableList> invalidatedLists;
+
+    /**
+     * Requests a single list update (with no change) until the peer is updated, whatever the number of changes made
+     * in between on that list. This is for the peers that rewrite the whole list content anyway (ex: the points of a
+     * polyline), so that adding points one by one doesn't schedule (and snapshot) one update per point.
+     */
+    protected void requestUpdateOnListInvalidation(SceneRequester sceneRequester, ObservableList list) {
+        list.addListener((InvalidationListener) observable -> {
+            if (invalidatedLists == null)
+                invalidatedLists = new ArrayList<>();
+            if (!invalidatedLists.contains(list)) {
+                invalidatedLists.add(list);
+                requestUpdateList(sceneRequester, list, null);
+            }
+        });
+    }
+
     @Override
     public boolean updateProperty(ObservableValue changedProperty) {
         return updateProperty(node.mouseTransparentProperty(), changedProperty, mixin::updateMouseTransparent)
@@ -121,6 +142,7 @@ public abstract class NodePeerBase
                 || updateProperty(node.scaleXProperty(), changedProperty, p -> mixin.updateScaleX(p.doubleValue()))
                 || updateProperty(node.scaleYProperty(), changedProperty, p -> mixin.updateScaleY(p.doubleValue()))
                 || updateProperty(node.cursorProperty(), changedProperty, mixin::updateCursor)
+                || updateProperty(node.styleProperty(), changedProperty, mixin::updateStyle)
                 || updateProperty(node.onDragDetectedProperty(), changedProperty, mixin::updateOnDragDetected)
                 || updateProperty(node.onDragEnteredProperty(), changedProperty, mixin::updateOnDragEntered)
                 || updateProperty(node.onDragOverProperty(), changedProperty, mixin::updateOnDragOver)
@@ -132,6 +154,8 @@ public abstract class NodePeerBase
 
     @Override
     public boolean updateList(ObservableList list, ListChangeListener.Change change) {
+        if (invalidatedLists != null)
+            invalidatedLists.remove(list); // The next change will request a new update
         return updateList2(node.getTransforms(), list, change, this::updateTransforms)
                 || updateList2(node.getStyleClass(), list, change, mixin::updateStyleClass)
                 ;
@@ -98,6 +98,8 @@ public interface NodePeerMixin
 
     void updateStyleClass(List<String> styleClass, ListChangeListener.Change<String> change);
 
+    void updateStyle(String style);
+
     void updateCursor(Cursor cursor);
 
     void updateOnDragDetected(EventHandler<? super MouseEvent> eventHandler);
@@ -0,0 +1,30 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.base;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.scene.shape.Polygon;
+import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
+
+/**
+ * @author Bruno Salmon
+ */
+public class PolygonPeerBase
+        <N extends Polygon, NB extends PolygonPeerBase<N, NB, NM>, NM extends PolygonPeerMixin<N, NB, NM>>
+
+        extends ShapePeerBase<N, NB, NM> {
+
+    @Override
+    public void bind(N p, SceneRequester sceneRequester) {
+        super.bind(p, sceneRequester);
+        // The peer rewrites all the points on each update, so a single update is requested for any number of changes
+        requestUpdateOnListInvalidation(sceneRequester, p.getPoints());
+    }
+
+    @Override
+    public boolean updateList(ObservableList list, ListChangeListener.Change change) {
+        return super.updateList(list, change) ||
+                updateList2(node.getPoints(), list, change, (points, c) -> mixin.updatePoints(points))
+                ;
+    }
+
+}
@@ -0,0 +1,17 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.base;
+
+import javafx.scene.shape.Polygon;
+
+import java.util.List;
+
+/**
+ * @author Bruno Salmon
+ */
+public interface PolygonPeerMixin
+        <N extends Polygon, NB extends PolygonPeerBase<N, NB, NM>, NM extends PolygonPeerMixin<N, NB, NM>>
+
+        extends ShapePeerMixin<N, NB, NM> {
+
+    void updatePoints(List<Double> points);
+
+}
@@ -0,0 +1,30 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.base;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.scene.shape.Polyline;
+import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
+
+/**
+ * @author Bruno Salmon
+ */
+public class PolylinePeerBase
+        <N extends Polyline, NB extends PolylinePeerBase<N, NB, NM>, NM extends PolylinePeerMixin<N, NB, NM>>
+
+        extends ShapePeerBase<N, NB, NM> {
+
+    @Override
+    public void bind(N p, SceneRequester sceneRequester) {
+        super.bind(p, sceneRequester);
+        // The peer rewrites all the points on each update, so a single update is requested for any number of changes
+        requestUpdateOnListInvalidation(sceneRequester, p.getPoints());
+    }
+
+    @Override
+    public boolean updateList(ObservableList list, ListChangeListener.Change change) {
+        return super.updateList(list, change) ||
+                updateList2(node.getPoints(), list, change, (points, c) -> mixin.updatePoints(points))
+                ;
+    }
+
+}
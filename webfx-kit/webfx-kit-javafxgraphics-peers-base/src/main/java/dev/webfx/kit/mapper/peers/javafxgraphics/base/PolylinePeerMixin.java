@@ -0,0 +1,17 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.base;
+
+import javafx.scene.shape.Polyline;
+
+import java.util.List;
+
+/**
+ * @author Bruno Salmon
+ */
+public interface PolylinePeerMixin
+        <N extends Polyline, NB extends PolylinePeerBase<N, NB, NM>, NM extends PolylinePeerMixin<N, NB, NM>>
+
+        extends ShapePeerMixin<N, NB, NM> {
+
+    void updatePoints(List<Double> points);
+
+}
@@ -0,0 +1,40 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.base;
+
+import javafx.beans.value.ObservableValue;
+import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
+import javafx.scene.shape.QuadCurve;
+
+/**
+ * @author Bruno Salmon
+ */
+public class QuadCurvePeerBase
+        <N extends QuadCurve, NB extends QuadCurvePeerBase<N, NB, NM>, NM extends QuadCurvePeerMixin<N, NB, NM>>
+
+        extends ShapePeerBase<N, NB, NM> {
+
+    @Override
+    public void bind(N s, SceneRequester sceneRequester) {
+        super.bind(s, sceneRequester);
+        requestUpdateOnPropertiesChange(sceneRequester
+                , s.startXProperty()
+                , s.startYProperty()
+                , s.controlXProperty()
+                , s.controlYProperty()
+                , s.endXProperty()
+                , s.endYProperty()
+        );
+    }
+
+    @Override
+    public boolean updateProperty(ObservableValue changedProperty) {
+        N s = node;
+        return super.updateProperty(changedProperty)
+                || updateProperty(s.startXProperty(), changedProperty, p -> mixin.updateStartX(p.doubleValue()))
+                || updateProperty(s.startYProperty(), changedProperty, p -> mixin.updateStartY(p.doubleValue()))
+                || updateProperty(s.controlXProperty(), changedProperty, p -> mixin.updateControlX(p.doubleValue()))
+                || updateProperty(s.controlYProperty(), changedProperty, p -> mixin.updateControlY(p.doubleValue()))
+                || updateProperty(s.endXProperty(), changedProperty, p -> mixin.updateEndX(p.doubleValue()))
+                || updateProperty(s.endYProperty(), changedProperty, p -> mixin.updateEndY(p.doubleValue()))
+                ;
+    }
+}
@@ -0,0 +1,24 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.base;
+
+import javafx.scene.shape.QuadCurve;
+
+/**
+ * @author Bruno Salmon
+ */
+public interface QuadCurvePeerMixin
+        <N extends QuadCurve, NB extends QuadCurvePeerBase<N, NB, NM>, NM extends QuadCurvePeerMixin<N, NB, NM>>
+
+        extends ShapePeerMixin<N, NB, NM> {
+
+    void updateStartX(Double startX);
+
+    void updateStartY(Double startY);
+
+    void updateControlX(Double controlX);
+
+    void updateControlY(Double controlY);
+
+    void updateEndX(Double endX);
+
+    void updateEndY(Double endY);
+}
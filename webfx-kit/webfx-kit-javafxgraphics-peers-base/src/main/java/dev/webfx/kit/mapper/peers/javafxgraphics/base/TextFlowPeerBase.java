@@ -0,0 +1,31 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.base;
+
+import javafx.beans.value.ObservableValue;
+import javafx.scene.text.TextFlow;
+import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
+
+/**
+ * @author Bruno Salmon
+ */
+public class TextFlowPeerBase
+        <N extends TextFlow, NB extends TextFlowPeerBase<N, NB, NM>, NM extends TextFlowPeerMixin<N, NB, NM>>
+
+        extends RegionPeerBase<N, NB, NM> {
+
+    @Override
+    public void bind(N node, SceneRequester sceneRequester) {
+        super.bind(node, sceneRequester);
+        requestUpdateOnPropertiesChange(sceneRequester
+                , node.textAlignmentProperty()
+                , node.lineSpacingProperty()
+        );
+    }
+
+    @Override
+    public boolean updateProperty(ObservableValue changedProperty) {
+        return super.updateProperty(changedProperty)
+                || updateProperty(node.textAlignmentProperty(), changedProperty, mixin::updateTextAlignment)
+                || updateProperty(node.lineSpacingProperty(), changedProperty, p -> mixin.updateLineSpacing(p.doubleValue()))
+                ;
+    }
+}
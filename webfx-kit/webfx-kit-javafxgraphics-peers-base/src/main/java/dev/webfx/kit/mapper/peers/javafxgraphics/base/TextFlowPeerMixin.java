@@ -0,0 +1,18 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.base;
+
+import javafx.scene.text.TextAlignment;
+import javafx.scene.text.TextFlow;
+
+/**
+ * @author Bruno Salmon
+ */
+public interface TextFlowPeerMixin
+        <N extends TextFlow, NB extends TextFlowPeerBase<N, NB, NM>, NM extends TextFlowPeerMixin<N, NB, NM>>
+
+        extends RegionPeerMixin<N, NB, NM> {
+
+    void updateTextAlignment(TextAlignment textAlignment);
+
+    void updateLineSpacing(Double lineSpacing);
+
+}
@@ -9,6 +9,7 @@ import javafx.scene.effect.DropShadow;
 import javafx.scene.effect.Effect;
 import javafx.scene.image.Image;
 import javafx.scene.image.PixelWriter;
+import javafx.scene.paint.ImagePattern;
 import javafx.scene.paint.LinearGradient;
 import javafx.scene.paint.Paint;
 import javafx.scene.shape.ArcType;
@@ -184,9 +185,36 @@ public class HtmlGraphicsContext implements GraphicsContext {
     private Object toCanvasPaint(Paint paint) {
         if (paint instanceof LinearGradient)
             return toCanvasLinearGradient((LinearGradient) paint, 0, 0, 1, 1);
+        if (paint instanceof ImagePattern)
+            return toCanvasImagePattern((ImagePattern) paint);
         return HtmlPaints.toHtmlCssPaint(paint);
     }
 
+    private Object toCanvasImagePattern(ImagePattern ip) {
+        HTMLImageElement imageElement = getHTMLImageElement(ip.getImage().getUrl());
+        if (!imageElement.complete || imageElement.naturalWidth == 0) // Nothing to paint until the image is loaded
+            return "transparent";
+        // Proportional patterns are relative to the canvas size (there is no shape bounds in the GraphicsContext)
+        double x = ip.getX(), y = ip.getY(), w = ip.getWidth(), h = ip.getHeight();
+        if (ip.isProportional()) {
+            HTMLCanvasElement canvasElement = ctx.canvas;
+            x *= canvasElement.width;
+            w *= canvasElement.width;
+            y *= canvasElement.height;
+            h *= canvasElement.height;
+        }
+        Object pattern = createCanvasPattern(ctx, imageElement, x, y, w / imageElement.naturalWidth, h / imageElement.naturalHeight);
+        return pattern != null ? pattern : "transparent";
+    }
+
+    private static native Object createCanvasPattern(CanvasRenderingContext2D ctx, HTMLImageElement image, double x, double y, double scaleX, double scaleY) /*-{
+        var pattern = ctx.createPattern(image, 'repeat');
+        // Stretching the image to the anchor rectangle (setTransform is not supported by all browsers)
+        if (pattern && pattern.setTransform && $wnd.DOMMatrix)
+            pattern.setTransform(new $wnd.DOMMatrix([scaleX, 0, 0, scaleY, x, y]));
+        return pattern;
+    }-*/;
+
     private CanvasGradient toCanvasLinearGradient(LinearGradient lg, double x, double y, double width, double height) {
         proportionalFillLinearGradient = lg.isProportional();
         if (!proportionalFillLinearGradient)
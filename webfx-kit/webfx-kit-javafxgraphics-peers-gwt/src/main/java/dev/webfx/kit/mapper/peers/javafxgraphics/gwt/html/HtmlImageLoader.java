@@ -0,0 +1,229 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html;
+
+import javafx.scene.image.Image;
+import dev.webfx.platform.shared.util.Strings;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Provides the url to set as the source of the html image elements displaying an image. This is the image url itself
+ * in the simple case, but when the image has a requested size, the image is fetched and downscaled to that size with
+ * createImageBitmap(), so the browser keeps in memory a bitmap that matches the displayed size and not the full size
+ * image. And when the image is loaded in background, it is fetched as a stream to report the real progress.
+ *
+ * The resulting url is shared by all the images with the same url and loading parameters. If fetching the image fails
+ * (ex: cross-origin image without CORS headers), the image url is used as is. The object urls are kept in a bounded LRU
+ * cache, and revoked when dropped from it. When the object url refers to the full size image (fetched only to report
+ * the progress), it is revoked as soon as the image elements using it have loaded, and the entry then falls back to
+ * the image url (which the browser http cache serves).
+ *
+ * @author Bruno Salmon
+ */
+final class HtmlImageLoader {
+
+    private static final int MAX_IMAGE_SOURCES = 64;
+
+    private static final Map<String, ImageSource> imageSources = new LinkedHashMap<String, ImageSource>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ImageSource> eldest) {
+            ImageSource imageSource = eldest.getValue();
+            // The sources still being fetched are kept (their consumers are waiting for them)
+            if (size() <= MAX_IMAGE_SOURCES || imageSource.src == null)
+                return false;
+            imageSource.revokeObjectUrl();
+            return true;
+        }
+    };
+
+    // The full size object urls, per src, waiting for the image elements using them to be loaded
+    private static final Map<String, ImageSource> fullSizeObjectSources = new HashMap<>();
+
+    private static final class ImageSource {
+        private final String url;
+        private String src;
+        private List<Consumer<String>> srcConsumers = new ArrayList<>();
+        private int pendingLoads; // number of image elements loading the full size object url
+
+        private ImageSource(String url) {
+            this.url = url;
+        }
+
+        private void revokeObjectUrl() {
+            if (src != null && !src.equals(url) && src.startsWith("blob:")) {
+                fullSizeObjectSources.remove(src);
+                revokeObjectURL(src);
+                src = url;
+            }
+        }
+    }
+
+    static void getImageSource(Image image, Consumer<String> srcConsumer) {
+        String url = image.getUrl();
+        boolean resize = (image.getRequestedWidth() > 0 || image.getRequestedHeight() > 0) && !Strings.endsWith(url, ".svg") && isImageBitmapResizeSupported();
+        boolean reportProgress = image.isBackgroundLoading() && isStreamedFetchSupported();
+        if (url == null || !resize && !reportProgress) {
+            srcConsumer.accept(url);
+            return;
+        }
+        String key = url + "|" + (resize ? image.getRequestedWidth() + "x" + image.getRequestedHeight() + "|" + image.isPreserveRatio() + "|" + image.isSmooth() : "");
+        ImageSource imageSource = imageSources.get(key);
+        if (imageSource == null) {
+            imageSources.put(key, imageSource = new ImageSource(url));
+            ImageSource finalImageSource = imageSource;
+            fetchImageSource(url, image, reportProgress, resize ? image.getRequestedWidth() : 0, resize ? image.getRequestedHeight() : 0, image.isPreserveRatio(), image.isSmooth(), src -> {
+                if (src == null) // Fetch failed, so leaving the image element loading the url (and reporting the error if any)
+                    src = url;
+                finalImageSource.src = src;
+                // Without resize, the object url holds the full size image (otherwise it's the downscaled image)
+                if (!resize && !src.equals(url))
+                    fullSizeObjectSources.put(src, finalImageSource);
+                List<Consumer<String>> srcConsumers = finalImageSource.srcConsumers;
+                finalImageSource.srcConsumers = null;
+                for (Consumer<String> consumer : srcConsumers)
+                    consumer.accept(src);
+            });
+        }
+        if (imageSource.src != null)
+            srcConsumer.accept(imageSource.src);
+        else
+            imageSource.srcConsumers.add(srcConsumer);
+    }
+
+    /**
+     * To be called when an image element starts loading a source provided by getImageSource().
+     */
+    static void onImageSourceSet(String src) {
+        ImageSource imageSource = fullSizeObjectSources.get(src);
+        if (imageSource != null)
+            imageSource.pendingLoads++;
+    }
+
+    /**
+     * To be called when an image element has finished loading (or failed to load) a source provided by getImageSource().
+     */
+    static void onImageSourceLoaded(String src) {
+        ImageSource imageSource = fullSizeObjectSources.get(src);
+        // Once all the elements have loaded it, the full size image doesn't need to be kept in memory by the object url
+        if (imageSource != null && --imageSource.pendingLoads <= 0)
+            imageSource.revokeObjectUrl();
+    }
+
+    private static native void revokeObjectURL(String objectUrl) /*-{
+        $wnd.URL.revokeObjectURL(objectUrl);
+    }-*/;
+
+    private static native boolean isImageBitmapResizeSupported() /*-{
+        return typeof $wnd.createImageBitmap === 'function' && typeof $wnd.fetch === 'function' && !!$wnd.URL.createObjectURL;
+    }-*/;
+
+    private static native boolean isStreamedFetchSupported() /*-{
+        return typeof $wnd.fetch === 'function' && typeof $wnd.ReadableStream === 'function' && !!$wnd.URL.createObjectURL;
+    }-*/;
+
+    private static native void fetchImageSource(String url, Image image, boolean reportProgress, double requestedWidth, double requestedHeight, boolean preserveRatio, boolean smooth, Consumer<String> srcConsumer) /*-{
+        var URL = $wnd.URL;
+        $wnd.fetch(url).then(function(response) {
+            if (!response.ok)
+                throw new Error('HTTP status ' + response.status);
+            if (!reportProgress || !response.body || !response.body.getReader)
+                return response.blob();
+            // Reading the stream to report the progress (1 will be reported once the image is decoded)
+            var total = +response.headers.get('Content-Length') || 0, received = 0, chunks = [];
+            var type = response.headers.get('Content-Type') || '';
+            var reader = response.body.getReader();
+            var read = function() {
+                return reader.read().then(function(result) {
+                    if (result.done)
+                        return new $wnd.Blob(chunks, {type: type});
+                    chunks.push(result.value);
+                    received += result.value.length;
+                    if (total > 0)
+                        $entry(function() { image.@javafx.scene.image.Image::setProgress(D)(Math.min(received / total, 0.99)); })();
+                    return read();
+                });
+            };
+            return read();
+        }).then(function(blob) {
+            var blobUrl = URL.createObjectURL(blob);
+            if (!(requestedWidth > 0 || requestedHeight > 0))
+                return blobUrl;
+            // Getting the natural size first (which doesn't require the image to be decoded)
+            return new $wnd.Promise(function(resolve, reject) {
+                var img = new $wnd.Image();
+                img.onload = function() { resolve(img); };
+                img.onerror = function(error) {
+                    URL.revokeObjectURL(blobUrl);
+                    reject(error);
+                };
+                img.src = blobUrl;
+            }).then(function(img) {
+                var nw = img.naturalWidth, nh = img.naturalHeight;
+                var w = requestedWidth > 0 ? requestedWidth : 0, h = requestedHeight > 0 ? requestedHeight : 0;
+                if (preserveRatio && w > 0 && h > 0) {
+                    var scale = Math.min(w / nw, h / nh);
+                    w = nw * scale;
+                    h = nh * scale;
+                } else if (preserveRatio && w > 0)
+                    h = nh * w / nw;
+                else if (preserveRatio)
+                    w = nw * h / nh;
+                else {
+                    w = w > 0 ? w : nw;
+                    h = h > 0 ? h : nh;
+                }
+                w = Math.max(1, Math.round(w));
+                h = Math.max(1, Math.round(h));
+                if (w >= nw && h >= nh) { // No memory to save in that case, so using the url (served by the http cache)
+                    URL.revokeObjectURL(blobUrl);
+                    return url;
+                }
+                return $wnd.createImageBitmap(blob, {resizeWidth: w, resizeHeight: h, resizeQuality: smooth ? 'high' : 'pixelated'}).then(function(bitmap) {
+                    var canvas = $doc.createElement('canvas');
+                    canvas.width = bitmap.width;
+                    canvas.height = bitmap.height;
+                    canvas.getContext('2d').drawImage(bitmap, 0, 0);
+                    if (bitmap.close)
+                        bitmap.close();
+                    return new $wnd.Promise(function(resolve) {
+                        canvas.toBlob(function(resizedBlob) {
+                            URL.revokeObjectURL(blobUrl);
+                            resolve(resizedBlob ? URL.createObjectURL(resizedBlob) : url);
+                        });
+                    });
+                }, function() {
+                    URL.revokeObjectURL(blobUrl);
+                    return url;
+                });
+            });
+        }).then($entry(function(src) {
+            srcConsumer.@java.util.function.Consumer::accept(Ljava/lang/Object;)(src);
+        }), $entry(function(error) {
+            $wnd.console.warn('Failed to fetch image ' + url + ': ' + error);
+            srcConsumer.@java.util.function.Consumer::accept(Ljava/lang/Object;)(null);
+        }));
+    }-*/;
+
+    /**
+     * Decodes the loaded image off the critical path and then calls onDecoded. Returns false if decode() is not
+     * supported by the browser (in which case onDecoded is not called).
+     */
+    static native boolean decode(Object imageElement, Runnable onDecoded) /*-{
+        if (!imageElement.decode)
+            return false;
+        var callback = $entry(function() {
+            onDecoded.@java.lang.Runnable::run()();
+        });
+        imageElement.decode().then(callback, function() {
+            // decode() can also be rejected when the source changed in the meantime, or by a browser not able to
+            // decode it off the main thread. The load errors are reported by the image element itself.
+            if (imageElement.complete && imageElement.naturalWidth > 0)
+                callback();
+        });
+        return true;
+    }-*/;
+}
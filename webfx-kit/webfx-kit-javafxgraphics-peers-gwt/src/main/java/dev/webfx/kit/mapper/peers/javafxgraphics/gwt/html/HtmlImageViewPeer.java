@@ -40,10 +40,18 @@ public final class HtmlImageViewPeer
         setContainer(container);
         makeContainerInvisible();
         HTMLImageElement e = (HTMLImageElement) getElement();
+        e.setAttribute("decoding", "async");
         e.onload = evt -> {
-            onLoad();
+            HtmlImageLoader.onImageSourceLoaded(e.src);
+            // The image size is reported only once decoded, so the decoding doesn't happen during the next layout pass
+            if (!HtmlImageLoader.decode(e, this::onLoad))
+                onLoad();
             return null;
         };
+        e.addEventListener("error", evt -> {
+            HtmlImageLoader.onImageSourceLoaded(e.src);
+            onLoadError();
+        });
     }
 
     private Runnable sizeChangedCallback;
@@ -62,9 +70,18 @@ public final class HtmlImageViewPeer
         if (tryInlineSvg(imageUrl))
             onLoad();
         else {
-            setElementAttribute("src", imageUrl);
             // Temporary filling alt with imageUrl to avoid downgrade in Lighthouse TODO: map this to accessible text
             setElementAttribute("alt", imageUrl);
+            if (image == null || image instanceof WritableImage)
+                setElementAttribute("src", imageUrl);
+            else // The source may be a downscaled copy of the image, and is possibly set later (once fetched)
+                HtmlImageLoader.getImageSource(image, src -> {
+                    N imageView = getNode();
+                    if (imageView != null && imageView.getImage() == image) {
+                        HtmlImageLoader.onImageSourceSet(src);
+                        setElementAttribute("src", src);
+                    }
+                });
             // Special case of a writable image
             if (image instanceof WritableImage) {
                 // The WebFx emulation code stored the image in a canvas
@@ -94,11 +111,24 @@ public final class HtmlImageViewPeer
             sizeChangedCallback.run();
     }
 
+    private void onLoadError() {
+        N imageView = getNode();
+        Image image = imageView == null ? null : imageView.getImage();
+        if (image != null && !image.isError())
+            image.impl_setException(new Exception("Failed to load image " + image.getUrl()));
+    }
+
     public static void onHTMLImageLoaded(HTMLImageElement imageElement, Image image) {
-        double requestedWidth = image.getRequestedWidth();
-        image.setWidth(requestedWidth  > 0 ? requestedWidth  : (double) imageElement.naturalWidth);
-        double requestedHeight = image.getRequestedHeight();
-        image.setHeight(requestedWidth > 0 ? requestedHeight : (double) imageElement.naturalHeight);
+        // Applying the requested size as JavaFx does (the natural size is already that size if the image was downscaled)
+        double naturalWidth = imageElement.naturalWidth, naturalHeight = imageElement.naturalHeight;
+        double width = image.getRequestedWidth(), height = image.getRequestedHeight();
+        if (image.isPreserveRatio() && naturalWidth > 0 && naturalHeight > 0 && (width > 0 || height > 0)) {
+            double scale = width > 0 && height > 0 ? Math.min(width / naturalWidth, height / naturalHeight) : width > 0 ? width / naturalWidth : height / naturalHeight;
+            width = naturalWidth * scale;
+            height = naturalHeight * scale;
+        }
+        image.setWidth(width > 0 ? width : naturalWidth);
+        image.setHeight(height > 0 ? height : naturalHeight);
         image.setProgress(1);
     }
 
@@ -70,7 +70,7 @@ public final class HtmlLinePeer
     protected void updateStroke() {
         super.updateStroke();
         N shape = getNode();
-        String color = HtmlPaints.toHtmlCssPaint(shape.getStroke());
+        String color = HtmlPaints.toHtmlCssColorPaint(shape.getStroke());
         Double strokeWidth = shape.getStrokeWidth();
         boolean hasStroke = color != null && strokeWidth > 0;
         setElementStyleAttribute("border-width", hasStroke ? toPx(strokeWidth / 2) : null);
@@ -15,6 +15,7 @@ import javafx.scene.transform.Transform;
 import dev.webfx.kit.mapper.peers.javafxgraphics.base.NodePeerBase;
 import dev.webfx.kit.mapper.peers.javafxgraphics.base.NodePeerMixin;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.shared.HtmlSvgNodePeer;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlFilters;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlPaints;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlTransforms;
 import dev.webfx.platform.shared.util.Strings;
@@ -101,18 +102,7 @@ public abstract class HtmlNodePeer
 
     @Override
     protected String toFilter(Effect effect) {
-        if (effect == null)
-            return null;
-        if (effect instanceof GaussianBlur)
-            return "blur(" + ((GaussianBlur) effect).getSigma() + "px)";
-        if (effect instanceof BoxBlur)
-            // Not supported by browser so doing a gaussian blur instead
-            return "blur(" + GaussianBlur.getSigma(((BoxBlur) effect).getWidth()) + "px)";
-        if (effect instanceof DropShadow) {
-            DropShadow dropShadow = (DropShadow) effect;
-            return "drop-shadow(" + toPx(dropShadow.getOffsetX()) + " " + toPx(dropShadow.getOffsetY()) + " " + toPx(dropShadow.getRadius() / 2) + " " + HtmlPaints.toCssColor(dropShadow.getColor()) + ")";
-        }
-        return null;
+        return HtmlFilters.toCssFilter(effect);
     }
 
     public static String toCssTextAlignment(TextAlignment textAlignment) {
@@ -121,6 +111,7 @@ public abstract class HtmlNodePeer
                 case LEFT: return "left";
                 case CENTER: return "center";
                 case RIGHT: return "right";
+                case JUSTIFY: return "justify";
             }
         return null;
     }
@@ -189,7 +189,7 @@ public abstract class HtmlRegionPeer
     }
 
     private static StringBuilder toCssBorder(Paint stroke, BorderStrokeStyle style, double width, boolean isPercentage, StringBuilder sb) {
-        return sb.append(width).append(isPercentage ? "% " : "px ").append(toCssBorderStyle(style)).append(' ').append(HtmlPaints.toCssPaint(stroke, DomType.HTML));
+        return sb.append(width).append(isPercentage ? "% " : "px ").append(toCssBorderStyle(style)).append(' ').append(HtmlPaints.toHtmlCssColorPaint(stroke));
     }
 
     private static String toCssBorderStyle(BorderStrokeStyle style) {
@@ -1,10 +1,13 @@
 package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html;
 
+import com.sun.javafx.ref.WeakRef;
 import dev.webfx.kit.mapper.peers.javafxgraphics.HasNoChildrenPeers;
 import dev.webfx.kit.mapper.peers.javafxgraphics.NodePeer;
+import dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling.HasNativeChildrenLayout;
 import dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling.base.ScenePeerBase;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.shared.HtmlSvgNodePeer;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.FxEvents;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlFonts;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlPaints;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlUtil;
 import dev.webfx.kit.util.properties.Properties;
@@ -16,8 +19,10 @@ import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.layout.LayoutFlags;
-import javafx.scene.text.TextFlow;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +36,14 @@ public final class HtmlScenePeer extends ScenePeerBase {
 
     private final HTMLElement container = HtmlUtil.absolutePosition(HtmlUtil.createElement("fx-scene"));
 
+    // The live scene peers (including the popup ones), to which the font loading events are dispatched
+    private static final List<WeakRef<HtmlScenePeer>> scenePeers = new ArrayList<>();
+
+    static {
+        // A single document listener for all the scenes
+        HtmlFonts.setOnFontFamilyLoaded(HtmlScenePeer::onFontFamilyLoadedInScenes);
+    }
+
     public HtmlScenePeer(Scene scene) {
         super(scene);
         HtmlUtil.setStyleAttribute(container, "width", "100%");
@@ -39,7 +52,7 @@ public final class HtmlScenePeer extends ScenePeerBase {
         installMouseListeners();
         HtmlSvgNodePeer.installKeyboardListeners(DomGlobal.window, scene);
         installStylesheetsListener(scene);
-        document.fonts.setOnloadingdone(p0 -> { onCssOrFontLoaded(); return null; });
+        scenePeers.add(new WeakRef<>(this));
         // The following code is just to avoid a downgrade in Lighthouse (iframe should have a title)
         NodeList<Element> iframes = document.getElementsByTagName("iframe"); // Looking for the GWT iframe
         if (iframes.length > 0) {
@@ -132,7 +145,7 @@ public final class HtmlScenePeer extends ScenePeerBase {
             link.setAttribute("rel", "stylesheet");
             link.setAttribute("type", "text/css");
             link.setAttribute("href", href);
-            link.onload = e -> onCssOrFontLoaded();
+            link.onload = e -> onCssLoaded();
             document.body.appendChild(link);
             stylesheetLinks.put(href, link); // Keeping a reference to the link for eventual removal
         });
@@ -146,10 +159,43 @@ public final class HtmlScenePeer extends ScenePeerBase {
         });
     }
 
-    private void onCssOrFontLoaded() {
+    private void onCssLoaded() {
+        // A stylesheet can change anything, so the whole scene graph is invalidated
+        Font.impl_invalidateMetrics();
         clearLayoutCache(scene.getRoot());
     }
 
+    private static void onFontFamilyLoadedInScenes(String family) {
+        Font.impl_invalidateMetrics();
+        boolean hasFontPeers = HtmlFonts.hasFontPeers(family);
+        for (int i = scenePeers.size() - 1; i >= 0; i--) {
+            HtmlScenePeer scenePeer = scenePeers.get(i).get();
+            if (scenePeer == null)
+                scenePeers.remove(i);
+            else
+                scenePeer.onFontFamilyLoaded(family, hasFontPeers);
+        }
+    }
+
+    private void onFontFamilyLoaded(String family, boolean hasFontPeers) {
+        // When no node uses that font family through its Font, it's probably used through css only (ex: font-family
+        // in a stylesheet with a @font-face rule), so we don't know which nodes are affected and invalidate them all
+        if (!hasFontPeers) {
+            clearLayoutCache(scene.getRoot());
+            return;
+        }
+        // Otherwise only the nodes rendering text with that font family need to be measured again
+        HtmlFonts.forEachFontPeer(family, peer -> {
+            Node node = peer.getNode();
+            if (node.getScene() == scene) {
+                // Also clearing the ancestors measured by their peer (ex: TextFlow), as their content includes the text
+                for (Node n = node; n != null; n = n.getParent())
+                    n.clearCache();
+                node.onPeerSizeChanged();
+            }
+        });
+    }
+
     private static void clearLayoutCache(Node node) {
         node.clearCache();
         if (node instanceof Parent) {
@@ -214,11 +260,14 @@ public final class HtmlScenePeer extends ScenePeerBase {
 
     private Element toChildElement(Node node) {
         Element element = HtmlSvgNodePeer.toContainerElement(node, scene);
-        // TextFlow special case
-        if (node.getParent() instanceof TextFlow && element instanceof HTMLElement) {
-            HTMLElement htmlElement = (HTMLElement) element;
-            htmlElement.style.whiteSpace = "normal"; // white space are allowed
-            htmlElement.style.lineHeight = null; // and line height is default (not 100%)
+        // TextFlow special case: the children are inline runs of the flow, positioned by the browser
+        Parent parent = node.getParent();
+        if (parent != null && parent.getNodePeer() instanceof HasNativeChildrenLayout && element instanceof HTMLElement) {
+            CSSStyleDeclaration style = ((HTMLElement) element).style;
+            style.position = "static"; // in the flow (the left & top set by the peer are then ignored)
+            style.display = node instanceof Text ? "inline" : "inline-block"; // other nodes are inline boxes
+            style.whiteSpace = "pre-wrap"; // white spaces and line breaks are kept (like in JavaFx) and lines can wrap
+            style.lineHeight = null; // and line height is the one of the flow (not 100%)
         }
         return element;
     }
@@ -47,7 +47,7 @@ abstract class HtmlShapePeer
 
     protected void updateStroke() {
         N shape = getNode();
-        String color = HtmlPaints.toHtmlCssPaint(shape.getStroke());
+        String color = HtmlPaints.toHtmlCssColorPaint(shape.getStroke());
         Double strokeWidth = shape.getStrokeWidth();
         boolean hasStroke = color != null && strokeWidth > 0;
         setElementStyleAttribute("border-color", hasStroke ? color : null);
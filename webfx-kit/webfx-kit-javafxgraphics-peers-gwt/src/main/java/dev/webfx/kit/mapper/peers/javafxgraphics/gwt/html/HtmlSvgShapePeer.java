@@ -0,0 +1,47 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html;
+
+import elemental2.dom.Element;
+import javafx.scene.shape.Shape;
+import dev.webfx.kit.mapper.peers.javafxgraphics.SceneRequester;
+import dev.webfx.kit.mapper.peers.javafxgraphics.base.ShapePeerBase;
+import dev.webfx.kit.mapper.peers.javafxgraphics.base.ShapePeerMixin;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.shared.SvgRoot;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.shared.SvgRootBase;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.svg.SvgNodePeer;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlUtil;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.SvgUtil;
+
+/**
+ * Html peer of the shapes that are rendered by a svg primitive (polygon, polyline, ellipse, curves): the svg peer is
+ * embedded in a svg element inside the html element, like for HtmlPathPeer. This peer shares the node peer base of
+ * the svg peer, so all the node properties are applied directly to the svg shape.
+ *
+ * @author Bruno Salmon
+ */
+public final class HtmlSvgShapePeer
+        <N extends Shape, NB extends ShapePeerBase<N, NB, NM>, NM extends ShapePeerMixin<N, NB, NM>>
+
+        extends HtmlShapePeer<N, NB, NM> {
+
+    private final SvgNodePeer svgShapePeer;
+
+    public HtmlSvgShapePeer(SvgNodePeer svgShapePeer, String tag) {
+        super((NB) svgShapePeer.getNodePeerBase(), HtmlUtil.createElement(tag));
+        this.svgShapePeer = svgShapePeer;
+        // The super constructor set this peer as the mixin of the shared base, but the updates are for the svg peer
+        getNodePeerBase().setMixin((NM) svgShapePeer);
+    }
+
+    @Override
+    public void bind(N node, SceneRequester sceneRequester) {
+        svgShapePeer.bind(node, sceneRequester);
+        Element svgElement = SvgUtil.createSvgElement("svg");
+        SvgRoot svgRoot = new SvgRootBase();
+        node.getProperties().put("svgRoot", svgRoot);
+        // Setting arbitrary large size to avoid the shape to be cropped by the svg tag
+        svgElement.setAttribute("width", 100_000);
+        svgElement.setAttribute("height", 100_000);
+        HtmlUtil.setChildren(svgElement, svgRoot.getDefsElement(), svgShapePeer.getElement());
+        HtmlUtil.setChild(getElement(), svgElement);
+    }
+}
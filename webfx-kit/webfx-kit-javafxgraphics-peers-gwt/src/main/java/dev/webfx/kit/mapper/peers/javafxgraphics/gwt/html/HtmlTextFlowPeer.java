@@ -0,0 +1,69 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html;
+
+import dev.webfx.kit.mapper.peers.javafxgraphics.base.TextFlowPeerBase;
+import dev.webfx.kit.mapper.peers.javafxgraphics.base.TextFlowPeerMixin;
+import dev.webfx.kit.mapper.peers.javafxgraphics.emul_coupling.HasNativeChildrenLayout;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html.layoutmeasurable.HtmlLayoutCache;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html.layoutmeasurable.HtmlLayoutMeasurable;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlUtil;
+import elemental2.dom.CSSProperties;
+import javafx.geometry.Insets;
+import javafx.scene.text.TextAlignment;
+import javafx.scene.text.TextFlow;
+
+/**
+ * Html peer of TextFlow: the children are rendered as inline runs of this single block element (see
+ * HtmlScenePeer.toChildElement()), so the browser does the line breaking natively, and the pref height for a given
+ * width is a single measure of this element.
+ *
+ * @author Bruno Salmon
+ */
+public final class HtmlTextFlowPeer
+        <N extends TextFlow, NB extends TextFlowPeerBase<N, NB, NM>, NM extends TextFlowPeerMixin<N, NB, NM>>
+
+        extends HtmlRegionPeer<N, NB, NM>
+        implements TextFlowPeerMixin<N, NB, NM>, HtmlLayoutMeasurable, HasNativeChildrenLayout, NormalWhiteSpacePeer {
+
+    public HtmlTextFlowPeer() {
+        this((NB) new TextFlowPeerBase());
+    }
+
+    public HtmlTextFlowPeer(NB base) {
+        super(base, HtmlUtil.createElement("fx-textflow"));
+        // The css width & height (set by layout or while measuring) include the padding and border, like the node size
+        setElementStyleAttribute("box-sizing", "border-box");
+    }
+
+    @Override
+    protected CSSProperties.PaddingUnionType toCssPadding(Insets padding) {
+        if (padding == null)
+            return null;
+        // The padding is applied in css because the browser flows the content inside it
+        return CSSProperties.PaddingUnionType.of(toPx(padding.getTop()) + " " + toPx(padding.getRight()) + " " + toPx(padding.getBottom()) + " " + toPx(padding.getLeft()));
+    }
+
+    @Override
+    public void updatePadding(Insets padding) {
+        super.updatePadding(padding);
+        clearLayoutCache();
+    }
+
+    @Override
+    public void updateTextAlignment(TextAlignment textAlignment) {
+        setElementStyleAttribute("text-align", toCssTextAlignment(textAlignment));
+        clearLayoutCache();
+    }
+
+    @Override
+    public void updateLineSpacing(Double lineSpacing) {
+        // JavaFx line spacing is an extra space between lines, added here to the normal line height (~1.2em)
+        setElementStyleAttribute("line-height", lineSpacing == null || lineSpacing == 0 ? null : "calc(1.2em + " + toPx(lineSpacing) + ")");
+        clearLayoutCache();
+    }
+
+    private final HtmlLayoutCache cache = new HtmlLayoutCache();
+    @Override
+    public HtmlLayoutCache getCache() {
+        return cache;
+    }
+}
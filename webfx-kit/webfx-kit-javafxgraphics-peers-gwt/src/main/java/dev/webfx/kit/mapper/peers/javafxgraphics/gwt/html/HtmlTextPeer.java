@@ -139,7 +139,7 @@ public final class HtmlTextPeer
     @Override
     protected void updateStroke() {
         N shape = getNode();
-        String color = HtmlPaints.toHtmlCssPaint(shape.getStroke());
+        String color = HtmlPaints.toHtmlCssColorPaint(shape.getStroke());
         Double strokeWidth = shape.getStrokeWidth();
         boolean hasStroke = color != null && strokeWidth > 0;
         setElementStyleAttribute("-webkit-text-stroke-color", hasStroke ? color : null);
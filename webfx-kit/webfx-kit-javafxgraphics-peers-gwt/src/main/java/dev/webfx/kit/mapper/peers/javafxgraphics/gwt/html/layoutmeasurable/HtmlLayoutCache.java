@@ -1,5 +1,6 @@
 package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html.layoutmeasurable;
 
+import com.sun.javafx.util.SizeCache;
 import javafx.geometry.Bounds;
 
 /**
@@ -10,12 +11,9 @@ public final class HtmlLayoutCache {
     private Bounds cachedLayoutBounds;
 
     private double negWidthSize = -1;
-    private double posWidthValue = -1;
-    private double posWidthSize = -1;
-
     private double negHeightSize = -1;
-    private double posHeightValue = -1;
-    private double posHeightSize = -1;
+    // Last measured sizes for positive constraints (each one costs a browser reflow, so it's worth keeping a few)
+    private final SizeCache posSizeCache = new SizeCache();
 
     public Bounds getCachedLayoutBounds() {
         return cachedLayoutBounds;
@@ -26,40 +24,23 @@ public final class HtmlLayoutCache {
     }
 
     double getCachedSize(double value, boolean width) {
-        if (width) {
-            if (value < 0)
-                return negWidthSize;
-            if (value == posWidthValue)
-                return posWidthSize;
-        } else {
-            if (value < 0)
-                return negHeightSize;
-            if (value == posHeightValue)
-                return posHeightSize;
-        }
-        return -1;
+        if (value < 0)
+            return width ? negWidthSize : negHeightSize;
+        return posSizeCache.get(width ? SizeCache.PREF_WIDTH : SizeCache.PREF_HEIGHT, value);
     }
 
     void setCachedSize(double value, boolean width, double size) {
-        if (width) {
-            if (value < 0)
-                negWidthSize = size;
-            else {
-                posWidthValue = value;
-                posWidthSize = size;
-            }
-        } else {
-            if (value < 0)
-                negHeightSize = size;
-            else {
-                posHeightValue = value;
-                posHeightSize = size;
-            }
-        }
+        if (value >= 0)
+            posSizeCache.put(width ? SizeCache.PREF_WIDTH : SizeCache.PREF_HEIGHT, value, size);
+        else if (width)
+            negWidthSize = size;
+        else
+            negHeightSize = size;
     }
 
     void clearCache() {
-        negWidthSize = posWidthSize = negHeightSize = posHeightSize = -1;
+        negWidthSize = negHeightSize = -1;
+        posSizeCache.clear();
         cachedLayoutBounds = null;
     }
 }
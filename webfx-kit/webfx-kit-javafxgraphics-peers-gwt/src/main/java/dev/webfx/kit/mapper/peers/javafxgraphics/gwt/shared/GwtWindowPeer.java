@@ -79,6 +79,8 @@ public class GwtWindowPeer extends WindowPeerBase {
     }
 
     private void setWindowContent(elemental2.dom.Node content) {
-        HtmlUtil.setChild(windowElement, content);
+        // Skipping the DOM change when the window peer is reused (ex: popup shown again) with the same scene content
+        if (windowElement.firstChild != content || windowElement.childElementCount != 1)
+            HtmlUtil.setChild(windowElement, content);
     }
 }
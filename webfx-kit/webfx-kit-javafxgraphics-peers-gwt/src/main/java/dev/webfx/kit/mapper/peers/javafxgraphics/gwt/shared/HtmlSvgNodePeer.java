@@ -11,6 +11,7 @@ import javafx.event.EventHandler;
 import javafx.event.EventType;
 import javafx.scene.Cursor;
 import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.effect.BlendMode;
 import javafx.scene.effect.Effect;
@@ -653,6 +654,44 @@ public abstract class HtmlSvgNodePeer
         }
     }
 
+    private String styleCssClass;
+    private boolean styleAffectsLayout;
+
+    @Override
+    public void updateStyle(String style) {
+        // The inline style is compiled into a css class shared by all the nodes having the same style
+        String cssClass = HtmlStyles.toCssClass(style, this);
+        if (!Objects.equals(cssClass, styleCssClass)) {
+            if (styleCssClass != null)
+                element.classList.remove(styleCssClass);
+            if (cssClass != null)
+                element.classList.add(cssClass);
+            styleCssClass = cssClass;
+            // The size of the node and of its text children needs to be measured again if the previous or new style
+            // changes it (ex: padding or font)
+            boolean affectsLayout = cssClass != null && HtmlStyles.affectsLayout(style);
+            if (affectsLayout || styleAffectsLayout)
+                clearStyledLayoutCache(getNode());
+            styleAffectsLayout = affectsLayout;
+        }
+    }
+
+    public String getStyleCssClass() {
+        return styleCssClass;
+    }
+
+    private static void clearStyledLayoutCache(Node node) {
+        // The text children are the only descendants the style rule applies to (see HtmlStyles)
+        if (node instanceof Parent)
+            for (Node child : ((Parent) node).getChildrenUnmodifiable())
+                if (child.getStyleClass().contains("text")) {
+                    child.clearCache();
+                    child.onPeerSizeChanged();
+                }
+        node.clearCache();
+        node.onPeerSizeChanged();
+    }
+
     private void addToElementClassList(List<String> styleClass) {
         if (!Collections.isEmpty(styleClass))
             element.classList.add(Collections.toArray(styleClass, String[]::new));
@@ -729,6 +768,17 @@ public abstract class HtmlSvgNodePeer
 
     protected void setFontAttributes(Font font, Element element) {
         HtmlFonts.setHtmlFontStyleAttributes(font, element);
+        if (!Objects.equals(font, this.font)) {
+            this.font = font;
+            // Registering this peer so its layout is invalidated when a font face of this family finishes loading
+            HtmlFonts.registerFontPeer(font, this);
+        }
+    }
+
+    private Font font;
+
+    public Font getFont() {
+        return font;
     }
 
     private static String toSvgBlendMode(BlendMode blendMode) {
@@ -2,6 +2,8 @@ package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.shared;
 
 import elemental2.dom.Element;
 
+import java.util.function.Supplier;
+
 public interface SvgRoot {
 
     Element getDefsElement();
@@ -11,4 +13,17 @@ public interface SvgRoot {
         return def;
     }
 
+    /**
+     * Returns the def associated with the key (ex: an image pattern) that is shared by all the nodes of this svg root,
+     * creating and adding it on first call.
+     */
+    Element getOrAddSharedDef(Object key, Supplier<Element> defFactory);
+
+    /**
+     * Returns the def associated with the key (ex: an effect) for the specified revision of that key, creating and adding
+     * it if there is none yet for that revision. The def created for a previous revision is removed from the defs, and
+     * the keys are held weakly (the defs of the collected keys are removed too). Returns null if the factory returns null.
+     */
+    Element getOrAddRevisedDef(Object key, int revision, Supplier<Element> defFactory);
+
 }
@@ -1,13 +1,73 @@
 package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.shared;
 
+import com.sun.javafx.ref.WeakRef;
 import elemental2.dom.Element;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.SvgUtil;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
 public class SvgRootBase implements SvgRoot {
 
     private final Element defsElement = SvgUtil.createSvgDefs();
+    private Map<Object, Element> sharedDefs;
 
     public Element getDefsElement() {
         return defsElement;
     }
+
+    @Override
+    public Element getOrAddSharedDef(Object key, Supplier<Element> defFactory) {
+        if (sharedDefs == null)
+            sharedDefs = new HashMap<>();
+        Element def = sharedDefs.get(key);
+        if (def == null)
+            sharedDefs.put(key, def = addDef(defFactory.get()));
+        return def;
+    }
+
+    private static final class RevisedDef {
+        private final WeakRef<Object> keyRef;
+        private int revision;
+        private Element def;
+
+        private RevisedDef(Object key) {
+            keyRef = new WeakRef<>(key);
+        }
+    }
+
+    private List<RevisedDef> revisedDefs;
+
+    @Override
+    public Element getOrAddRevisedDef(Object key, int revision, Supplier<Element> defFactory) {
+        if (revisedDefs == null)
+            revisedDefs = new ArrayList<>();
+        RevisedDef revisedDef = null;
+        // Looking for the key, and removing on the way the defs of the collected keys
+        for (int i = revisedDefs.size() - 1; i >= 0; i--) {
+            RevisedDef rd = revisedDefs.get(i);
+            Object k = rd.keyRef.get();
+            if (k == null) {
+                removeDef(rd.def);
+                revisedDefs.remove(i);
+            } else if (k == key)
+                revisedDef = rd;
+        }
+        if (revisedDef == null)
+            revisedDefs.add(revisedDef = new RevisedDef(key));
+        else if (revisedDef.revision == revision && revisedDef.def != null)
+            return revisedDef.def;
+        removeDef(revisedDef.def);
+        revisedDef.revision = revision;
+        revisedDef.def = defFactory.get();
+        return revisedDef.def == null ? null : addDef(revisedDef.def);
+    }
+
+    private static void removeDef(Element def) {
+        if (def != null && def.parentNode != null)
+            def.parentNode.removeChild(def);
+    }
 }
@@ -0,0 +1,71 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.svg;
+
+import elemental2.dom.Element;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.SvgUtil;
+import javafx.scene.shape.CubicCurve;
+import dev.webfx.kit.mapper.peers.javafxgraphics.base.CubicCurvePeerBase;
+import dev.webfx.kit.mapper.peers.javafxgraphics.base.CubicCurvePeerMixin;
+
+/**
+ * @author Bruno Salmon
+ */
+public final class SvgCubicCurvePeer
+        <N extends CubicCurve, NB extends CubicCurvePeerBase<N, NB, NM>, NM extends CubicCurvePeerMixin<N, NB, NM>>
+
+        extends SvgShapePeer<N, NB, NM>
+        implements CubicCurvePeerMixin<N, NB, NM> {
+
+    public SvgCubicCurvePeer() {
+        this((NB) new CubicCurvePeerBase(), SvgUtil.createSvgPath());
+    }
+
+    public SvgCubicCurvePeer(NB base, Element element) {
+        super(base, element);
+    }
+
+    @Override
+    public void updateStartX(Double startX) {
+        updatePath();
+    }
+
+    @Override
+    public void updateStartY(Double startY) {
+        updatePath();
+    }
+
+    @Override
+    public void updateControlX1(Double controlX1) {
+        updatePath();
+    }
+
+    @Override
+    public void updateControlY1(Double controlY1) {
+        updatePath();
+    }
+
+    @Override
+    public void updateControlX2(Double controlX2) {
+        updatePath();
+    }
+
+    @Override
+    public void updateControlY2(Double controlY2) {
+        updatePath();
+    }
+
+    @Override
+    public void updateEndX(Double endX) {
+        updatePath();
+    }
+
+    @Override
+    public void updateEndY(Double endY) {
+        updatePath();
+    }
+
+    private void updatePath() {
+        N c = getNode();
+        setElementAttribute("d", "M" + c.getStartX() + "," + c.getStartY() + " C" + c.getControlX1() + "," + c.getControlY1() + " " + c.getControlX2() + "," + c.getControlY2() + " " + c.getEndX() + "," + c.getEndY());
+        updateLocalToParentTransforms(c.localToParentTransforms());
+    }
+}
@@ -0,0 +1,45 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.svg;
+
+import elemental2.dom.Element;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.SvgUtil;
+import javafx.scene.shape.Ellipse;
+import dev.webfx.kit.mapper.peers.javafxgraphics.base.EllipsePeerBase;
+import dev.webfx.kit.mapper.peers.javafxgraphics.base.EllipsePeerMixin;
+
+/**
+ * @author Bruno Salmon
+ */
+public final class SvgEllipsePeer
+        <N extends Ellipse, NB extends EllipsePeerBase<N, NB, NM>, NM extends EllipsePeerMixin<N, NB, NM>>
+
+        extends SvgShapePeer<N, NB, NM>
+        implements EllipsePeerMixin<N, NB, NM> {
+
+    public SvgEllipsePeer() {
+        this((NB) new EllipsePeerBase(), SvgUtil.createSvgEllipse());
+    }
+
+    public SvgEllipsePeer(NB base, Element element) {
+        super(base, element);
+    }
+
+    @Override
+    public void updateCenterX(Double centerX) {
+        setElementAttribute("cx", centerX);
+    }
+
+    @Override
+    public void updateCenterY(Double centerY) {
+        setElementAttribute("cy", centerY);
+    }
+
+    @Override
+    public void updateRadiusX(Double radiusX) {
+        setElementAttribute("rx", radiusX);
+    }
+
+    @Override
+    public void updateRadiusY(Double radiusY) {
+        setElementAttribute("ry", radiusY);
+    }
+}
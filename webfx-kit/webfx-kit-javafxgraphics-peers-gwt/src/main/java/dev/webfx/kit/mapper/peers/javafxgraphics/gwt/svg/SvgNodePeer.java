@@ -5,6 +5,7 @@ import javafx.geometry.VPos;
 import javafx.scene.Node;
 import javafx.scene.effect.*;
 import javafx.scene.paint.Color;
+import javafx.scene.paint.ImagePattern;
 import javafx.scene.paint.LinearGradient;
 import javafx.scene.paint.Paint;
 import javafx.scene.paint.RadialGradient;
@@ -16,6 +17,7 @@ import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.shared.HtmlSvgNodePeer;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.shared.SvgRoot;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlPaints;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlUtil;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.SvgFilters;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.SvgUtil;
 
 import java.util.*;
@@ -52,110 +54,7 @@ public abstract class SvgNodePeer
 
     @Override
     protected String toFilter(Effect effect) {
-        return SvgUtil.getDefUrl(toSvgEffectFilter(effect));
-    }
-
-    private Element toSvgEffectFilter(Effect effect) {
-        Collection<Element> filterPrimitives = toSvgEffectFilterPrimitives(effect, null, null);
-        if (filterPrimitives == null || filterPrimitives.isEmpty())
-            return null;
-        Element filter = SvgUtil.createFilter();
-        // Doubling the filter region, otherwise the effect (ex: drop shadow) might be cropped by the filter region
-        filter.setAttribute("width", "200%");
-        filter.setAttribute("height", "200%");
-        filterPrimitives.forEach(filter::appendChild);
-        return getSvgRoot().addDef(filter);
-    }
-
-    private static Collection<Element> toSvgEffectFilterPrimitives(Effect effect, String filterResult, Collection<Element> filterPrimitives) {
-        if (effect == null)
-            return filterPrimitives;
-        if (effect instanceof GaussianBlur) {
-            Element fe = SvgUtil.createSvgElement("feGaussianBlur");
-            fe.setAttribute("in", "SourceGraphic");
-            fe.setAttribute("stdDeviation", ((GaussianBlur) effect).getSigma());
-            if (filterResult != null)
-                fe.setAttribute("result", filterResult);
-            return addFilterPrimitive(filterPrimitives, fe);
-        }
-        if (effect instanceof BoxBlur) {
-            // Is it supported by SVG? For now doing a gaussian blur instead
-            Element fe = SvgUtil.createSvgElement("feGaussianBlur");
-            fe.setAttribute("in", "SourceGraphic");
-            fe.setAttribute("stdDeviation", GaussianBlur.getSigma(((BoxBlur) effect).getWidth()));
-            if (filterResult != null)
-                fe.setAttribute("result", filterResult);
-            return addFilterPrimitive(filterPrimitives, fe);
-        }
-        if (effect instanceof DropShadow) {
-            DropShadow dropShadow = (DropShadow) effect;
-            Element fe = SvgUtil.createSvgElement("feDropShadow");
-            fe.setAttribute("dx", dropShadow.getOffsetX());
-            fe.setAttribute("dy", dropShadow.getOffsetY());
-            fe.setAttribute("stdDeviation", dropShadow.getRadius() / 2);
-            fe.setAttribute("flood-color", HtmlPaints.toSvgCssPaint(dropShadow.getColor()));
-            Effect inputEffect = dropShadow.getInput();
-            if (inputEffect != null) {
-                String inputResult = SvgUtil.generateNewFilterId();
-                filterPrimitives = toSvgEffectFilterPrimitives(inputEffect, inputResult, filterPrimitives);
-                fe.setAttribute("in", inputResult);
-            }
-            if (filterResult != null)
-                fe.setAttribute("result", filterResult);
-            return addFilterPrimitive(filterPrimitives, fe);
-        }
-        if (effect instanceof InnerShadow) {
-            InnerShadow innerShadow = (InnerShadow) effect;
-
-            //String feBlurResult = SvgUtil.generateNewFilterId();
-            Element feBlur = SvgUtil.createSvgElement("feGaussianBlur");
-            feBlur.setAttribute("in", "SourceAlpha");
-            feBlur.setAttribute("stdDeviation", innerShadow.getRadius() / 2);
-            //feBlur.setAttribute("result", feBlurResult);
-
-            Element feOffset = SvgUtil.createSvgElement("feOffset");
-            feOffset.setAttribute("dx", innerShadow.getOffsetX());
-            feOffset.setAttribute("dy", innerShadow.getOffsetY());
-
-            Element feShadowDiff = SvgUtil.createSvgElement("feComposite");
-            String feShadowDiffResult = SvgUtil.generateNewFilterId();
-            feShadowDiff.setAttribute("in2", "SourceAlpha");
-            feShadowDiff.setAttribute("operator", "arithmetic");
-            feShadowDiff.setAttribute("k2", "-1");
-            feShadowDiff.setAttribute("k3", "1");
-            feShadowDiff.setAttribute("result", feShadowDiffResult);
-
-            Element feFlood = SvgUtil.createSvgElement("feFlood");
-            feFlood.setAttribute("flood-color", HtmlPaints.toSvgCssPaint(innerShadow.getColor()));
-
-            Element feIn = SvgUtil.createSvgElement("feComposite");
-            feIn.setAttribute("in2", feShadowDiffResult);
-            feIn.setAttribute("operator", "in");
-
-            Element feOver = SvgUtil.createSvgElement("feComposite");
-            feOver.setAttribute("in2", "SourceGraphic");
-            feOver.setAttribute("operator", "over");
-
-            Effect inputEffect = innerShadow.getInput();
-            if (inputEffect != null) {
-                String inputResult = SvgUtil.generateNewFilterId();
-                filterPrimitives = toSvgEffectFilterPrimitives(inputEffect, inputResult, filterPrimitives);
-                feOver.setAttribute("in2", inputResult);
-            }
-            if (filterResult != null)
-                feOver.setAttribute("result", filterResult);
-            return addFilterPrimitive(filterPrimitives, feBlur, feOffset, feShadowDiff, feFlood, feIn, feOver);
-        }
-        return filterPrimitives;
-    }
-
-    private static Collection<Element> addFilterPrimitive(Collection<Element> allPrimitives, Element... primitivesToAdd) {
-        if (primitivesToAdd.length > 0) {
-            if (allPrimitives == null)
-                allPrimitives = new ArrayList<>();
-            Collections.addAll(allPrimitives, primitivesToAdd);
-        }
-        return allPrimitives;
+        return SvgFilters.toFilterUrl(effect, getSvgRoot());
     }
 
     void setPaintAttribute(String name, Paint paint) {
@@ -182,7 +81,8 @@ public abstract class SvgNodePeer
                 svgRadialGradients.put(name, svgRadialGradient = getSvgRoot().addDef(SvgUtil.createRadialGradient()));
             SvgUtil.updateRadialGradient((RadialGradient) paint, svgRadialGradient);
             value = SvgUtil.getDefUrl(svgRadialGradient);
-        }
+        } else if (paint instanceof ImagePattern) // The pattern def is shared by all the nodes filled with that pattern
+            value = SvgUtil.getDefUrl(getSvgRoot().getOrAddSharedDef(paint, () -> SvgUtil.createImagePattern((ImagePattern) paint)));
         return value;
     }
 
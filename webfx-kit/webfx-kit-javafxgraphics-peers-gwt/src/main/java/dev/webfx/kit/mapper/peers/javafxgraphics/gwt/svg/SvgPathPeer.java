@@ -50,15 +50,27 @@ public final class SvgPathPeer
     private void appendPathElementToSvgPathData(PathElement pathElement, StringBuilder sb) {
         if (sb.length() > 0)
             sb.append(' ');
+        // Relative path elements are mapped to the lower case svg commands
+        boolean abs = pathElement.isAbsolute();
         if (pathElement instanceof MoveTo) {
             MoveTo moveTo = (MoveTo) pathElement;
-            sb.append('M').append(moveTo.getX()).append(',').append(moveTo.getY());
+            sb.append(abs ? 'M' : 'm').append(moveTo.getX()).append(',').append(moveTo.getY());
         } else if (pathElement instanceof LineTo) {
             LineTo lineTo = (LineTo) pathElement;
-            sb.append('L').append(lineTo.getX()).append(',').append(lineTo.getY());
+            sb.append(abs ? 'L' : 'l').append(lineTo.getX()).append(',').append(lineTo.getY());
+        } else if (pathElement instanceof HLineTo) {
+            sb.append(abs ? 'H' : 'h').append(((HLineTo) pathElement).getX());
+        } else if (pathElement instanceof VLineTo) {
+            sb.append(abs ? 'V' : 'v').append(((VLineTo) pathElement).getY());
+        } else if (pathElement instanceof QuadCurveTo) {
+            QuadCurveTo quadCurveTo = (QuadCurveTo) pathElement;
+            sb.append(abs ? 'Q' : 'q').append(quadCurveTo.getControlX()).append(',').append(quadCurveTo.getControlY()).append(' ').append(quadCurveTo.getX()).append(',').append(quadCurveTo.getY());
         } else if (pathElement instanceof CubicCurveTo) {
             CubicCurveTo cubicCurveTo = (CubicCurveTo) pathElement;
-            sb.append('C').append(cubicCurveTo.getControlX1()).append(',').append(cubicCurveTo.getControlY1()).append(' ').append(cubicCurveTo.getControlX2()).append(',').append(cubicCurveTo.getControlY2()).append(' ').append(cubicCurveTo.getX()).append(',').append(cubicCurveTo.getY());
+            sb.append(abs ? 'C' : 'c').append(cubicCurveTo.getControlX1()).append(',').append(cubicCurveTo.getControlY1()).append(' ').append(cubicCurveTo.getControlX2()).append(',').append(cubicCurveTo.getControlY2()).append(' ').append(cubicCurveTo.getX()).append(',').append(cubicCurveTo.getY());
+        } else if (pathElement instanceof ArcTo) {
+            ArcTo arcTo = (ArcTo) pathElement;
+            sb.append(abs ? 'A' : 'a').append(arcTo.getRadiusX()).append(',').append(arcTo.getRadiusY()).append(' ').append(arcTo.getXAxisRotation()).append(' ').append(arcTo.isLargeArcFlag() ? '1' : '0').append(',').append(arcTo.isSweepFlag() ? '1' : '0').append(' ').append(arcTo.getX()).append(',').append(arcTo.getY());
         } else if (pathElement instanceof ClosePath)
             sb.append('Z');
     }
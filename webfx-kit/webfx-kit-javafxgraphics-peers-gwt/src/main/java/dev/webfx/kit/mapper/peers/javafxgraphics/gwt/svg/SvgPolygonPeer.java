@@ -0,0 +1,34 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.svg;
+
+import elemental2.dom.Element;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.SvgUtil;
+import javafx.scene.shape.Polygon;
+import dev.webfx.kit.mapper.peers.javafxgraphics.base.PolygonPeerBase;
+import dev.webfx.kit.mapper.peers.javafxgraphics.base.PolygonPeerMixin;
+
+import java.util.List;
+
+/**
+ * @author Bruno Salmon
+ */
+public final class SvgPolygonPeer
+        <N extends Polygon, NB extends PolygonPeerBase<N, NB, NM>, NM extends PolygonPeerMixin<N, NB, NM>>
+
+        extends SvgShapePeer<N, NB, NM>
+        implements PolygonPeerMixin<N, NB, NM> {
+
+    public SvgPolygonPeer() {
+        this((NB) new PolygonPeerBase(), SvgUtil.createSvgPolygon());
+    }
+
+    public SvgPolygonPeer(NB base, Element element) {
+        super(base, element);
+    }
+
+    @Override
+    public void updatePoints(List<Double> points) {
+        // All the points are written in a single attribute
+        setElementAttribute("points", SvgUtil.toSvgPoints(points));
+        updateLocalToParentTransforms(getNode().localToParentTransforms());
+    }
+}
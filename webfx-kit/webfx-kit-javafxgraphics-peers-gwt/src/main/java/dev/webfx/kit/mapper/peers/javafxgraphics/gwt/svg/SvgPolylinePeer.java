@@ -0,0 +1,34 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.svg;
+
+import elemental2.dom.Element;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.SvgUtil;
+import javafx.scene.shape.Polyline;
+import dev.webfx.kit.mapper.peers.javafxgraphics.base.PolylinePeerBase;
+import dev.webfx.kit.mapper.peers.javafxgraphics.base.PolylinePeerMixin;
+
+import java.util.List;
+
+/**
+ * @author Bruno Salmon
+ */
+public final class SvgPolylinePeer
+        <N extends Polyline, NB extends PolylinePeerBase<N, NB, NM>, NM extends PolylinePeerMixin<N, NB, NM>>
+
+        extends SvgShapePeer<N, NB, NM>
+        implements PolylinePeerMixin<N, NB, NM> {
+
+    public SvgPolylinePeer() {
+        this((NB) new PolylinePeerBase(), SvgUtil.createSvgPolyline());
+    }
+
+    public SvgPolylinePeer(NB base, Element element) {
+        super(base, element);
+    }
+
+    @Override
+    public void updatePoints(List<Double> points) {
+        // All the points are written in a single attribute
+        setElementAttribute("points", SvgUtil.toSvgPoints(points));
+        updateLocalToParentTransforms(getNode().localToParentTransforms());
+    }
+}
@@ -0,0 +1,61 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.svg;
+
+import elemental2.dom.Element;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.SvgUtil;
+import javafx.scene.shape.QuadCurve;
+import dev.webfx.kit.mapper.peers.javafxgraphics.base.QuadCurvePeerBase;
+import dev.webfx.kit.mapper.peers.javafxgraphics.base.QuadCurvePeerMixin;
+
+/**
+ * @author Bruno Salmon
+ */
+public final class SvgQuadCurvePeer
+        <N extends QuadCurve, NB extends QuadCurvePeerBase<N, NB, NM>, NM extends QuadCurvePeerMixin<N, NB, NM>>
+
+        extends SvgShapePeer<N, NB, NM>
+        implements QuadCurvePeerMixin<N, NB, NM> {
+
+    public SvgQuadCurvePeer() {
+        this((NB) new QuadCurvePeerBase(), SvgUtil.createSvgPath());
+    }
+
+    public SvgQuadCurvePeer(NB base, Element element) {
+        super(base, element);
+    }
+
+    @Override
+    public void updateStartX(Double startX) {
+        updatePath();
+    }
+
+    @Override
+    public void updateStartY(Double startY) {
+        updatePath();
+    }
+
+    @Override
+    public void updateControlX(Double controlX) {
+        updatePath();
+    }
+
+    @Override
+    public void updateControlY(Double controlY) {
+        updatePath();
+    }
+
+    @Override
+    public void updateEndX(Double endX) {
+        updatePath();
+    }
+
+    @Override
+    public void updateEndY(Double endY) {
+        updatePath();
+    }
+
+    private void updatePath() {
+        N c = getNode();
+        setElementAttribute("d", "M" + c.getStartX() + "," + c.getStartY() + " Q" + c.getControlX() + "," + c.getControlY() + " " + c.getEndX() + "," + c.getEndY());
+        updateLocalToParentTransforms(c.localToParentTransforms());
+    }
+}
@@ -9,6 +9,7 @@ import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.paint.Color;
+import javafx.scene.paint.ImagePattern;
 import javafx.scene.paint.LinearGradient;
 import javafx.scene.paint.Paint;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html.HtmlNodePeer;
@@ -24,6 +25,8 @@ import dev.webfx.kit.util.properties.Properties;
 import dev.webfx.platform.shared.util.Numbers;
 import dev.webfx.platform.shared.util.collection.Collections;
 
+import java.util.function.Supplier;
+
 /**
  * @author Bruno Salmon
  */
@@ -74,7 +77,8 @@ public final class SvgScenePeer extends ScenePeerBase implements SvgRoot {
             Element svgLinearGradient = addDef(SvgUtil.createLinearGradient());
             SvgUtil.updateLinearGradient((LinearGradient) paint, svgLinearGradient);
             value = SvgUtil.getDefUrl(svgLinearGradient);
-        }
+        } else if (paint instanceof ImagePattern)
+            value = SvgUtil.getDefUrl(getOrAddSharedDef(paint, () -> SvgUtil.createImagePattern((ImagePattern) paint)));
         return value;
     }
 
@@ -88,6 +92,16 @@ public final class SvgScenePeer extends ScenePeerBase implements SvgRoot {
         return svgRootDelegate.addDef(def);
     }
 
+    @Override
+    public Element getOrAddSharedDef(Object key, Supplier<Element> defFactory) {
+        return svgRootDelegate.getOrAddSharedDef(key, defFactory);
+    }
+
+    @Override
+    public Element getOrAddRevisedDef(Object key, int revision, Supplier<Element> defFactory) {
+        return svgRootDelegate.getOrAddRevisedDef(key, revision, defFactory);
+    }
+
     @Override
     public NodePeer pickPeer(double sceneX, double sceneY) {
         Element element = DomGlobal.document.elementFromPoint(sceneX, sceneY);
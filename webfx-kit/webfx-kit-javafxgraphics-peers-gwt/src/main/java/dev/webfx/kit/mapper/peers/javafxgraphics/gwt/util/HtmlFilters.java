@@ -0,0 +1,106 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util;
+
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.shared.SvgRoot;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.shared.SvgRootBase;
+import elemental2.dom.Element;
+import javafx.scene.effect.*;
+
+import static elemental2.dom.DomGlobal.document;
+
+/**
+ * Translates the effects into css filters for the html elements. When the whole input chain has css equivalents, the
+ * filter is a list of css filter functions (which the browser can run on the compositor). Otherwise, it's a reference
+ * to a svg filter held by a document-level svg element. The filter string is cached in the effect until it's modified.
+ *
+ * @author Bruno Salmon
+ */
+public final class HtmlFilters {
+
+    private static final String CSS_FILTER_CACHE_KEY = "cssFilter";
+
+    private static SvgRoot documentSvgRoot;
+    private static Element documentSvgElement;
+
+    public static String toCssFilter(Effect effect) {
+        if (effect == null)
+            return null;
+        String filter = (String) effect.impl_getPeerCache(CSS_FILTER_CACHE_KEY);
+        if (filter == null) {
+            StringBuilder sb = toCssFilterFunctions(effect, new StringBuilder());
+            if (sb != null)
+                filter = sb.length() == 0 ? "none" : sb.toString();
+            else
+                filter = SvgFilters.toFilterUrl(effect, getDocumentSvgRoot());
+            if (filter == null)
+                return null;
+            effect.impl_setPeerCache(CSS_FILTER_CACHE_KEY, filter);
+        } else if (filter.startsWith("url("))
+            getDocumentSvgRoot(); // Making sure the svg filter is still in the document
+        return filter;
+    }
+
+    // Appends the css filter functions of the effect (after those of its input), or returns null if the effect (or one
+    // of its inputs) has no css equivalent
+    private static StringBuilder toCssFilterFunctions(Effect effect, StringBuilder sb) {
+        if (effect == null)
+            return sb;
+        if (effect instanceof GaussianBlur)
+            return appendFunction(sb, "blur", toPx(((GaussianBlur) effect).getSigma()));
+        if (effect instanceof BoxBlur) // Not supported by browser so doing a gaussian blur instead
+            return appendFunction(sb, "blur", toPx(GaussianBlur.getSigma(((BoxBlur) effect).getWidth())));
+        if (effect instanceof DropShadow) {
+            DropShadow dropShadow = (DropShadow) effect;
+            if (toCssFilterFunctions(dropShadow.getInput(), sb) == null)
+                return null;
+            return appendFunction(sb, "drop-shadow", toPx(dropShadow.getOffsetX()) + " " + toPx(dropShadow.getOffsetY()) + " " + toPx(dropShadow.getRadius() / 2) + " " + HtmlPaints.toCssColor(dropShadow.getColor()));
+        }
+        if (effect instanceof ColorAdjust) {
+            ColorAdjust colorAdjust = (ColorAdjust) effect;
+            if (toCssFilterFunctions(colorAdjust.getInput(), sb) == null)
+                return null;
+            // The JavaFx adjustments are in the [-1, 1] range, 0 meaning no change
+            if (colorAdjust.getHue() != 0)
+                appendFunction(sb, "hue-rotate", colorAdjust.getHue() * 180 + "deg");
+            if (colorAdjust.getSaturation() != 0)
+                appendFunction(sb, "saturate", String.valueOf(1 + colorAdjust.getSaturation()));
+            if (colorAdjust.getBrightness() != 0)
+                appendFunction(sb, "brightness", String.valueOf(1 + colorAdjust.getBrightness()));
+            if (colorAdjust.getContrast() != 0)
+                appendFunction(sb, "contrast", String.valueOf(1 + colorAdjust.getContrast()));
+            return sb;
+        }
+        if (effect instanceof SepiaTone) {
+            SepiaTone sepiaTone = (SepiaTone) effect;
+            if (toCssFilterFunctions(sepiaTone.getInput(), sb) == null)
+                return null;
+            return appendFunction(sb, "sepia", String.valueOf(sepiaTone.getLevel()));
+        }
+        return null;
+    }
+
+    private static StringBuilder appendFunction(StringBuilder sb, String function, String arguments) {
+        if (sb.length() > 0)
+            sb.append(' ');
+        return sb.append(function).append('(').append(arguments).append(')');
+    }
+
+    private static String toPx(double value) {
+        return value + "px";
+    }
+
+    private static SvgRoot getDocumentSvgRoot() {
+        if (documentSvgRoot == null) {
+            documentSvgRoot = new SvgRootBase();
+            documentSvgElement = SvgUtil.createSvgElement("svg");
+            // Zero size and out of the flow, as this svg element is only used to hold the filters
+            documentSvgElement.setAttribute("width", 0);
+            documentSvgElement.setAttribute("height", 0);
+            HtmlUtil.setStyleAttribute(documentSvgElement, "position", "absolute");
+            HtmlUtil.setChild(documentSvgElement, documentSvgRoot.getDefsElement());
+        }
+        // The body content may have been reset since the first call (see HtmlUtil.setBodyContent())
+        if (!document.body.contains(documentSvgElement))
+            document.body.appendChild(documentSvgElement);
+        return documentSvgRoot;
+    }
+}
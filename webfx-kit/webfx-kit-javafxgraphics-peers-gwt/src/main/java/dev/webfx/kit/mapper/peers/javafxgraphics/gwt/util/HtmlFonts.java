@@ -1,9 +1,19 @@
 package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util;
 
+import com.google.gwt.core.client.JavaScriptObject;
+import com.sun.javafx.ref.WeakRef;
 import elemental2.dom.Element;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontPosture;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html.HtmlNodePeer;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.shared.HtmlSvgNodePeer;
+import dev.webfx.platform.shared.services.log.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * @author Bruno Salmon
@@ -39,4 +49,182 @@ public final class HtmlFonts {
     public static String getHtmlFontSize(Font font) {
         return HtmlNodePeer.toPx(font.getSize());
     }
+
+    /* Text measurement */
+
+    private static JavaScriptObject measureContext;
+
+    /**
+     * Returns the width of the text rendered on a single line with the font, measured through a canvas (so without any
+     * reflow of the document).
+     */
+    public static double measureTextWidth(String text, Font font) {
+        return measureTextWidth(text, getHtmlFontDefinition(font));
+    }
+
+    private static native double measureTextWidth(String text, String font) /*-{
+        var ctx = @dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlFonts::measureContext;
+        if (!ctx)
+            ctx = @dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlFonts::measureContext = $doc.createElement('canvas').getContext('2d');
+        // The canvas normalizes the font it returns, so memorizing the last font set to skip the same assignments
+        if (ctx.webfxFont !== font) {
+            ctx.font = font;
+            ctx.webfxFont = font;
+        }
+        return ctx.measureText(text).width;
+    }-*/;
+
+    /* Font loading */
+
+    public static void loadFontFace(String url, String family, Runnable onCompleted) {
+        if (isFontFaceSupported())
+            loadFontFaceImpl(url, family, onCompleted);
+        else {
+            Logger.log("FontFace not supported by this browser, " + url + " is not loaded");
+            onCompleted.run();
+        }
+    }
+
+    private static native boolean isFontFaceSupported() /*-{
+        return typeof $wnd.FontFace === 'function' && !!$doc.fonts;
+    }-*/;
+
+    private static native void loadFontFaceImpl(String url, String family, Runnable onCompleted) /*-{
+        var face = new $wnd.FontFace(family, 'url(' + JSON.stringify(url) + ')');
+        face.load().then($entry(function(loadedFace) {
+            // Adding the face fires a loadingdone event, so the layout of the nodes using it will be invalidated
+            $doc.fonts.add(loadedFace);
+            onCompleted.@java.lang.Runnable::run()();
+        }), $entry(function(error) {
+            $wnd.console.warn('Failed to load font ' + url + ': ' + error);
+            onCompleted.@java.lang.Runnable::run()();
+        }));
+    }-*/;
+
+    private static Consumer<String> fontFamilyLoadedListener;
+    private static boolean fontFamilyLoadedListenerInstalled;
+
+    /**
+     * Sets the listener called with the family of each font face that finished loading in the document (either through
+     * loadFontFace() or through a css @font-face rule). There is only one such listener (replaced by each call), which
+     * is in charge of dispatching the event to the scenes.
+     */
+    public static void setOnFontFamilyLoaded(Consumer<String> listener) {
+        fontFamilyLoadedListener = listener;
+        if (!fontFamilyLoadedListenerInstalled) {
+            fontFamilyLoadedListenerInstalled = true;
+            installFontFamilyLoadedListener();
+        }
+    }
+
+    private static void onFontFamilyLoaded(String family) {
+        if (fontFamilyLoadedListener != null)
+            fontFamilyLoadedListener.accept(family);
+    }
+
+    private static native void installFontFamilyLoadedListener() /*-{
+        if (!$doc.fonts)
+            return;
+        $doc.fonts.addEventListener('loadingdone', $entry(function(event) {
+            var faces = event.fontfaces || [];
+            for (var i = 0; i < faces.length; i++)
+                @dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util.HtmlFonts::onFontFamilyLoaded(Ljava/lang/String;)(faces[i].family);
+        }));
+    }-*/;
+
+    /* Registry of the peers rendering text with a font (per family), so that only those using a font face that
+     * finished loading have their layout invalidated */
+
+    private static final Map<String /* normalized family */, List<WeakRef<HtmlSvgNodePeer>>> familyPeers = new HashMap<>();
+    private static int registeredPeersCount, cleanedPeersCount;
+
+    public static void registerFontPeer(Font font, HtmlSvgNodePeer peer) {
+        if (font == null)
+            return;
+        for (String family : font.getFamily().split(",")) {
+            String key = normalizeFamily(family);
+            List<WeakRef<HtmlSvgNodePeer>> peers = familyPeers.get(key);
+            if (peers == null)
+                familyPeers.put(key, peers = new ArrayList<>());
+            peers.add(new WeakRef<>(peer));
+            registeredPeersCount++;
+        }
+        // Periodically removing the peers that have been collected or that use now another font
+        if (registeredPeersCount >= 2 * cleanedPeersCount + 64)
+            cleanFontPeers();
+    }
+
+    /**
+     * Calls the consumer for each alive peer whose font family (possibly a list of families) contains the specified
+     * family.
+     */
+    public static void forEachFontPeer(String family, Consumer<HtmlSvgNodePeer> consumer) {
+        String key = normalizeFamily(family);
+        List<WeakRef<HtmlSvgNodePeer>> peers = familyPeers.get(key);
+        if (peers == null)
+            return;
+        // Copying the alive peers first, as the consumer may register peers again
+        List<HtmlSvgNodePeer> alivePeers = new ArrayList<>(peers.size());
+        for (WeakRef<HtmlSvgNodePeer> ref : peers) {
+            HtmlSvgNodePeer peer = ref.get();
+            if (isUsingFamily(peer, key) && !alivePeers.contains(peer))
+                alivePeers.add(peer);
+        }
+        for (HtmlSvgNodePeer peer : alivePeers)
+            consumer.accept(peer);
+    }
+
+    /**
+     * Returns true if at least one alive peer is registered with a font family containing the specified family. When
+     * this is not the case, the family is probably used through css only (ex: a font-family rule in a stylesheet).
+     */
+    public static boolean hasFontPeers(String family) {
+        String key = normalizeFamily(family);
+        List<WeakRef<HtmlSvgNodePeer>> peers = familyPeers.get(key);
+        if (peers != null)
+            for (WeakRef<HtmlSvgNodePeer> ref : peers)
+                if (isUsingFamily(ref.get(), key))
+                    return true;
+        return false;
+    }
+
+    private static void cleanFontPeers() {
+        registeredPeersCount = 0;
+        for (Map.Entry<String, List<WeakRef<HtmlSvgNodePeer>>> entry : new ArrayList<>(familyPeers.entrySet())) {
+            String key = entry.getKey();
+            List<WeakRef<HtmlSvgNodePeer>> peers = entry.getValue();
+            List<HtmlSvgNodePeer> keptPeers = new ArrayList<>();
+            for (int i = peers.size() - 1; i >= 0; i--) {
+                HtmlSvgNodePeer peer = peers.get(i).get();
+                // Also removing the duplicates (a peer is registered each time its font changes)
+                if (!isUsingFamily(peer, key) || keptPeers.contains(peer))
+                    peers.remove(i);
+                else
+                    keptPeers.add(peer);
+            }
+            if (peers.isEmpty())
+                familyPeers.remove(key);
+            registeredPeersCount += peers.size();
+        }
+        cleanedPeersCount = registeredPeersCount;
+    }
+
+    private static boolean isUsingFamily(HtmlSvgNodePeer peer, String key) {
+        if (peer == null)
+            return false;
+        Font font = peer.getFont();
+        if (font != null)
+            for (String family : font.getFamily().split(","))
+                if (normalizeFamily(family).equals(key))
+                    return true;
+        return false;
+    }
+
+    private static String normalizeFamily(String family) {
+        family = family.trim();
+        int length = family.length();
+        if (length >= 2 && (family.charAt(0) == '"' || family.charAt(0) == '\'') && family.charAt(length - 1) == family.charAt(0))
+            family = family.substring(1, length - 1);
+        return family.toLowerCase();
+    }
 }
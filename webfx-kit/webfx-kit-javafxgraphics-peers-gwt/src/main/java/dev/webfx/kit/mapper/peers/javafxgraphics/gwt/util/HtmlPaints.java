@@ -17,6 +17,14 @@ public final class HtmlPaints {
         return toCssPaint(paint, DomType.SVG);
     }
 
+    /**
+     * Returns the css paint for the html properties accepting only a color (ex: border, text stroke or text color). An
+     * image pattern can't be rendered there, so it falls back to the current color (the text color of the element).
+     */
+    public static String toHtmlCssColorPaint(Paint paint) {
+        return paint instanceof ImagePattern ? "currentColor" : toHtmlCssPaint(paint);
+    }
+
     public static String toCssPaint(Paint paint, DomType domType) {
         if (paint instanceof Color)
             return toCssColor((Color) paint);
@@ -24,6 +32,8 @@ public final class HtmlPaints {
             return toCssLinearGradient((LinearGradient) paint, domType);
         if (paint instanceof RadialGradient)
             return toCssRadialGradient((RadialGradient) paint, domType);
+        if (paint instanceof ImagePattern && domType == DomType.HTML) // svg uses a <pattern> def instead (see SvgUtil)
+            return toCssImagePattern((ImagePattern) paint);
         return null;
     }
 
@@ -79,6 +89,40 @@ public final class HtmlPaints {
         return sb.toString();
     }
 
+    /**
+     * Returns the CSS background (image, position, size and repeat) that tiles the image of the pattern from its
+     * anchor rectangle, so a tiled area is rendered by a single element.
+     */
+    public static String toCssImagePattern(ImagePattern ip) {
+        StringBuilder sb = appendCssUrl(ip.getImage().getUrl(), new StringBuilder()).append(' ');
+        if (ip.isProportional()) {
+            // The CSS percentage position p places the image at p * (box size - image size), so the anchor offset
+            // x * box size is obtained with p = x / (1 - width)
+            sb.append(ip.getWidth() == 1 ? 0 : ip.getX() / (1 - ip.getWidth()) * 100).append("% ");
+            sb.append(ip.getHeight() == 1 ? 0 : ip.getY() / (1 - ip.getHeight()) * 100).append("% / ");
+            sb.append(ip.getWidth() * 100).append("% ").append(ip.getHeight() * 100).append('%');
+        } else {
+            sb.append(ip.getX()).append("px ").append(ip.getY()).append("px / ");
+            sb.append(ip.getWidth()).append("px ").append(ip.getHeight()).append("px");
+        }
+        return sb.append(" repeat").toString();
+    }
+
+    // Quoting the url, as it may contain spaces, parentheses or quotes (ex: file names or data urls)
+    private static StringBuilder appendCssUrl(String url, StringBuilder sb) {
+        sb.append("url(\"");
+        for (int i = 0; i < url.length(); i++) {
+            char c = url.charAt(i);
+            if (c == '"' || c == '\\')
+                sb.append('\\').append(c);
+            else if (c == '\n')
+                sb.append("\\a ");
+            else
+                sb.append(c);
+        }
+        return sb.append("\")");
+    }
+
     private static void toCssStops(List<Stop> stops, double length, boolean proportional, StringBuilder sb) {
         for (Stop stop : stops)
             toCssStop(stop, length, proportional, sb.append(", "));
@@ -0,0 +1,235 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util;
+
+import com.sun.javafx.ref.WeakRef;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.shared.HtmlSvgNodePeer;
+import elemental2.dom.CSSRule;
+import elemental2.dom.CSSStyleSheet;
+import elemental2.dom.HTMLStyleElement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static elemental2.dom.DomGlobal.document;
+
+/**
+ * Compiles the JavaFx inline styles (Node.setStyle()) into native css rules. Each distinct style string is parsed only
+ * once and translated into a generated css class, which is interned in a shared stylesheet, so all the nodes with the
+ * same style share the same rule and applying a style costs only a class toggle on the element.
+ *
+ * Only the subset of the -fx- properties that maps directly to css is supported, the other properties are ignored.
+ * The rule declarations are marked important, because the inline style has precedence over the values set by code in
+ * JavaFx (ex: a background set with setBackground()), which the peers usually apply as inline css styles. The text
+ * properties are also applied to the node's own children with the "text" style class (ex: the LabeledText of a
+ * Labeled), as their peer sets the font and color inline on their own element. These children are either in the
+ * element itself or in the sibling skin children container (see SKIN_CHILDREN_CSS_CLASS).
+ *
+ * The peers using each rule are registered, so the rules no longer used by any alive peer can be periodically removed
+ * from the stylesheet, which would otherwise grow with each distinct style string (ex: styles computed from data).
+ *
+ * @author Bruno Salmon
+ */
+public final class HtmlStyles {
+
+    // Css class of the container holding the skin children next to the element (see HtmlControlPeer)
+    public static final String SKIN_CHILDREN_CSS_CLASS = "fx-skin-children";
+
+    private static final class StyleRule {
+        private final String cssClass; // null if the style has no supported property
+        private boolean affectsLayout; // true if the style changes the measured size (ex: padding or font)
+        private final List<CSSRule> cssRules = new ArrayList<>();
+        private final List<WeakRef<HtmlSvgNodePeer>> peers = new ArrayList<>();
+        private int cleanedPeersCount;
+
+        private StyleRule(String cssClass) {
+            this.cssClass = cssClass;
+        }
+    }
+
+    private static final Map<String /* fx style */, StyleRule> styleRules = new HashMap<>();
+    private static CSSStyleSheet styleSheet;
+    private static int classSeq, cleanedRulesCount;
+
+    /**
+     * Returns the css class name applying the JavaFx inline style to the peer, or null if the style has no supported
+     * property. The peer is expected to apply that class until it calls this method again with another style.
+     */
+    public static String toCssClass(String fxStyle, HtmlSvgNodePeer peer) {
+        if (fxStyle == null || fxStyle.trim().isEmpty())
+            return null;
+        StyleRule styleRule = styleRules.get(fxStyle);
+        if (styleRule == null) {
+            // Periodically removing the rules that are not used anymore
+            if (styleRules.size() >= 2 * cleanedRulesCount + 64)
+                cleanStyleRules();
+            styleRules.put(fxStyle, styleRule = createStyleRule(fxStyle));
+        }
+        if (styleRule.cssClass != null) {
+            List<WeakRef<HtmlSvgNodePeer>> peers = styleRule.peers;
+            // Also periodically removing the peers that have been collected or that use now another style
+            if (peers.size() >= 2 * styleRule.cleanedPeersCount + 64) {
+                cleanRulePeers(styleRule);
+                styleRule.cleanedPeersCount = peers.size();
+            }
+            peers.add(new WeakRef<>(peer));
+        }
+        return styleRule.cssClass;
+    }
+
+    /**
+     * Returns true if the JavaFx inline style (previously passed to toCssClass()) changes the measured size of the
+     * nodes, which then need to be measured again when it is applied or removed.
+     */
+    public static boolean affectsLayout(String fxStyle) {
+        StyleRule styleRule = fxStyle == null ? null : styleRules.get(fxStyle);
+        return styleRule != null && styleRule.affectsLayout;
+    }
+
+    private static StyleRule createStyleRule(String fxStyle) {
+        StringBuilder sb = new StringBuilder(), textSb = new StringBuilder();
+        for (String declaration : fxStyle.split(";")) {
+            int colonIndex = declaration.indexOf(':');
+            if (colonIndex > 0) {
+                String fxProperty = declaration.substring(0, colonIndex).trim().toLowerCase();
+                String fxValue = declaration.substring(colonIndex + 1).trim();
+                if (!fxValue.isEmpty())
+                    appendCssDeclaration(fxProperty, fxValue, sb, textSb);
+            }
+        }
+        if (sb.length() == 0)
+            return new StyleRule(null);
+        // The browser displays no border until a style is set (JavaFx borders are solid by default)
+        if ((sb.indexOf("border-color") >= 0 || sb.indexOf("border-width") >= 0) && sb.indexOf("border-style") < 0)
+            sb.append("border-style: solid !important; ");
+        StyleRule styleRule = new StyleRule("fx-style-" + ++classSeq);
+        styleRule.affectsLayout = sb.indexOf("font-") >= 0 || sb.indexOf("padding") >= 0 || sb.indexOf("border-width") >= 0 || sb.indexOf("border-style") >= 0;
+        String selector = "." + styleRule.cssClass;
+        insertRule(styleRule, selector + " {" + sb + "}");
+        if (textSb.length() > 0)
+            insertRule(styleRule, selector + " > .text, " + selector + " + ." + SKIN_CHILDREN_CSS_CLASS + " > .text {" + textSb + "}");
+        return styleRule;
+    }
+
+    private static void insertRule(StyleRule styleRule, String rule) {
+        CSSStyleSheet sheet = getStyleSheet();
+        int index = sheet.insertRule(rule, sheet.cssRules.length);
+        styleRule.cssRules.add(sheet.cssRules.item(index));
+    }
+
+    private static void cleanStyleRules() {
+        for (Map.Entry<String, StyleRule> entry : new ArrayList<>(styleRules.entrySet())) {
+            StyleRule styleRule = entry.getValue();
+            cleanRulePeers(styleRule);
+            if (styleRule.peers.isEmpty()) {
+                styleRules.remove(entry.getKey());
+                deleteRules(styleRule);
+            } else
+                styleRule.cleanedPeersCount = styleRule.peers.size();
+        }
+        cleanedRulesCount = styleRules.size();
+    }
+
+    private static void cleanRulePeers(StyleRule styleRule) {
+        List<WeakRef<HtmlSvgNodePeer>> peers = styleRule.peers;
+        Set<HtmlSvgNodePeer> keptPeers = new HashSet<>();
+        for (int i = peers.size() - 1; i >= 0; i--) {
+            HtmlSvgNodePeer peer = peers.get(i).get();
+            // Also removing the duplicates (a peer is registered each time its style changes)
+            if (peer == null || !Objects.equals(peer.getStyleCssClass(), styleRule.cssClass) || !keptPeers.add(peer))
+                peers.remove(i);
+        }
+    }
+
+    private static void deleteRules(StyleRule styleRule) {
+        // The indexes of the rules change as rules are deleted, so looking for their current index
+        CSSStyleSheet sheet = getStyleSheet();
+        for (CSSRule cssRule : styleRule.cssRules)
+            for (int i = sheet.cssRules.length - 1; i >= 0; i--)
+                if (sheet.cssRules.item(i) == cssRule) {
+                    sheet.deleteRule(i);
+                    break;
+                }
+    }
+
+    private static void appendCssDeclaration(String fxProperty, String fxValue, StringBuilder sb, StringBuilder textSb) {
+        String cssProperty = null, cssValue = fxValue;
+        switch (fxProperty) {
+            case "-fx-background-color":
+                cssProperty = "background";
+                // css accepts a color only in the final layer, so keeping just the top layer (the last one in JavaFx)
+                cssValue = lastTopLevelValue(fxValue);
+                break;
+            case "-fx-text-fill":        cssProperty = "color"; break;
+            case "-fx-font-family":      cssProperty = "font-family"; break;
+            case "-fx-font-size":        cssProperty = "font-size";     cssValue = toCssLengths(fxValue); break;
+            case "-fx-font-weight":      cssProperty = "font-weight"; break;
+            case "-fx-font-style":       cssProperty = "font-style"; break;
+            case "-fx-padding":          cssProperty = "padding";       cssValue = toCssLengths(fxValue); break;
+            case "-fx-background-radius":
+            case "-fx-border-radius":    cssProperty = "border-radius"; cssValue = toCssLengths(fxValue); break;
+            case "-fx-border-color":     cssProperty = "border-color"; break;
+            case "-fx-border-width":     cssProperty = "border-width";  cssValue = toCssLengths(fxValue); break;
+            case "-fx-border-style":     cssProperty = "border-style"; break;
+            case "-fx-opacity":          cssProperty = "opacity"; break;
+            case "-fx-cursor":           cssProperty = "cursor"; break;
+            case "-fx-fill":             cssProperty = "fill"; break;
+            case "-fx-stroke":           cssProperty = "stroke"; break;
+            case "-fx-stroke-width":     cssProperty = "stroke-width"; break;
+        }
+        if (cssProperty != null) {
+            String cssDeclaration = cssProperty + ": " + cssValue + " !important; ";
+            sb.append(cssDeclaration);
+            if (cssProperty.equals("color") || cssProperty.startsWith("font-"))
+                textSb.append(cssDeclaration);
+        }
+    }
+
+    private static String lastTopLevelValue(String fxValue) {
+        int depth = 0;
+        for (int i = fxValue.length() - 1; i >= 0; i--) {
+            char c = fxValue.charAt(i);
+            if (c == ')')
+                depth++;
+            else if (c == '(')
+                depth--;
+            else if (c == ',' && depth == 0)
+                return fxValue.substring(i + 1).trim();
+        }
+        return fxValue;
+    }
+
+    // JavaFx lengths are in pixels when they have no unit, while css requires the unit (except for 0)
+    private static String toCssLengths(String fxValue) {
+        StringBuilder sb = new StringBuilder();
+        for (String token : fxValue.trim().split("\\s+")) {
+            if (sb.length() > 0)
+                sb.append(' ');
+            sb.append(token);
+            if (isNumber(token))
+                sb.append("px");
+        }
+        return sb.toString();
+    }
+
+    private static boolean isNumber(String token) {
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if ((c < '0' || c > '9') && c != '.' && c != '-')
+                return false;
+        }
+        return !token.isEmpty();
+    }
+
+    private static CSSStyleSheet getStyleSheet() {
+        if (styleSheet == null) {
+            HTMLStyleElement styleElement = (HTMLStyleElement) document.createElement("style");
+            document.head.appendChild(styleElement);
+            styleSheet = (CSSStyleSheet) styleElement.sheet;
+        }
+        return styleSheet;
+    }
+}
@@ -0,0 +1,242 @@
+package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util;
+
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.shared.SvgRoot;
+import elemental2.dom.Element;
+import javafx.scene.effect.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Translates the effects (including their input chain) into svg filters. The filter of an effect is created only once
+ * per svg root and revision of the effect, so it is reused by all the nodes of that root until the effect is modified.
+ *
+ * @author Bruno Salmon
+ */
+public final class SvgFilters {
+
+    private static final String SOURCE_GRAPHIC = "SourceGraphic";
+
+    public static String toFilterUrl(Effect effect, SvgRoot svgRoot) {
+        if (effect == null)
+            return null;
+        // The svg root replaces the filter of a previous revision of the effect (so an animated effect doesn't add a
+        // new filter on each frame)
+        return SvgUtil.getDefUrl(svgRoot.getOrAddRevisedDef(effect, effect.impl_getRevision(), () -> createFilter(effect)));
+    }
+
+    private static Element createFilter(Effect effect) {
+        List<Element> filterPrimitives = new ArrayList<>();
+        if (addFilterPrimitives(effect, filterPrimitives) == null || filterPrimitives.isEmpty())
+            return null;
+        Element filter = SvgUtil.createFilter();
+        // Doubling the filter region, otherwise the effect (ex: drop shadow) might be cropped by the filter region
+        filter.setAttribute("width", "200%");
+        filter.setAttribute("height", "200%");
+        filterPrimitives.forEach(filter::appendChild);
+        return filter;
+    }
+
+    // Adds the primitives rendering the effect (after those of its input) and returns the name of the last result, or
+    // the source graphic if there is no effect. Returns null if the effect (or one of its inputs) is not supported.
+    private static String addFilterPrimitives(Effect effect, List<Element> filterPrimitives) {
+        if (effect == null)
+            return SOURCE_GRAPHIC;
+        if (effect instanceof GaussianBlur)
+            return addGaussianBlur(SOURCE_GRAPHIC, ((GaussianBlur) effect).getSigma(), filterPrimitives);
+        if (effect instanceof BoxBlur) // Is it supported by SVG? For now doing a gaussian blur instead
+            return addGaussianBlur(SOURCE_GRAPHIC, GaussianBlur.getSigma(((BoxBlur) effect).getWidth()), filterPrimitives);
+        if (effect instanceof DropShadow) {
+            DropShadow dropShadow = (DropShadow) effect;
+            String in = addFilterPrimitives(dropShadow.getInput(), filterPrimitives);
+            if (in == null)
+                return null;
+            Element fe = createPrimitive("feDropShadow", in);
+            fe.setAttribute("dx", dropShadow.getOffsetX());
+            fe.setAttribute("dy", dropShadow.getOffsetY());
+            fe.setAttribute("stdDeviation", dropShadow.getRadius() / 2);
+            fe.setAttribute("flood-color", HtmlPaints.toSvgCssPaint(dropShadow.getColor()));
+            return addPrimitive(fe, filterPrimitives);
+        }
+        if (effect instanceof InnerShadow) {
+            InnerShadow innerShadow = (InnerShadow) effect;
+            String in = addFilterPrimitives(innerShadow.getInput(), filterPrimitives);
+            if (in == null)
+                return null;
+
+            Element feBlur = createPrimitive("feGaussianBlur", "SourceAlpha");
+            feBlur.setAttribute("stdDeviation", innerShadow.getRadius() / 2);
+            String blurResult = addPrimitive(feBlur, filterPrimitives);
+
+            Element feOffset = createPrimitive("feOffset", blurResult);
+            feOffset.setAttribute("dx", innerShadow.getOffsetX());
+            feOffset.setAttribute("dy", innerShadow.getOffsetY());
+            String offsetResult = addPrimitive(feOffset, filterPrimitives);
+
+            Element feShadowDiff = createPrimitive("feComposite", offsetResult);
+            feShadowDiff.setAttribute("in2", "SourceAlpha");
+            feShadowDiff.setAttribute("operator", "arithmetic");
+            feShadowDiff.setAttribute("k2", "-1");
+            feShadowDiff.setAttribute("k3", "1");
+            String shadowDiffResult = addPrimitive(feShadowDiff, filterPrimitives);
+
+            Element feFlood = SvgUtil.createSvgElement("feFlood");
+            feFlood.setAttribute("flood-color", HtmlPaints.toSvgCssPaint(innerShadow.getColor()));
+            String floodResult = addPrimitive(feFlood, filterPrimitives);
+
+            Element feIn = createPrimitive("feComposite", floodResult);
+            feIn.setAttribute("in2", shadowDiffResult);
+            feIn.setAttribute("operator", "in");
+            String shadowResult = addPrimitive(feIn, filterPrimitives);
+
+            Element feOver = createPrimitive("feComposite", shadowResult);
+            feOver.setAttribute("in2", in);
+            feOver.setAttribute("operator", "over");
+            return addPrimitive(feOver, filterPrimitives);
+        }
+        if (effect instanceof ColorAdjust) {
+            ColorAdjust colorAdjust = (ColorAdjust) effect;
+            String in = addFilterPrimitives(colorAdjust.getInput(), filterPrimitives);
+            if (in == null)
+                return null;
+            // Same order as the css filter functions: hue-rotate, saturate, brightness and contrast
+            if (colorAdjust.getHue() != 0)
+                in = addColorMatrix(in, "hueRotate", String.valueOf(colorAdjust.getHue() * 180), filterPrimitives);
+            if (colorAdjust.getSaturation() != 0)
+                in = addColorMatrix(in, "saturate", String.valueOf(1 + colorAdjust.getSaturation()), filterPrimitives);
+            if (colorAdjust.getBrightness() != 0 || colorAdjust.getContrast() != 0) {
+                double brightness = 1 + colorAdjust.getBrightness(), contrast = 1 + colorAdjust.getContrast();
+                in = addLinearTransfer(in, brightness * contrast, (1 - contrast) / 2, filterPrimitives);
+            }
+            return in;
+        }
+        if (effect instanceof SepiaTone) {
+            SepiaTone sepiaTone = (SepiaTone) effect;
+            String in = addFilterPrimitives(sepiaTone.getInput(), filterPrimitives);
+            if (in == null)
+                return null;
+            // Sepia matrix of the css filter specification (interpolated with the identity matrix from the level)
+            double a = 1 - Math.max(0, Math.min(1, sepiaTone.getLevel()));
+            return addColorMatrix(in, "matrix",
+                    (0.393 + 0.607 * a) + " " + (0.769 - 0.769 * a) + " " + (0.189 - 0.189 * a) + " 0 0 " +
+                    (0.349 - 0.349 * a) + " " + (0.686 + 0.314 * a) + " " + (0.168 - 0.168 * a) + " 0 0 " +
+                    (0.272 - 0.272 * a) + " " + (0.534 - 0.534 * a) + " " + (0.131 + 0.869 * a) + " 0 0 " +
+                    "0 0 0 1 0", filterPrimitives);
+        }
+        if (effect instanceof Glow) {
+            Glow glow = (Glow) effect;
+            String in = addFilterPrimitives(glow.getInput(), filterPrimitives);
+            if (in == null)
+                return null;
+            // The glow is the input added to its blurred copy scaled by the level
+            String blurResult = addGaussianBlur(in, GaussianBlur.getSigma(10), filterPrimitives);
+            return addArithmeticSum(in, blurResult, glow.getLevel(), filterPrimitives);
+        }
+        if (effect instanceof Bloom) {
+            Bloom bloom = (Bloom) effect;
+            String in = addFilterPrimitives(bloom.getInput(), filterPrimitives);
+            if (in == null)
+                return null;
+            // Keeping only the portions brighter than the threshold, then adding them blurred to the input
+            double threshold = Math.max(0, Math.min(0.99, bloom.getThreshold()));
+            String brightResult = addLinearTransfer(in, 1 / (1 - threshold), -threshold / (1 - threshold), filterPrimitives);
+            String blurResult = addGaussianBlur(brightResult, GaussianBlur.getSigma(10), filterPrimitives);
+            return addArithmeticSum(in, blurResult, 1, filterPrimitives);
+        }
+        if (effect instanceof MotionBlur) {
+            MotionBlur motionBlur = (MotionBlur) effect;
+            String in = addFilterPrimitives(motionBlur.getInput(), filterPrimitives);
+            if (in == null)
+                return null;
+            double sigma = GaussianBlur.getSigma(motionBlur.getRadius());
+            double angle = Math.toRadians(motionBlur.getAngle());
+            Element fe = createPrimitive("feGaussianBlur", in);
+            fe.setAttribute("stdDeviation", Math.abs(sigma * Math.cos(angle)) + " " + Math.abs(sigma * Math.sin(angle)));
+            return addPrimitive(fe, filterPrimitives);
+        }
+        if (effect instanceof Blend) {
+            Blend blend = (Blend) effect;
+            String bottom = addFilterPrimitives(blend.getBottomInput(), filterPrimitives);
+            String top = bottom == null ? null : addFilterPrimitives(blend.getTopInput(), filterPrimitives);
+            if (top == null)
+                return null;
+            if (blend.getOpacity() < 1) {
+                Element feTransfer = createPrimitive("feComponentTransfer", top);
+                Element feFuncA = SvgUtil.createSvgElement("feFuncA");
+                feFuncA.setAttribute("type", "linear");
+                feFuncA.setAttribute("slope", Math.max(0, blend.getOpacity()));
+                top = addPrimitive(HtmlUtil.setChild(feTransfer, feFuncA), filterPrimitives);
+            }
+            Element fe = createPrimitive("feBlend", top);
+            fe.setAttribute("in2", bottom);
+            fe.setAttribute("mode", toSvgBlendMode(blend.getMode()));
+            return addPrimitive(fe, filterPrimitives);
+        }
+        return null;
+    }
+
+    private static Element createPrimitive(String tag, String in) {
+        return HtmlUtil.setAttribute(SvgUtil.createSvgElement(tag), "in", in);
+    }
+
+    private static String addPrimitive(Element fe, List<Element> filterPrimitives) {
+        String result = SvgUtil.generateNewFilterId();
+        fe.setAttribute("result", result);
+        filterPrimitives.add(fe);
+        return result;
+    }
+
+    private static String addGaussianBlur(String in, double sigma, List<Element> filterPrimitives) {
+        Element fe = createPrimitive("feGaussianBlur", in);
+        fe.setAttribute("stdDeviation", sigma);
+        return addPrimitive(fe, filterPrimitives);
+    }
+
+    private static String addColorMatrix(String in, String type, String values, List<Element> filterPrimitives) {
+        Element fe = createPrimitive("feColorMatrix", in);
+        fe.setAttribute("type", type);
+        fe.setAttribute("values", values);
+        return addPrimitive(fe, filterPrimitives);
+    }
+
+    private static String addLinearTransfer(String in, double slope, double intercept, List<Element> filterPrimitives) {
+        Element fe = createPrimitive("feComponentTransfer", in);
+        for (String func : new String[]{"feFuncR", "feFuncG", "feFuncB"}) {
+            Element feFunc = SvgUtil.createSvgElement(func);
+            feFunc.setAttribute("type", "linear");
+            feFunc.setAttribute("slope", slope);
+            feFunc.setAttribute("intercept", intercept);
+            fe.appendChild(feFunc);
+        }
+        return addPrimitive(fe, filterPrimitives);
+    }
+
+    private static String addArithmeticSum(String in, String in2, double k3, List<Element> filterPrimitives) {
+        Element fe = createPrimitive("feComposite", in);
+        fe.setAttribute("in2", in2);
+        fe.setAttribute("operator", "arithmetic");
+        fe.setAttribute("k2", 1);
+        fe.setAttribute("k3", k3);
+        return addPrimitive(fe, filterPrimitives);
+    }
+
+    private static String toSvgBlendMode(BlendMode blendMode) {
+        // feBlend accepts the same mode names as mix-blend-mode, SRC_OVER (and the unsupported ones) being normal
+        if (blendMode != null)
+            switch (blendMode) {
+                case MULTIPLY:
+                case SCREEN:
+                case OVERLAY:
+                case DARKEN:
+                case LIGHTEN:
+                case COLOR_DODGE:
+                case COLOR_BURN:
+                case HARD_LIGHT:
+                case SOFT_LIGHT:
+                case DIFFERENCE:
+                case EXCLUSION:
+                    return blendMode.name().toLowerCase().replace('_', '-');
+            }
+        return "normal";
+    }
+}
@@ -1,5 +1,6 @@
 package dev.webfx.kit.mapper.peers.javafxgraphics.gwt.util;
 
+import com.sun.javafx.collections.DoubleArrayObservableList;
 import elemental2.dom.Element;
 import javafx.scene.paint.*;
 import javafx.scene.shape.StrokeLineCap;
@@ -7,6 +8,8 @@ import javafx.scene.shape.StrokeLineJoin;
 import javafx.scene.shape.StrokeType;
 import dev.webfx.platform.shared.util.collection.Collections;
 
+import java.util.List;
+
 import static elemental2.dom.DomGlobal.document;
 
 /**
@@ -40,6 +43,18 @@ public final class SvgUtil {
         return createSvgElement("path");
     }
 
+    public static Element createSvgEllipse() {
+        return createSvgElement("ellipse");
+    }
+
+    public static Element createSvgPolygon() {
+        return createSvgElement("polygon");
+    }
+
+    public static Element createSvgPolyline() {
+        return createSvgElement("polyline");
+    }
+
     public static Element createSvgText() {
         return createSvgElement("text");
     }
@@ -67,6 +82,25 @@ public final class SvgUtil {
         return HtmlUtil.setAttribute(createSvgElement("radialGradient"), "id", "RG" + ++rgSeq);
     }
 
+    private static int ipSeq;
+    public static Element createImagePattern(ImagePattern ip) {
+        Element svgPattern = HtmlUtil.setAttribute(createSvgElement("pattern"), "id", "IP" + ++ipSeq);
+        // The anchor rectangle and the image are both expressed in the same units (the image fills the anchor rectangle)
+        String units = ip.isProportional() ? "objectBoundingBox" : "userSpaceOnUse";
+        svgPattern.setAttribute("patternUnits", units);
+        svgPattern.setAttribute("patternContentUnits", units);
+        svgPattern.setAttribute("x", ip.getX());
+        svgPattern.setAttribute("y", ip.getY());
+        svgPattern.setAttribute("width", ip.getWidth());
+        svgPattern.setAttribute("height", ip.getHeight());
+        Element svgImage = createSvgElement("image");
+        svgImage.setAttribute("href", ip.getImage().getUrl());
+        svgImage.setAttribute("width", ip.getWidth());
+        svgImage.setAttribute("height", ip.getHeight());
+        svgImage.setAttribute("preserveAspectRatio", "none");
+        return HtmlUtil.setChild(svgPattern, svgImage);
+    }
+
     public static Element createFilter() {
         return HtmlUtil.setAttribute(createSvgElement("filter"), "id", generateNewFilterId());
     }
@@ -140,4 +174,22 @@ public final class SvgUtil {
             }
         return null;
     }
+
+    /**
+     * Returns the value of the points attribute of a svg polygon or polyline, from a flat list of x,y coordinates.
+     */
+    public static String toSvgPoints(List<Double> points) {
+        int n = points.size() & ~1; // ignoring a possible odd last coordinate (as JavaFx does)
+        StringBuilder sb = new StringBuilder(n * 8);
+        // Reading the points from the double array when possible, to avoid boxing each coordinate
+        DoubleArrayObservableList doubles = points instanceof DoubleArrayObservableList ? (DoubleArrayObservableList) points : null;
+        for (int i = 0; i < n; i += 2) {
+            double x = doubles != null ? doubles.getDouble(i) : points.get(i);
+            double y = doubles != null ? doubles.getDouble(i + 1) : points.get(i + 1);
+            if (i > 0)
+                sb.append(' ');
+            sb.append(x).append(',').append(y);
+        }
+        return sb.toString();
+    }
 }
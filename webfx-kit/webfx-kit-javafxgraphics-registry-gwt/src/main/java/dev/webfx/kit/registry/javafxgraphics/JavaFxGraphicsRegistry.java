@@ -4,8 +4,10 @@ import javafx.scene.canvas.Canvas;
 import javafx.scene.image.ImageView;
 import javafx.scene.shape.*;
 import javafx.scene.text.Text;
+import javafx.scene.text.TextFlow;
 import dev.webfx.kit.mapper.peers.javafxgraphics.NodePeerFactoryRegistry;
 import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.html.*;
+import dev.webfx.kit.mapper.peers.javafxgraphics.gwt.svg.*;
 
 import static dev.webfx.kit.mapper.peers.javafxgraphics.NodePeerFactoryRegistry.registerNodePeerFactory;
 
@@ -37,10 +39,34 @@ public class JavaFxGraphicsRegistry {
         registerNodePeerFactory(Line.class, HtmlLinePeer::new);
     }
 
+    public static void registerEllipse() {
+        registerNodePeerFactory(Ellipse.class, () -> new HtmlSvgShapePeer<>(new SvgEllipsePeer<>(), "fx-ellipse"));
+    }
+
+    public static void registerPolygon() {
+        registerNodePeerFactory(Polygon.class, () -> new HtmlSvgShapePeer<>(new SvgPolygonPeer<>(), "fx-polygon"));
+    }
+
+    public static void registerPolyline() {
+        registerNodePeerFactory(Polyline.class, () -> new HtmlSvgShapePeer<>(new SvgPolylinePeer<>(), "fx-polyline"));
+    }
+
+    public static void registerQuadCurve() {
+        registerNodePeerFactory(QuadCurve.class, () -> new HtmlSvgShapePeer<>(new SvgQuadCurvePeer<>(), "fx-quadcurve"));
+    }
+
+    public static void registerCubicCurve() {
+        registerNodePeerFactory(CubicCurve.class, () -> new HtmlSvgShapePeer<>(new SvgCubicCurvePeer<>(), "fx-cubiccurve"));
+    }
+
     public static void registerText() {
         registerNodePeerFactory(Text.class, HtmlTextPeer::new);
     }
 
+    public static void registerTextFlow() {
+        registerNodePeerFactory(TextFlow.class, HtmlTextFlowPeer::new);
+    }
+
     public static void registerImageView() {
         registerNodePeerFactory(ImageView.class, HtmlImageViewPeer::new);
     }
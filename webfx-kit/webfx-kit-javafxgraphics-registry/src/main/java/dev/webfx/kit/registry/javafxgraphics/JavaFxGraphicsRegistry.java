@@ -12,8 +12,20 @@ public class JavaFxGraphicsRegistry {
 
     public static native void registerLine();
 
+    public static native void registerEllipse();
+
+    public static native void registerPolygon();
+
+    public static native void registerPolyline();
+
+    public static native void registerQuadCurve();
+
+    public static native void registerCubicCurve();
+
     public static native void registerText();
 
+    public static native void registerTextFlow();
+
     public static native void registerImageView();
 
     public static native void registerCanvas();
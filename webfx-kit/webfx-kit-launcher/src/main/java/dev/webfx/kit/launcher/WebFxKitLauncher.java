@@ -1,6 +1,7 @@
 package dev.webfx.kit.launcher;
 
 import javafx.application.Application;
+import javafx.scene.text.Font;
 import javafx.stage.Stage;
 import dev.webfx.kit.launcher.spi.WebFxKitLauncherProvider;
 import dev.webfx.platform.shared.services.log.Logger;
@@ -8,6 +9,7 @@ import dev.webfx.platform.shared.util.function.Factory;
 import dev.webfx.platform.shared.util.serviceloader.SingleServiceProvider;
 
 import java.util.ServiceLoader;
+import java.util.function.Consumer;
 
 /**
  * @author Bruno Salmon
@@ -56,4 +58,16 @@ public final class WebFxKitLauncher {
     public static boolean supportsWebP() {
         return getProvider().supportsWebP();
     }
+
+    public static void loadFont(String url, String family, Runnable onCompleted) {
+        getProvider().loadFont(url, family, onCompleted);
+    }
+
+    public static double measureTextWidth(String text, Font font) {
+        return getProvider().measureTextWidth(text, font);
+    }
+
+    public static void addVisibilityListener(Consumer<Boolean> visibilityListener) {
+        getProvider().addVisibilityListener(visibilityListener);
+    }
 }
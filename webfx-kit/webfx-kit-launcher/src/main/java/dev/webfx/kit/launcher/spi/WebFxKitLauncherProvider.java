@@ -5,11 +5,14 @@ import javafx.application.HostServices;
 import javafx.scene.Scene;
 import javafx.scene.input.Clipboard;
 import javafx.scene.input.Dragboard;
+import javafx.scene.text.Font;
 import javafx.stage.Screen;
 import javafx.stage.Stage;
 import dev.webfx.platform.client.services.uischeduler.UiScheduler;
 import dev.webfx.platform.shared.util.function.Factory;
 
+import java.util.function.Consumer;
+
 /**
  * @author Bruno Salmon
  */
@@ -52,4 +55,30 @@ public interface WebFxKitLauncherProvider {
     }
 
     default boolean supportsWebP() { return false; }
+
+    /**
+     * Loads the font file at the specified url and makes it available under the specified family name. The onCompleted
+     * runnable is called in the UI thread once the font is loaded or has failed to load. The default implementation
+     * doesn't load anything and calls onCompleted immediately.
+     */
+    default void loadFont(String url, String family, Runnable onCompleted) {
+        onCompleted.run();
+    }
+
+    /**
+     * Returns the width of the text rendered on a single line with the font, measured without any layout (ex: through a
+     * canvas), or -1 if not supported, in which case the callers measure the text through a Text node. The default
+     * implementation returns -1.
+     */
+    default double measureTextWidth(String text, Font font) {
+        return -1;
+    }
+
+    /**
+     * Registers a listener called (in the UI thread) each time the application page becomes hidden (ex: browser tab
+     * in background or minimized window) or visible again, with the new visibility as argument. The default
+     * implementation never calls the listener (the application is considered always visible).
+     */
+    default void addVisibilityListener(Consumer<Boolean> visibilityListener) {
+    }
 }
@@ -0,0 +1,98 @@
+package dev.webfx.kit.util.properties;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.beans.value.ObservableValueBase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * An observable value computed from some source observable values. It listens to its sources only while it is
+ * observed itself (so it doesn't leave permanent listeners on them) and computes its value only when asked, the
+ * value being cached while observed.
+ */
+final class LazyComputedValue<R> extends ObservableValueBase<R> {
+
+    private final Supplier<R> computer;
+    private final ObservableValue[] sources;
+    private final InvalidationListener sourcesListener = observable -> invalidate();
+    // The listeners added so far (and not removed), to know if this value is observed. Removing a listener that was
+    // not added is ignored (as by the listeners helper), so it doesn't stop observing the sources.
+    private final List<Object> observers = new ArrayList<>();
+    private boolean valid;
+    private R value;
+
+    LazyComputedValue(Supplier<R> computer, ObservableValue... sources) {
+        this.computer = computer;
+        this.sources = sources;
+    }
+
+    @Override
+    public R getValue() {
+        if (valid)
+            return value;
+        R computed = computer.get();
+        if (!observers.isEmpty()) { // Caching the value only when observed (otherwise we are not notified of changes)
+            value = computed;
+            valid = true;
+        }
+        return computed;
+    }
+
+    private void invalidate() {
+        if (valid) {
+            valid = false;
+            value = null;
+            fireValueChangedEvent();
+        }
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        onObserverAdded(listener);
+        super.addListener(listener);
+    }
+
+    @Override
+    public void addListener(ChangeListener<? super R> listener) {
+        onObserverAdded(listener);
+        super.addListener(listener);
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        super.removeListener(listener);
+        onObserverRemoved(listener);
+    }
+
+    @Override
+    public void removeListener(ChangeListener<? super R> listener) {
+        super.removeListener(listener);
+        onObserverRemoved(listener);
+    }
+
+    private void onObserverAdded(Object listener) {
+        if (listener == null)
+            return; // super.addListener() will throw a NullPointerException
+        observers.add(listener);
+        if (observers.size() == 1) { // First observer => starting observing the sources
+            for (ObservableValue source : sources)
+                if (source != null)
+                    source.addListener(sourcesListener);
+            getValue(); // Making this value valid so the next sources changes are notified
+        }
+    }
+
+    private void onObserverRemoved(Object listener) {
+        if (observers.remove(listener) && observers.isEmpty()) { // Last observer removed => stopping observing the sources
+            for (ObservableValue source : sources)
+                if (source != null)
+                    source.removeListener(sourcesListener);
+            valid = false;
+            value = null;
+        }
+    }
+}
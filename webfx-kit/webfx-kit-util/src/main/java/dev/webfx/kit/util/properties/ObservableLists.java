@@ -7,6 +7,8 @@ import dev.webfx.platform.shared.util.Objects;
 import dev.webfx.platform.shared.util.collection.Collections;
 import dev.webfx.platform.shared.util.function.Converter;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 
 /**
@@ -43,12 +45,91 @@ public final class ObservableLists {
         setAllNonNulls(bList, Collections.map(aList, aToBConverter));
     }
 
+    /**
+     * Applies a change of a source list to a target list holding the converted elements of that source list (same
+     * size and order) with the minimal operations: only the added (or updated) elements are converted, removals and
+     * permutations are applied without any conversion, and on replacements the converted elements of the removed
+     * elements are reused (by identity) for the same elements added back. If the target list doesn't mirror the source
+     * list before the change, it is entirely reset with setAllConverted() instead. In both cases the null converted
+     * elements are kept in the target list (as opposed to setAllNonNullsConverted()), as the target list must stay
+     * aligned by index with the source list.
+     */
+    public static <A, B> void applyConvertedChange(ListChangeListener.Change<? extends A> change, Converter<A, B> aToBConverter, ObservableList<B> bList) {
+        List<? extends A> aList = change.getList();
+        int bSizeBeforeChange = aList.size();
+        change.reset();
+        while (change.next())
+            bSizeBeforeChange += change.getRemovedSize() - change.getAddedSize();
+        change.reset();
+        if (bList.size() != bSizeBeforeChange) {
+            setAllConverted((List<A>) aList, aToBConverter, bList);
+            return;
+        }
+        while (change.next()) {
+            int from = change.getFrom(), to = change.getTo();
+            if (change.wasPermutated()) {
+                List<B> permuted = new ArrayList<>(bList.subList(from, to));
+                for (int i = from; i < to; i++)
+                    permuted.set(change.getPermutation(i) - from, bList.get(i));
+                setRange(bList, from, permuted);
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < to; i++)
+                    bList.set(i, aToBConverter.convert(aList.get(i)));
+            } else {
+                int removedSize = change.getRemovedSize(), addedSize = change.getAddedSize();
+                IdentityHashMap<A, B> reusable = null;
+                if (removedSize > 0 && addedSize > 0) {
+                    reusable = new IdentityHashMap<>();
+                    List<? extends A> removed = change.getRemoved();
+                    for (int i = 0; i < removedSize; i++)
+                        reusable.put(removed.get(i), bList.get(from + i));
+                }
+                List<B> added = new ArrayList<>(addedSize);
+                for (int i = from; i < to; i++) {
+                    A a = aList.get(i);
+                    // Each converted element is reused only once (a node for example can't appear twice in a list)
+                    B b = reusable != null && reusable.containsKey(a) ? reusable.remove(a) : aToBConverter.convert(a);
+                    added.add(b);
+                }
+                if (from == 0 && removedSize == bList.size())
+                    bList.setAll(added);
+                else if (removedSize == addedSize)
+                    setRange(bList, from, added);
+                else {
+                    if (removedSize > 0)
+                        bList.remove(from, from + removedSize);
+                    if (addedSize > 0)
+                        bList.addAll(from, added);
+                }
+            }
+        }
+    }
+
+    // Replaces the range with bulk operations only, as setting the elements one by one would temporarily make an
+    // element moved within the range appear twice in the list (not allowed for example for the children of a parent)
+    private static <T> void setRange(ObservableList<T> list, int from, List<T> elements) {
+        int n = elements.size(), i = 0;
+        while (i < n && list.get(from + i) == elements.get(i))
+            i++;
+        if (i == n) // Nothing changed in that range
+            return;
+        if (from == 0 && n == list.size())
+            list.setAll(elements);
+        else if (n == 1)
+            list.set(from, elements.get(0));
+        else {
+            list.remove(from, from + n);
+            list.addAll(from, elements);
+        }
+    }
+
     public static <T> void bind(ObservableList<T> list1, ObservableList<T> list2) {
         runNowAndOnListChange(c -> list1.setAll(list2), list2);
     }
 
     public static <A, B> void bindConverted(ObservableList<A> aList, ObservableList<B> bList, Converter<B, A> bToAConverter) {
-        runNowAndOnListChange(c -> setAllConverted(bList, bToAConverter, aList), bList);
+        setAllConverted(bList, bToAConverter, aList);
+        runOnListChange(c -> applyConvertedChange(c, bToAConverter, aList), bList);
     }
 
     public static <T> void runNowAndOnListChange(ListChangeListener<T> listener, ObservableList<T> list) {
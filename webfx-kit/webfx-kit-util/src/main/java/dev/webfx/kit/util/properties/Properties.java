@@ -55,16 +55,15 @@ public final class Properties {
     }
 
 
+    // compute() and combine() return lazy values: they listen to their source properties only while they are
+    // observed themselves, and compute their value only when asked.
+
     public static <T, R> ObservableValue<R> compute(ObservableValue<? extends T> p, Function<? super T, ? extends R> function) {
-        Property<R> combinedProperty = new SimpleObjectProperty<>();
-        runNowAndOnPropertiesChange(arg -> combinedProperty.setValue(function.apply(p.getValue())), p);
-        return combinedProperty;
+        return new LazyComputedValue<>(() -> function.apply(p.getValue()), p);
     }
 
     public static <T1, T2, R> ObservableValue<R> combine(ObservableValue<? extends T1> p1, ObservableValue<? extends T2> p2, BiFunction<? super T1, ? super T2, ? extends R> combineFunction) {
-        Property<R> combinedProperty = new SimpleObjectProperty<>();
-        runNowAndOnPropertiesChange(arg -> combinedProperty.setValue(combineFunction.apply(p1.getValue(), p2.getValue())), p1, p2);
-        return combinedProperty;
+        return new LazyComputedValue<>(() -> combineFunction.apply(p1.getValue(), p2.getValue()), p1, p2);
     }
 
     public static <T> ObservableValue<T> filter(ObservableValue<T> property, Predicate<T> predicate) {
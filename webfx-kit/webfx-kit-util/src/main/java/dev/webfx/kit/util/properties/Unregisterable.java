@@ -1,11 +1,41 @@
 package dev.webfx.kit.util.properties;
 
+import javafx.util.Subscription;
+
 /**
+ * A registration of listeners that can be cancelled (and registered again) without having to keep the listeners.
+ * It is also a Subscription, unsubscribe() being the same as unregister().
+ *
  * @author Bruno Salmon
  */
-public interface Unregisterable {
+public interface Unregisterable extends Subscription {
 
     void register();
 
     void unregister();
+
+    @Override
+    default void unsubscribe() {
+        unregister();
+    }
+
+    /**
+     * Combines this registration with another one, so both can be registered and unregistered with a single call.
+     */
+    default Unregisterable and(Unregisterable other) {
+        Unregisterable self = this;
+        return new Unregisterable() {
+            @Override
+            public void register() {
+                self.register();
+                other.register();
+            }
+
+            @Override
+            public void unregister() {
+                self.unregister();
+                other.unregister();
+            }
+        };
+    }
 }
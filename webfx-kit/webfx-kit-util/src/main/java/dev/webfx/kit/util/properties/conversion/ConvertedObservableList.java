@@ -16,18 +16,19 @@ public final class ConvertedObservableList {
         if (aList == null)
             return null;
         ObservableList<B> bList = FXCollections.observableArrayList();
+        ObservableLists.setAllConverted(aList, aToBConverter, bList);
         Unit<Boolean> syncing = new Unit<>(false);
         aList.addListener((ListChangeListener<A>) c -> {
             if (!syncing.get()) {
                 syncing.set(true);
-                ObservableLists.setAllConverted(aList, aToBConverter, bList);
+                ObservableLists.applyConvertedChange(c, aToBConverter, bList);
                 syncing.set(false);
             }
         });
         bList.addListener((ListChangeListener<B>) c -> {
             if (!syncing.get()) {
                 syncing.set(true);
-                ObservableLists.setAllConverted(bList, bToAConverter, aList);
+                ObservableLists.applyConvertedChange(c, bToAConverter, aList);
                 syncing.set(false);
             }
         });
@@ -1,6 +1,7 @@
 package dev.webfx.kit.util.properties.conversion;
 
 import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import dev.webfx.platform.shared.util.function.Converter;
@@ -20,14 +21,13 @@ public class ConvertedObservableValue<A, B> implements ObservableValue<A> {
 
     @Override
     public void addListener(ChangeListener<? super A> listener) {
-        observableValue.addListener((observable, oldValue, newValue) -> {
-            listener.changed(ConvertedObservableValue.this, bToAConverter.convert(oldValue), bToAConverter.convert(newValue));
-        });
+        observableValue.addListener(new ConvertedChangeListener(listener));
     }
 
     @Override
     public void removeListener(ChangeListener<? super A> listener) {
-        System.out.println("ConvertedProperty.removeListener() not yet implemented");
+        // The wrapper equals the one created in addListener(), so the source removes it
+        observableValue.removeListener(new ConvertedChangeListener(listener));
     }
 
     @Override
@@ -38,13 +38,76 @@ public class ConvertedObservableValue<A, B> implements ObservableValue<A> {
 
     @Override
     public void addListener(InvalidationListener listener) {
-        observableValue.addListener(observable -> {
-            listener.invalidated(ConvertedObservableValue.this);
-        });
+        observableValue.addListener(new ConvertedInvalidationListener(listener));
     }
 
     @Override
     public void removeListener(InvalidationListener listener) {
-        System.out.println("ConvertedProperty.removeListener() not yet implemented");
+        observableValue.removeListener(new ConvertedInvalidationListener(listener));
+    }
+
+    // Listener wrappers forwarding the source events to the listeners of this converted value. They are equal when
+    // they wrap the same listener for the same converted value, which is what makes removeListener() work.
+
+    private final class ConvertedChangeListener implements ChangeListener<B> {
+
+        private final ChangeListener<? super A> listener;
+
+        ConvertedChangeListener(ChangeListener<? super A> listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void changed(ObservableValue<? extends B> observable, B oldValue, B newValue) {
+            listener.changed(ConvertedObservableValue.this, bToAConverter.convert(oldValue), bToAConverter.convert(newValue));
+        }
+
+        private ConvertedObservableValue<A, B> owner() {
+            return ConvertedObservableValue.this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ConvertedObservableValue.ConvertedChangeListener)) return false;
+            ConvertedObservableValue<?, ?>.ConvertedChangeListener that = (ConvertedObservableValue<?, ?>.ConvertedChangeListener) o;
+            return that.owner() == owner() && that.listener.equals(listener);
+        }
+
+        @Override
+        public int hashCode() {
+            return listener.hashCode();
+        }
+    }
+
+    private final class ConvertedInvalidationListener implements InvalidationListener {
+
+        private final InvalidationListener listener;
+
+        ConvertedInvalidationListener(InvalidationListener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void invalidated(Observable observable) {
+            listener.invalidated(ConvertedObservableValue.this);
+        }
+
+        private ConvertedObservableValue<A, B> owner() {
+            return ConvertedObservableValue.this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ConvertedObservableValue.ConvertedInvalidationListener)) return false;
+            ConvertedObservableValue<?, ?>.ConvertedInvalidationListener that = (ConvertedObservableValue<?, ?>.ConvertedInvalidationListener) o;
+            return that.owner() == owner() && that.listener.equals(listener);
+        }
+
+        @Override
+        public int hashCode() {
+            return listener.hashCode();
+        }
     }
 }
@@ -0,0 +1,53 @@
+package dev.webfx.kit.util.properties;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import dev.webfx.platform.shared.util.function.Converter;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Bruno Salmon
+ */
+public class ObservableListsTest {
+
+    // Converting the elements starting with "-" to null
+    private static final Converter<String, String> CONVERTER = s -> s.startsWith("-") ? null : s.toUpperCase();
+
+    @Test
+    public void nullConvertedElementsAreKeptOnBothIncrementalAndFullPaths() {
+        ObservableList<String> source = FXCollections.observableArrayList();
+        ObservableList<String> target = FXCollections.observableArrayList();
+        ObservableLists.bindConverted(target, source, CONVERTER);
+        // Incremental path
+        source.addAll("a", "-b", "c");
+        assertConverted(source, target);
+        source.add(1, "-d");
+        assertConverted(source, target);
+        source.remove("a");
+        assertConverted(source, target);
+        source.setAll("c", "-b", "e", "-d");
+        assertConverted(source, target);
+        FXCollections.sort(source);
+        assertConverted(source, target);
+        // Full path (the target doesn't mirror the source anymore, so it is entirely reset on the next change)
+        target.remove(0);
+        source.add("-f");
+        assertConverted(source, target);
+        // Incremental path again
+        source.add(0, "g");
+        source.remove(2);
+        assertConverted(source, target);
+    }
+
+    private static void assertConverted(List<String> source, List<String> target) {
+        List<String> expected = new ArrayList<>();
+        for (String s : source)
+            expected.add(CONVERTER.convert(s));
+        assertEquals(expected, target);
+    }
+}